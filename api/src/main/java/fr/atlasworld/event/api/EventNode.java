@@ -2,12 +2,33 @@ package fr.atlasworld.event.api;
 
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import fr.atlasworld.event.api.bridge.EventBridge;
+import fr.atlasworld.event.api.channel.IntChannel;
+import fr.atlasworld.event.api.channel.LongChannel;
+import fr.atlasworld.event.api.dispatch.AdmissionBuilder;
+import fr.atlasworld.event.api.dispatch.AdmissionController;
+import fr.atlasworld.event.api.dispatch.DispatchBudget;
+import fr.atlasworld.event.api.dispatch.DispatchResult;
+import fr.atlasworld.event.api.dispatch.SlicedCall;
+import fr.atlasworld.event.api.dispatch.EventDispatchException;
+import fr.atlasworld.event.api.executor.Bulkhead;
+import fr.atlasworld.event.api.executor.BulkheadPolicy;
+import fr.atlasworld.event.api.journal.EventJournal;
 import fr.atlasworld.event.api.listener.EventHandler;
 import fr.atlasworld.event.api.listener.EventListener;
 import fr.atlasworld.event.api.listener.EventListenerBuilder;
+import fr.atlasworld.event.api.listener.IntEventHandler;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+import fr.atlasworld.event.api.listener.LongEventHandler;
+import fr.atlasworld.event.api.query.QueryEvent;
+import fr.atlasworld.event.api.record.EventRecorder;
+import fr.atlasworld.event.api.schedule.EventScheduler;
+import fr.atlasworld.event.api.schedule.ScheduledCall;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -88,6 +109,48 @@ public interface EventNode<E extends Event> {
         return EventFlow.BRIDGE.createEventNode(name, eventType, filter);
     }
 
+    /**
+     * Create a new journal node.
+     * <p>
+     * Every event received by the node is appended to the journal before being passed to its listeners and children,
+     * event calls only complete once the event was committed to disk.
+     * A failed append is reported like a failed listener.
+     *
+     * @param name name of the node.
+     * @param eventType event type.
+     * @param journal journal the events are appended to.
+     *
+     * @return newly created node.
+     */
+    static <E extends Event> EventNode<E> journaled(@NotNull String name, @NotNull Class<E> eventType, @NotNull EventJournal journal) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(eventType);
+        Preconditions.checkNotNull(journal);
+
+        return EventFlow.BRIDGE.createJournalNode(name, eventType, journal);
+    }
+
+    /**
+     * Create a new bridge node.
+     * <p>
+     * Every event received by the node is forwarded to the remote tree of the bridge, before being passed to its listeners and children.
+     * Events received from a bridge are not forwarded again.
+     * A failed forward is reported like a failed listener.
+     *
+     * @param name name of the node.
+     * @param eventType event type.
+     * @param bridge bridge the events are forwarded to.
+     *
+     * @return newly created node.
+     */
+    static <E extends Event> EventNode<E> bridged(@NotNull String name, @NotNull Class<E> eventType, @NotNull EventBridge bridge) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(eventType);
+        Preconditions.checkNotNull(bridge);
+
+        return EventFlow.BRIDGE.createBridgeNode(name, eventType, bridge);
+    }
+
     /**
      * Retrieve the name of this node.
      *
@@ -103,13 +166,153 @@ public interface EventNode<E extends Event> {
      *
      * @param event event.
      *
-     * @return future, once completed containing the event after being passed to the listeners.
+     * @return future, once completed containing the event after being passed to the listeners,
+     *         completed exceptionally with an {@link EventDispatchException} if any listener failed.
      * @throws NullPointerException if {@code event} is {@code null}.
      */
     @NotNull
     @CanIgnoreReturnValue
     <T extends E> CompletableFuture<T> callEvent(@NotNull T event);
 
+    /**
+     * Call an event on this node, collecting the failures of the listeners.
+     * <p>
+     * Unlike {@link #callEvent(Event)}, the returned future never completes exceptionally because of a listener,
+     * failures are reported with the identity of their listener in the {@link DispatchResult}.
+     *
+     * @param event event.
+     *
+     * @return future, once completed containing the result of the dispatch.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    <T extends E> CompletableFuture<DispatchResult<T>> dispatchEvent(@NotNull T event);
+
+    /**
+     * Call an event on this node in slices, each slice running listeners within a budget.
+     * <p>
+     * The tree is walked right away and the first slice is run by this call,
+     * the remaining listeners run on the thread resuming the returned call, without moving them to another thread.
+     * Listeners are run in the order {@link #callEvent(Event)} would run them.
+     * <br>
+     * Sliced calls are not limited by the {@link #admission(Consumer) admission controller}.
+     *
+     * @param event event.
+     * @param budget budget of the first slice.
+     *
+     * @return continuation of the call, to be resumed until done.
+     * @throws NullPointerException if {@code event} or {@code budget} is {@code null}.
+     * @throws UnsupportedOperationException if this node is not the root node.
+     */
+    @NotNull
+    <T extends E> SlicedCall<T> callEvent(@NotNull T event, @NotNull DispatchBudget budget);
+
+    /**
+     * Fire an event on this node, without tracking its completion.
+     * <p>
+     * Unlike {@link #callEvent(Event)}, no future is created and asynchronous listeners are not awaited,
+     * nothing retains the dispatch once the tree has been walked.
+     * Failures are only passed to the failure handler of their listener, including rejected asynchronous requests.
+     * <br>
+     * An admission controller only counts fired events in flight while the tree is walked.
+     *
+     * @param event event.
+     *
+     * @return true if the event was dispatched, false if it was shed by the {@link #admission(Consumer) admission controller}.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     */
+    @CanIgnoreReturnValue
+    <T extends E> boolean fireEvent(@NotNull T event);
+
+    /**
+     * Call a query on this node, reducing the responses of the listeners into an answer.
+     * <p>
+     * The returned future completes as soon as the answer is decided, listeners that did not run yet are then skipped.
+     * Otherwise it completes once every listener ran, with the responses accumulated so far.
+     * Failed listeners are passed to their failure handler and don't fail the query.
+     *
+     * @param query query event.
+     *
+     * @return future containing the answer of the query.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @throws IllegalArgumentException if {@code query} is not an event of this node.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    <R> CompletableFuture<R> query(@NotNull QueryEvent<?, R> query);
+
+    /**
+     * Schedules an event call on this node, once {@code delay} elapsed.
+     * <p>
+     * The delay is rounded up to the next tick of the node scheduler,
+     * the event is then called on the thread driving the scheduler.
+     *
+     * @param event event.
+     * @param delay delay before calling the event, zero or negative delays call the event on the next tick.
+     *
+     * @return handle of the scheduled call.
+     * @throws NullPointerException if {@code event} or {@code delay} is {@code null}.
+     * @throws UnsupportedOperationException if this node is not the root node.
+     * @throws IllegalStateException if the node scheduler is closed.
+     *
+     * @see #scheduleWith(EventScheduler)
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    <T extends E> ScheduledCall<T> callEventLater(@NotNull T event, @NotNull Duration delay);
+
+    /**
+     * Schedules an event call on this node, at {@code instant}.
+     * <p>
+     * The instant is converted into a delay from now, rounded up to the next tick of the node scheduler.
+     *
+     * @param event event.
+     * @param instant instant at which the event should be called, past instants call the event on the next tick.
+     *
+     * @return handle of the scheduled call.
+     * @throws NullPointerException if {@code event} or {@code instant} is {@code null}.
+     * @throws UnsupportedOperationException if this node is not the root node.
+     * @throws IllegalStateException if the node scheduler is closed.
+     *
+     * @see #scheduleWith(EventScheduler)
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    default <T extends E> ScheduledCall<T> callEventAt(@NotNull T event, @NotNull Instant instant) {
+        Preconditions.checkNotNull(instant);
+
+        return this.callEventLater(event, Duration.between(Instant.now(), instant));
+    }
+
+    /**
+     * Calls a value on a {@link LongChannel}, no event is created.
+     * <p>
+     * Handlers are called inline on the calling thread, in the same order events would reach their nodes.
+     * Failures are logged and don't prevent the other handlers from being called.
+     *
+     * @param channel channel to call the value on.
+     * @param value value to call.
+     *
+     * @throws NullPointerException if {@code channel} is {@code null}.
+     * @throws UnsupportedOperationException if this node is not the root node.
+     */
+    void callLong(@NotNull LongChannel channel, long value);
+
+    /**
+     * Calls a value on an {@link IntChannel}, no event is created.
+     * <p>
+     * Handlers are called inline on the calling thread, in the same order events would reach their nodes.
+     * Failures are logged and don't prevent the other handlers from being called.
+     *
+     * @param channel channel to call the value on.
+     * @param value value to call.
+     *
+     * @throws NullPointerException if {@code channel} is {@code null}.
+     * @throws UnsupportedOperationException if this node is not the root node.
+     */
+    void callInt(@NotNull IntChannel channel, int value);
+
     /**
      * Adds a child node to this node.
      *
@@ -209,10 +412,12 @@ public interface EventNode<E extends Event> {
      * @param handler event handler.
      *
      * @param <T> event type.
+     * @return handle of the registered listener.
      * @throws NullPointerException if {@code eventClass} or {@code event} is {@code null}.
      */
-    default <T extends E> void addListener(@NotNull Class<T> event, @NotNull EventHandler<T> handler) {
-        this.addListener(event, handler, builder -> {});
+    @CanIgnoreReturnValue
+    default <T extends E> ListenerHandle addListener(@NotNull Class<T> event, @NotNull EventHandler<T> handler) {
+        return this.addListener(event, handler, builder -> {});
     }
 
     /**
@@ -223,19 +428,23 @@ public interface EventNode<E extends Event> {
      * @param builder listener builder.
      *
      * @param <T> event type.
+     * @return handle of the registered listener.
      * @throws NullPointerException if {@code eventClass}, {@code handler} or {@code builder} is {@code null}.
      */
-    <T extends E> void addListener(@NotNull Class<T> event, @NotNull EventHandler<T> handler, @NotNull Consumer<EventListenerBuilder<T>> builder);
+    @CanIgnoreReturnValue
+    <T extends E> ListenerHandle addListener(@NotNull Class<T> event, @NotNull EventHandler<T> handler, @NotNull Consumer<EventListenerBuilder<T>> builder);
 
     /**
      * Adds a {@link EventListener} class to this node.
      *
      * @param listener listener class.
      *
+     * @return handle of the registered listener class.
      * @throws NullPointerException if {@code listener} is {@code null}.
      */
-    default void addListener(@NotNull EventListener listener) {
-        this.addListener(listener, builder -> {});
+    @CanIgnoreReturnValue
+    default ListenerHandle addListener(@NotNull EventListener listener) {
+        return this.addListener(listener, builder -> {});
     }
 
     /**
@@ -244,7 +453,139 @@ public interface EventNode<E extends Event> {
      * @param listener listener class.
      * @param builder listener builder.
      *
+     * @return handle of the registered listener class.
      * @throws NullPointerException if {@code listener} or {@code builder} is {@code null}.
      */
-    void addListener(@NotNull EventListener listener, @NotNull Consumer<EventListenerBuilder<E>> builder);
+    @CanIgnoreReturnValue
+    ListenerHandle addListener(@NotNull EventListener listener, @NotNull Consumer<EventListenerBuilder<E>> builder);
+
+    /**
+     * Adds a handler of a {@link LongChannel} to this node.
+     *
+     * @param channel channel to listen to.
+     * @param handler value handler.
+     *
+     * @return handle of the registered handler.
+     * @throws NullPointerException if {@code channel} or {@code handler} is {@code null}.
+     * @throws IllegalArgumentException if values of {@code channel} can never reach this node.
+     */
+    @CanIgnoreReturnValue
+    ListenerHandle addListener(@NotNull LongChannel channel, @NotNull LongEventHandler handler);
+
+    /**
+     * Adds a handler of an {@link IntChannel} to this node.
+     *
+     * @param channel channel to listen to.
+     * @param handler value handler.
+     *
+     * @return handle of the registered handler.
+     * @throws NullPointerException if {@code channel} or {@code handler} is {@code null}.
+     * @throws IllegalArgumentException if values of {@code channel} can never reach this node.
+     */
+    @CanIgnoreReturnValue
+    ListenerHandle addListener(@NotNull IntChannel channel, @NotNull IntEventHandler handler);
+
+    /**
+     * Mutates this node in a single transaction.
+     * <p>
+     * Changes made through the transaction are staged and applied once {@code transaction} returns,
+     * events being called meanwhile either see all the changes or none of them.
+     * <br>
+     * This is the preferred way of building whole subtrees or registering many listeners at once,
+     * the node is only rebuilt once for the whole transaction.
+     * If {@code transaction} throws, none of the staged changes are applied.
+     *
+     * @param transaction transaction staging changes on this node.
+     *
+     * @throws NullPointerException if {@code transaction} is {@code null}.
+     */
+    void mutate(@NotNull Consumer<EventTransaction<E>> transaction);
+
+    /**
+     * Records every event called on this node, before it is dispatched.
+     * <p>
+     * Recording is meant for the root node, events are only recorded when called on this node.
+     *
+     * @param recorder recorder to record the events with, or {@code null} to stop recording.
+     */
+    void recordEvents(@Nullable EventRecorder recorder);
+
+    /**
+     * Makes the children of this node exclusive, an event only reaches the first child accepting it.
+     * <p>
+     * Children are tried in an order adapted to the traffic, the children most likely to accept an event
+     * for the cost of their filter are tried first. Children should accept disjoint events,
+     * an event accepted by several children reaches any one of them.
+     * <br>
+     * Some events test the filter of every child to measure them, filters of exclusive children should not have side effects.
+     */
+    void exclusive();
+
+    /**
+     * Sets the bulkhead of this node, limiting the asynchronous listener requests in flight in its subtree.
+     * <p>
+     * Requests of the listeners of this node and its children go through the bulkhead,
+     * unless a child sets its own bulkhead. Listeners using the {@link fr.atlasworld.event.api.executor.EventExecutor#syncExecutor}
+     * are not limited. A previously set bulkhead is replaced, requests already in flight are not counted by the new one.
+     *
+     * @param maxInFlight maximum amount of requests in flight.
+     * @param maxQueued maximum amount of requests waiting for a permit, only used by {@link BulkheadPolicy#QUEUE}.
+     * @param policy policy once every permit is taken.
+     *
+     * @return bulkhead of this node, exposing its saturation counters.
+     * @throws IllegalArgumentException if {@code maxInFlight} is not strictly positive, or {@code maxQueued} is negative.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    Bulkhead bulkhead(int maxInFlight, int maxQueued, @NotNull BulkheadPolicy policy);
+
+    /**
+     * Sets the admission controller of this tree, limiting the dispatches in flight and their latency.
+     * <p>
+     * Events called with {@link #callEvent(Event)} or {@link #dispatchEvent(Event)} past the limits are shed or deferred
+     * depending on the policy and the priority of their class, the future of a shed event completes exceptionally
+     * with an {@link fr.atlasworld.event.api.dispatch.EventRejectedException}.
+     * A previously set controller is replaced, dispatches already in flight are not counted by the new one.
+     *
+     * @param builder builder of the admission controller.
+     *
+     * @return admission controller of this tree, exposing its counters.
+     * @throws UnsupportedOperationException if this node is not the root node.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    AdmissionController admission(@NotNull Consumer<AdmissionBuilder> builder);
+
+    /**
+     * Freezes this tree, optimizing event calls for a tree that rarely changes.
+     * <p>
+     * A frozen root node flattens the walk of the tree into a dispatch plan per event class,
+     * node types are checked and listeners looked up once instead of on every event call.
+     * The tree can still be mutated, plans are rebuilt by the next event call following a change of the tree structure.
+     *
+     * @throws UnsupportedOperationException if this node is not the root node.
+     */
+    void freeze();
+
+    /**
+     * Unfreezes this tree, events walk the tree again and dispatch plans are dropped.
+     */
+    void unfreeze();
+
+    /**
+     * Checks whether this tree is frozen.
+     *
+     * @return true if this node was frozen.
+     */
+    boolean frozen();
+
+    /**
+     * Sets the scheduler of the calls made with {@link #callEventLater(Event, Duration)} on this node.
+     * <p>
+     * Calls already scheduled stay on their scheduler.
+     *
+     * @param scheduler scheduler to use, or {@code null} to use the {@link EventScheduler#shared() shared scheduler}.
+     */
+    void scheduleWith(@Nullable EventScheduler scheduler);
 }
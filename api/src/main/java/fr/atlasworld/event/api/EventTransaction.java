@@ -0,0 +1,149 @@
+package fr.atlasworld.event.api;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import fr.atlasworld.event.api.listener.EventHandler;
+import fr.atlasworld.event.api.listener.EventListener;
+import fr.atlasworld.event.api.listener.EventListenerBuilder;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Transaction staging changes on an {@link EventNode}.
+ * <p>
+ * Changes are not visible to event calls until the transaction is applied,
+ * they are then published all at once.
+ * <br>
+ * Child nodes created through a transaction are detached from the tree until the transaction is applied,
+ * they can be freely populated without affecting events being called.
+ * <br>
+ * A transaction can't be used once applied or discarded,
+ * staging a change then throws an {@link IllegalStateException}.
+ *
+ * @param <E> event type of the node.
+ *
+ * @see EventNode#mutate(Consumer)
+ */
+public interface EventTransaction<E extends Event> {
+
+    /**
+     * Stages the addition of a child node.
+     *
+     * @param node node to be added.
+     *
+     * @param <T> event type, extending this node type.
+     *
+     * @throws NullPointerException if {@code node} is {@code null}.
+     */
+    <T extends E> void addChildNode(@NotNull EventNode<T> node);
+
+    /**
+     * Create a new child node, attached once the transaction is applied.
+     *
+     * @param name name of the node.
+     *
+     * @return newly created node.
+     */
+    EventNode<E> createChildNode(@NotNull String name);
+
+    /**
+     * Create a new child node, attached once the transaction is applied.
+     *
+     * @param name name of the node.
+     * @param filter filter of the node.
+     *
+     * @return newly created node.
+     */
+    EventNode<E> createChildNode(@NotNull String name, @NotNull Predicate<E> filter);
+
+    /**
+     * Create a new child node, attached once the transaction is applied.
+     *
+     * @param name name of the node.
+     * @param eventType event type of the node.
+     *
+     * @return newly created node.
+     */
+    <T extends E> EventNode<T> createChildNode(@NotNull String name, @NotNull Class<T> eventType);
+
+    /**
+     * Create a new child node, attached once the transaction is applied.
+     *
+     * @param name name of the node.
+     * @param eventType event type of the node.
+     * @param filter predicate to test whether an event should be called on the node.
+     *
+     * @return newly created node.
+     */
+    <T extends E> EventNode<T> createChildNode(@NotNull String name, @NotNull Class<T> eventType, @NotNull Predicate<T> filter);
+
+    /**
+     * Stages the removal of a child node.
+     *
+     * @param name name of the node to remove.
+     */
+    void removeChildNode(@NotNull String name);
+
+    /**
+     * Stages the removal of a child node.
+     *
+     * @param node node to be removed.
+     */
+    void removeChildNode(@NotNull EventNode<?> node);
+
+    /**
+     * Stages the addition of a listener.
+     *
+     * @param event event to listen for.
+     * @param handler event handler.
+     *
+     * @param <T> event type.
+     * @return handle of the registered listener.
+     * @throws NullPointerException if {@code eventClass} or {@code event} is {@code null}.
+     */
+    @CanIgnoreReturnValue
+    default <T extends E> ListenerHandle addListener(@NotNull Class<T> event, @NotNull EventHandler<T> handler) {
+        return this.addListener(event, handler, builder -> {});
+    }
+
+    /**
+     * Stages the addition of a listener.
+     *
+     * @param event event to listen for.
+     * @param handler event handler.
+     * @param builder listener builder.
+     *
+     * @param <T> event type.
+     * @return handle of the registered listener.
+     * @throws NullPointerException if {@code eventClass}, {@code handler} or {@code builder} is {@code null}.
+     */
+    @CanIgnoreReturnValue
+    <T extends E> ListenerHandle addListener(@NotNull Class<T> event, @NotNull EventHandler<T> handler, @NotNull Consumer<EventListenerBuilder<T>> builder);
+
+    /**
+     * Stages the addition of a {@link EventListener} class.
+     *
+     * @param listener listener class.
+     *
+     * @return handle of the registered listener class.
+     * @throws NullPointerException if {@code listener} is {@code null}.
+     */
+    @CanIgnoreReturnValue
+    default ListenerHandle addListener(@NotNull EventListener listener) {
+        return this.addListener(listener, builder -> {});
+    }
+
+    /**
+     * Stages the addition of a {@link EventListener} class.
+     *
+     * @param listener listener class.
+     * @param builder listener builder.
+     *
+     * @return handle of the registered listener class.
+     * @throws NullPointerException if {@code listener} or {@code builder} is {@code null}.
+     */
+    @CanIgnoreReturnValue
+    ListenerHandle addListener(@NotNull EventListener listener, @NotNull Consumer<EventListenerBuilder<E>> builder);
+}
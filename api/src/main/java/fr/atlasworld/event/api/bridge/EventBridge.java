@@ -0,0 +1,69 @@
+package fr.atlasworld.event.api.bridge;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventFlow;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.record.EventCodecs;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+
+/**
+ * Connection forwarding events to the tree of another process, through a Unix domain socket or a TCP socket.
+ * <p>
+ * Events are forwarded by bridge nodes, created with {@link EventNode#bridged(String, Class, EventBridge)},
+ * and called on the root node given to the remote {@link EventBridgeServer}.
+ * <br>
+ * Events are framed in a compact binary format, serialized through their {@link fr.atlasworld.event.api.record.EventCodec},
+ * and written in batches by a dedicated thread, forwarding an event never waits for the socket.
+ * Events received from a bridge are never forwarded again, so two processes can bridge each other without looping.
+ */
+public interface EventBridge extends Closeable {
+
+    /**
+     * Connects to a remote {@link EventBridgeServer}.
+     *
+     * @param address address of the server,
+     *                a {@link java.net.UnixDomainSocketAddress} or an {@link java.net.InetSocketAddress}.
+     * @param codecs codecs used to serialize the events, events without a codec can't be forwarded.
+     *
+     * @return connected bridge.
+     * @throws IOException if the connection could not be established.
+     * @throws NullPointerException if {@code address} or {@code codecs} is {@code null}.
+     */
+    static EventBridge connect(@NotNull SocketAddress address, @NotNull EventCodecs codecs) throws IOException {
+        Preconditions.checkNotNull(address);
+        Preconditions.checkNotNull(codecs);
+
+        return EventFlow.BRIDGE.connectEventBridge(address, codecs);
+    }
+
+    /**
+     * Forwards an event to the remote tree.
+     *
+     * @param event event to forward.
+     *
+     * @throws IllegalArgumentException if no codec is registered for the event.
+     * @throws IllegalStateException if the bridge is closed or its connection failed.
+     * @throws java.io.UncheckedIOException if the event could not be encoded.
+     */
+    void forward(@NotNull Event event);
+
+    /**
+     * Retrieve the amount of forwarded events.
+     *
+     * @return forwarded events.
+     */
+    long forwarded();
+
+    /**
+     * Closes this bridge, after writing the events already forwarded.
+     *
+     * @throws IOException if the connection could not be closed.
+     */
+    @Override
+    void close() throws IOException;
+}
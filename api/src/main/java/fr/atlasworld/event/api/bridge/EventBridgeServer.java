@@ -0,0 +1,63 @@
+package fr.atlasworld.event.api.bridge;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventFlow;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.record.EventCodecs;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+
+/**
+ * Server accepting {@link EventBridge} connections, calling the received events on a root node.
+ * <p>
+ * Each connection is read by its own thread, events received from a connection are called in the order they were forwarded.
+ */
+public interface EventBridgeServer extends Closeable {
+
+    /**
+     * Starts listening for bridge connections.
+     *
+     * @param address address to listen on,
+     *                a {@link java.net.UnixDomainSocketAddress} or an {@link java.net.InetSocketAddress}.
+     * @param codecs codecs used to deserialize the events, events without a codec are dropped.
+     * @param root root node the received events are called on.
+     *
+     * @return listening server.
+     * @throws IOException if the server could not bind to {@code address}.
+     * @throws NullPointerException if {@code address}, {@code codecs} or {@code root} is {@code null}.
+     */
+    static EventBridgeServer listen(@NotNull SocketAddress address, @NotNull EventCodecs codecs, @NotNull EventNode<Event> root) throws IOException {
+        Preconditions.checkNotNull(address);
+        Preconditions.checkNotNull(codecs);
+        Preconditions.checkNotNull(root);
+
+        return EventFlow.BRIDGE.listenEventBridge(address, codecs, root);
+    }
+
+    /**
+     * Retrieve the address this server listens on.
+     *
+     * @return local address.
+     */
+    @NotNull
+    SocketAddress address();
+
+    /**
+     * Retrieve the amount of received events.
+     *
+     * @return received events.
+     */
+    long received();
+
+    /**
+     * Closes this server and every accepted connection.
+     *
+     * @throws IOException if the server could not be closed.
+     */
+    @Override
+    void close() throws IOException;
+}
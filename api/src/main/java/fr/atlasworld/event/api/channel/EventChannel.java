@@ -0,0 +1,112 @@
+package fr.atlasworld.event.api.channel;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import fr.atlasworld.event.api.EventFlow;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel of fixed-layout events, stored in an off-heap ring instead of heap objects.
+ * <p>
+ * Any thread may publish events, events are dispatched in sequence order by the channel thread,
+ * each listener receiving a reused {@link EventView} of the event.
+ * Publishing and dispatching events allocates nothing, publishers wait for the channel thread once the ring is full.
+ * <br>
+ * Channels are meant for high rate events made of a handful of primitives, like packets or positions,
+ * other events should go through an {@link fr.atlasworld.event.api.EventNode}.
+ */
+public interface EventChannel extends AutoCloseable {
+
+    /**
+     * Create a new channel, starting its thread.
+     *
+     * @param name name of the channel.
+     * @param layout layout of the events.
+     * @param capacity amount of events the ring holds, rounded up to a power of two.
+     *
+     * @return newly created channel.
+     * @throws IllegalArgumentException if {@code capacity} is not strictly positive, or the ring doesn't fit in 2GiB.
+     */
+    static EventChannel create(@NotNull String name, @NotNull EventLayout layout, int capacity) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(layout);
+        Preconditions.checkArgument(capacity > 0, "Capacity must be strictly positive!");
+
+        return EventFlow.BRIDGE.createEventChannel(name, layout, capacity);
+    }
+
+    /**
+     * Retrieve the name of this channel.
+     *
+     * @return name of this channel.
+     */
+    @NotNull
+    String name();
+
+    /**
+     * Retrieve the layout of the events of this channel.
+     *
+     * @return event layout.
+     */
+    @NotNull
+    EventLayout layout();
+
+    /**
+     * Adds a listener, called by the channel thread for every event published afterward.
+     *
+     * @param handler handler of the events.
+     *
+     * @return handle of the registered listener.
+     * @throws NullPointerException if {@code handler} is {@code null}.
+     */
+    @CanIgnoreReturnValue
+    ListenerHandle addListener(@NotNull ViewHandler handler);
+
+    /**
+     * Claims the next slot of the ring, waiting for the channel thread if the ring is full.
+     *
+     * @return slot to write the event in, reused by the calling thread.
+     * @throws IllegalStateException if the channel is closed.
+     */
+    @NotNull
+    EventSlot claim();
+
+    /**
+     * Claims the next slot of the ring and publishes it once written,
+     * the slot is discarded if {@code writer} throws so it never holds back the following events.
+     *
+     * @param writer writer of the event fields, must not publish nor discard the slot.
+     *
+     * @throws NullPointerException if {@code writer} is {@code null}.
+     * @throws IllegalStateException if the channel is closed.
+     */
+    default void publish(@NotNull Consumer<EventSlot> writer) {
+        Preconditions.checkNotNull(writer);
+
+        EventSlot slot = this.claim();
+        try {
+            writer.accept(slot);
+        } catch (Throwable cause) {
+            slot.discard();
+            throw cause;
+        }
+
+        slot.publish();
+    }
+
+    /**
+     * Retrieve the amount of dispatched events.
+     *
+     * @return dispatched events.
+     */
+    long dispatched();
+
+    /**
+     * Closes this channel, after dispatching every published event.
+     */
+    @Override
+    void close();
+}
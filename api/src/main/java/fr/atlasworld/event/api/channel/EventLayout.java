@@ -0,0 +1,178 @@
+package fr.atlasworld.event.api.channel;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fixed layout of the events of an {@link EventChannel}, made of primitive fields.
+ * <p>
+ * Fields are laid out in declaration order, each aligned on its own size.
+ *
+ * @see #of(Class)
+ * @see #builder()
+ */
+public final class EventLayout {
+    private final List<Field> fields;
+    private final Map<String, Field> fieldsByName;
+    private final int size;
+
+    private EventLayout(List<Field> fields, int size) {
+        this.fields = Collections.unmodifiableList(fields);
+        this.size = size;
+
+        this.fieldsByName = new HashMap<>();
+        for (Field field : fields)
+            this.fieldsByName.put(field.name(), field);
+    }
+
+    /**
+     * Create a layout from the components of a record, which must all be primitives.
+     *
+     * @param record record declaring the layout.
+     *
+     * @return layout of the record.
+     * @throws IllegalArgumentException if a component of {@code record} is not a primitive.
+     */
+    public static EventLayout of(@NotNull Class<? extends Record> record) {
+        Preconditions.checkNotNull(record);
+
+        Builder builder = builder();
+        for (RecordComponent component : record.getRecordComponents())
+            builder.add(component.getName(), FieldType.of(component.getType()));
+
+        return builder.build();
+    }
+
+    /**
+     * Create a new layout builder.
+     *
+     * @return newly created builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieve a field of this layout.
+     *
+     * @param name name of the field.
+     *
+     * @return field.
+     * @throws IllegalArgumentException if this layout has no field named {@code name}.
+     */
+    @NotNull
+    public Field field(@NotNull String name) {
+        Field field = this.fieldsByName.get(name);
+        Preconditions.checkArgument(field != null, "Layout has no field named '%s'!", name);
+
+        return field;
+    }
+
+    /**
+     * Retrieve the fields of this layout, in declaration order.
+     *
+     * @return fields of this layout.
+     */
+    @NotNull
+    public List<Field> fields() {
+        return this.fields;
+    }
+
+    /**
+     * Retrieve the size of an event, padded to 8 bytes.
+     *
+     * @return event size, in bytes.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Field of a layout, resolved once and used to access events without any lookup.
+     */
+    public static final class Field {
+        private final String name;
+        private final FieldType type;
+        private final int offset;
+
+        private Field(String name, FieldType type, int offset) {
+            this.name = name;
+            this.type = type;
+            this.offset = offset;
+        }
+
+        @NotNull
+        public String name() {
+            return this.name;
+        }
+
+        @NotNull
+        public FieldType type() {
+            return this.type;
+        }
+
+        /**
+         * Retrieve the offset of this field in an event.
+         *
+         * @return offset, in bytes.
+         */
+        public int offset() {
+            return this.offset;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + ":" + this.type + "@" + this.offset;
+        }
+    }
+
+    public static final class Builder {
+        private final List<Field> fields = new ArrayList<>();
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a field to the layout.
+         *
+         * @param name name of the field.
+         * @param type type of the field.
+         *
+         * @return instance of this builder.
+         * @throws IllegalArgumentException if a field named {@code name} was already added.
+         */
+        @NotNull
+        @CanIgnoreReturnValue
+        public Builder add(@NotNull String name, @NotNull FieldType type) {
+            Preconditions.checkNotNull(name);
+            Preconditions.checkNotNull(type);
+            Preconditions.checkArgument(this.fields.stream().noneMatch(field -> field.name().equals(name)),
+                    "Field '%s' is already declared!", name);
+
+            int offset = align(this.size, type.size());
+            this.fields.add(new Field(name, type, offset));
+            this.size = offset + type.size();
+            return this;
+        }
+
+        @NotNull
+        public EventLayout build() {
+            Preconditions.checkState(!this.fields.isEmpty(), "Layout must declare at least one field!");
+
+            return new EventLayout(new ArrayList<>(this.fields), align(this.size, Long.BYTES));
+        }
+
+        private static int align(int offset, int alignment) {
+            return (offset + alignment - 1) & -alignment;
+        }
+    }
+}
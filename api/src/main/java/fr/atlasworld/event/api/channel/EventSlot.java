@@ -0,0 +1,61 @@
+package fr.atlasworld.event.api.channel;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Slot claimed in an {@link EventChannel}, written in place before being published.
+ * <p>
+ * Slots are reused by their claiming thread, a slot must be published or discarded before the thread claims another one.
+ * The channel thread dispatches events in sequence order, a slot left claimed holds back every event published after it.
+ * Fields left unset are zero.
+ */
+public interface EventSlot {
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putBoolean(@NotNull EventLayout.Field field, boolean value);
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putByte(@NotNull EventLayout.Field field, byte value);
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putShort(@NotNull EventLayout.Field field, short value);
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putChar(@NotNull EventLayout.Field field, char value);
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putInt(@NotNull EventLayout.Field field, int value);
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putFloat(@NotNull EventLayout.Field field, float value);
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putLong(@NotNull EventLayout.Field field, long value);
+
+    @NotNull
+    @CanIgnoreReturnValue
+    EventSlot putDouble(@NotNull EventLayout.Field field, double value);
+
+    /**
+     * Publishes the event, making it visible to the listeners of the channel.
+     *
+     * @throws IllegalStateException if the slot is not claimed.
+     */
+    void publish();
+
+    /**
+     * Discards the event, the channel thread skips the slot without calling the listeners.
+     * Used when the event can't be written, so the events published after it are not held back.
+     *
+     * @throws IllegalStateException if the slot is not claimed.
+     */
+    void discard();
+}
@@ -0,0 +1,36 @@
+package fr.atlasworld.event.api.channel;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flyweight view of an event stored in an {@link EventChannel}.
+ * <p>
+ * Views are reused for every event, a view is only valid during the call of the listener it was passed to.
+ * Fields are read straight from off-heap memory, accessors throw {@link IllegalArgumentException}
+ * if the field type doesn't match.
+ */
+public interface EventView {
+
+    /**
+     * Retrieve the sequence of the viewed event in its channel.
+     *
+     * @return event sequence.
+     */
+    long sequence();
+
+    boolean getBoolean(@NotNull EventLayout.Field field);
+
+    byte getByte(@NotNull EventLayout.Field field);
+
+    short getShort(@NotNull EventLayout.Field field);
+
+    char getChar(@NotNull EventLayout.Field field);
+
+    int getInt(@NotNull EventLayout.Field field);
+
+    float getFloat(@NotNull EventLayout.Field field);
+
+    long getLong(@NotNull EventLayout.Field field);
+
+    double getDouble(@NotNull EventLayout.Field field);
+}
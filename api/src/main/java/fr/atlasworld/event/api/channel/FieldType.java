@@ -0,0 +1,59 @@
+package fr.atlasworld.event.api.channel;
+
+/**
+ * Primitive type of an {@link EventLayout} field.
+ */
+public enum FieldType {
+    BOOLEAN(1),
+    BYTE(1),
+    SHORT(2),
+    CHAR(2),
+    INT(4),
+    FLOAT(4),
+    LONG(8),
+    DOUBLE(8);
+
+    private final int size;
+
+    FieldType(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Retrieve the size of this type.
+     *
+     * @return size, in bytes.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Retrieve the field type of a primitive class.
+     *
+     * @param type primitive class.
+     *
+     * @return field type.
+     * @throws IllegalArgumentException if {@code type} is not a primitive class.
+     */
+    public static FieldType of(Class<?> type) {
+        if (type == boolean.class)
+            return BOOLEAN;
+        if (type == byte.class)
+            return BYTE;
+        if (type == short.class)
+            return SHORT;
+        if (type == char.class)
+            return CHAR;
+        if (type == int.class)
+            return INT;
+        if (type == float.class)
+            return FLOAT;
+        if (type == long.class)
+            return LONG;
+        if (type == double.class)
+            return DOUBLE;
+
+        throw new IllegalArgumentException(type.getName() + " is not a primitive type!");
+    }
+}
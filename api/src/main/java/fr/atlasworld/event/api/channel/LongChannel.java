@@ -0,0 +1,38 @@
+package fr.atlasworld.event.api.channel;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Channel of {@code long} values, called on an {@link fr.atlasworld.event.api.EventNode} tree without creating any event.
+ *
+ * @see PrimitiveChannel
+ */
+public final class LongChannel extends PrimitiveChannel {
+    private LongChannel(String name, Class<? extends Event> eventType) {
+        super(name, eventType);
+    }
+
+    /**
+     * Create a new channel, reaching every node of the tree without a filter.
+     *
+     * @param name name of the channel.
+     *
+     * @return newly created channel.
+     */
+    public static LongChannel of(@NotNull String name) {
+        return of(name, Event.class);
+    }
+
+    /**
+     * Create a new channel, reaching the nodes accepting {@code eventType} events.
+     *
+     * @param name name of the channel.
+     * @param eventType event type the values are routed as.
+     *
+     * @return newly created channel.
+     */
+    public static LongChannel of(@NotNull String name, @NotNull Class<? extends Event> eventType) {
+        return new LongChannel(name, eventType);
+    }
+}
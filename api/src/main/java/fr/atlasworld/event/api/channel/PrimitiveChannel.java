@@ -0,0 +1,55 @@
+package fr.atlasworld.event.api.channel;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Channel of primitive values, called on an {@link fr.atlasworld.event.api.EventNode} tree without creating any event.
+ * <p>
+ * Values are routed through the tree as if they were events of the channel event type,
+ * reaching every node whose event type is a supertype of it.
+ * Nodes with a filter are skipped along with their children, filters can only be tested against events.
+ * <br>
+ * Channels are compared by identity, two channels created with the same name are distinct.
+ *
+ * @see IntChannel
+ * @see LongChannel
+ */
+public abstract sealed class PrimitiveChannel permits IntChannel, LongChannel {
+    private final String name;
+    private final Class<? extends Event> eventType;
+
+    PrimitiveChannel(@NotNull String name, @NotNull Class<? extends Event> eventType) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(eventType);
+
+        this.name = name;
+        this.eventType = eventType;
+    }
+
+    /**
+     * Retrieve the name of this channel.
+     *
+     * @return name of this channel.
+     */
+    @NotNull
+    public final String name() {
+        return this.name;
+    }
+
+    /**
+     * Retrieve the event type values of this channel are routed as.
+     *
+     * @return event type of this channel.
+     */
+    @NotNull
+    public final Class<? extends Event> eventType() {
+        return this.eventType;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "[" + this.name + "]";
+    }
+}
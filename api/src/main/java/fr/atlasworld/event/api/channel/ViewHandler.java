@@ -0,0 +1,17 @@
+package fr.atlasworld.event.api.channel;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Handler of the events of an {@link EventChannel}.
+ */
+@FunctionalInterface
+public interface ViewHandler {
+
+    /**
+     * Handles an event.
+     *
+     * @param view view of the event, only valid during this call.
+     */
+    void handle(@NotNull EventView view);
+}
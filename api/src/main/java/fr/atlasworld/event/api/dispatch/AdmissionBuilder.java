@@ -0,0 +1,80 @@
+package fr.atlasworld.event.api.dispatch;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import fr.atlasworld.common.annotation.OptionalBuilderArgument;
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Admission Builder, sets the limits, priorities and policy of an {@link AdmissionController}.
+ */
+public interface AdmissionBuilder {
+
+    /**
+     * Sets the maximum amount of dispatches in flight, a dispatch being in flight until its future completes.
+     * <br>
+     * Defaults to 10000.
+     *
+     * @param dispatches maximum dispatches in flight.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code dispatches} is not strictly positive.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    AdmissionBuilder maxInFlight(int dispatches);
+
+    /**
+     * Sets the target latency of the dispatches, once the recent latency exceeds it
+     * the capacity is reduced by the ratio between both.
+     * <br>
+     * Defaults to no target.
+     *
+     * @param latency target dispatch latency.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code latency} is not strictly positive.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    AdmissionBuilder maxLatency(@NotNull Duration latency);
+
+    /**
+     * Sets the shed priority of an event class and its subclasses, events with the lowest priorities are shed first.
+     * <p>
+     * Events of priority {@code p} may use {@code (p + 1) / (highest priority + 1)} of the capacity,
+     * events of the highest priority may use all of it.
+     * <br>
+     * Events default to priority {@code 0}.
+     *
+     * @param eventClass class of the events.
+     * @param priority priority of the events.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code priority} is negative.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    AdmissionBuilder priority(@NotNull Class<? extends Event> eventClass, int priority);
+
+    /**
+     * Sets the policy for events exceeding the capacity of their priority.
+     * <br>
+     * Defaults to {@link AdmissionPolicy#SHED}.
+     *
+     * @param policy admission policy.
+     * @param maxDeferred maximum amount of deferred events, only used by {@link AdmissionPolicy#DEFER}.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code maxDeferred} is negative.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    AdmissionBuilder policy(@NotNull AdmissionPolicy policy, int maxDeferred);
+}
@@ -0,0 +1,53 @@
+package fr.atlasworld.event.api.dispatch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Admission controller of a root node, shedding or deferring events once the dispatches in flight
+ * or their latency exceed the configured limits.
+ * <p>
+ * Shed events are never dispatched, their future completes exceptionally with an {@link EventRejectedException}.
+ * Deferred events are dispatched by the thread completing a dispatch, once their priority fits in the capacity again.
+ *
+ * @see fr.atlasworld.event.api.EventNode#admission(java.util.function.Consumer)
+ */
+public interface AdmissionController {
+
+    /**
+     * Retrieve the amount of dispatches in flight.
+     *
+     * @return dispatches in flight.
+     */
+    int inFlight();
+
+    /**
+     * Retrieve the amount of events waiting to be admitted.
+     *
+     * @return deferred events.
+     */
+    int deferred();
+
+    /**
+     * Retrieve how many events were admitted.
+     *
+     * @return admitted events.
+     */
+    long admitted();
+
+    /**
+     * Retrieve how many events were shed.
+     *
+     * @return shed events.
+     */
+    long shed();
+
+    /**
+     * Retrieve the recent dispatch latency, an exponentially weighted average of the latest dispatches.
+     *
+     * @return recent latency.
+     */
+    @NotNull
+    Duration latency();
+}
@@ -0,0 +1,20 @@
+package fr.atlasworld.event.api.dispatch;
+
+/**
+ * Policy of an {@link AdmissionController} for events exceeding the capacity of their priority.
+ */
+public enum AdmissionPolicy {
+
+    /**
+     * Events are shed, their future completes exceptionally with an {@link EventRejectedException}.
+     */
+    SHED,
+
+    /**
+     * Events wait in a bounded queue until capacity frees up, they are shed once the queue is full.
+     * <br>
+     * Deferred events are dispatched by the thread completing the dispatch that freed up capacity,
+     * which may be the executor thread of an asynchronous listener, their synchronous listeners then run on it.
+     */
+    DEFER
+}
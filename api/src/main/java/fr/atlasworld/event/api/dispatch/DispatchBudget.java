@@ -0,0 +1,90 @@
+package fr.atlasworld.event.api.dispatch;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Budget of a slice of a {@link SlicedCall}, the slice stops running listeners once either limit is reached.
+ * <p>
+ * A slice always runs at least one listener, so a dispatch progresses even with a budget smaller than a single listener.
+ */
+public final class DispatchBudget {
+    private final long nanos;
+    private final int listeners;
+
+    private DispatchBudget(long nanos, int listeners) {
+        this.nanos = nanos;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Creates a budget limiting the time spent running listeners.
+     *
+     * @param time time budget.
+     *
+     * @return newly created budget.
+     * @throws IllegalArgumentException if {@code time} is not strictly positive.
+     */
+    @NotNull
+    public static DispatchBudget time(@NotNull Duration time) {
+        return of(time, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a budget limiting the amount of listeners run.
+     *
+     * @param listeners listener budget.
+     *
+     * @return newly created budget.
+     * @throws IllegalArgumentException if {@code listeners} is not strictly positive.
+     */
+    @NotNull
+    public static DispatchBudget listeners(int listeners) {
+        Preconditions.checkArgument(listeners > 0, "Listener budget must be strictly positive!");
+
+        return new DispatchBudget(Long.MAX_VALUE, listeners);
+    }
+
+    /**
+     * Creates a budget limiting both the time spent and the amount of listeners run.
+     *
+     * @param time time budget.
+     * @param listeners listener budget.
+     *
+     * @return newly created budget.
+     * @throws IllegalArgumentException if {@code time} or {@code listeners} is not strictly positive.
+     */
+    @NotNull
+    public static DispatchBudget of(@NotNull Duration time, int listeners) {
+        Preconditions.checkNotNull(time);
+        Preconditions.checkArgument(!time.isNegative() && !time.isZero(), "Time budget must be strictly positive!");
+        Preconditions.checkArgument(listeners > 0, "Listener budget must be strictly positive!");
+
+        return new DispatchBudget(time.toNanos(), listeners);
+    }
+
+    /**
+     * Retrieve the time budget in nanoseconds.
+     *
+     * @return time budget, {@link Long#MAX_VALUE} if the time is not limited.
+     */
+    public long nanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Retrieve the listener budget.
+     *
+     * @return listener budget, {@link Integer#MAX_VALUE} if the listeners are not limited.
+     */
+    public int listeners() {
+        return this.listeners;
+    }
+
+    @Override
+    public String toString() {
+        return "DispatchBudget[nanos=" + this.nanos + ", listeners=" + this.listeners + "]";
+    }
+}
@@ -0,0 +1,39 @@
+package fr.atlasworld.event.api.dispatch;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Result of an event dispatch, once every listener has handled the event.
+ *
+ * @param <E> event type.
+ */
+public interface DispatchResult<E extends Event> {
+
+    /**
+     * Retrieve the event after being passed to the listeners.
+     *
+     * @return dispatched event.
+     */
+    @NotNull
+    E event();
+
+    /**
+     * Retrieve the failures of the listeners that failed handling the event.
+     *
+     * @return listener failures, empty if every listener succeeded.
+     */
+    @NotNull
+    List<ListenerFailure> failures();
+
+    /**
+     * Checks whether every listener successfully handled the event.
+     *
+     * @return true if no listener failed.
+     */
+    default boolean successful() {
+        return this.failures().isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package fr.atlasworld.event.api.dispatch;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thrown when one or more listeners failed handling an event.
+ * <p>
+ * The cause is the failure of the first listener, failures of the other listeners are suppressed.
+ */
+public final class EventDispatchException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient DispatchResult<?> result;
+
+    public EventDispatchException(@NotNull DispatchResult<?> result) {
+        super(message(result), result.failures().isEmpty() ? null : result.failures().get(0).cause());
+        this.result = result;
+
+        for (int i = 1; i < result.failures().size(); i++)
+            this.addSuppressed(result.failures().get(i).cause());
+    }
+
+    private static String message(DispatchResult<?> result) {
+        StringBuilder builder = new StringBuilder()
+                .append(result.failures().size())
+                .append(" listener(s) failed handling ")
+                .append(result.event().getClass().getName())
+                .append(':');
+
+        for (ListenerFailure failure : result.failures())
+            builder.append("\n - ").append(failure);
+
+        return builder.toString();
+    }
+
+    /**
+     * Retrieve the result of the dispatch.
+     *
+     * @return dispatch result.
+     */
+    @NotNull
+    public DispatchResult<?> result() {
+        return this.result;
+    }
+}
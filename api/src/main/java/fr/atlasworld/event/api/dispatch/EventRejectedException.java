@@ -0,0 +1,30 @@
+package fr.atlasworld.event.api.dispatch;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thrown when an event was shed by the admission controller of the root node, the event was not dispatched.
+ *
+ * @see AdmissionController
+ */
+public class EventRejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final Class<?> eventClass;
+
+    public EventRejectedException(@NotNull Class<?> eventClass, @NotNull String reason) {
+        super("Event " + eventClass.getName() + " was shed: " + reason);
+
+        this.eventClass = eventClass;
+    }
+
+    /**
+     * Retrieve the class of the shed event.
+     *
+     * @return event class.
+     */
+    @NotNull
+    public Class<?> eventClass() {
+        return this.eventClass;
+    }
+}
@@ -0,0 +1,59 @@
+package fr.atlasworld.event.api.dispatch;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Failure of a listener while handling an event.
+ */
+public final class ListenerFailure {
+    private final String node;
+    private final String listener;
+    private final Throwable cause;
+
+    public ListenerFailure(@NotNull String node, @NotNull String listener, @NotNull Throwable cause) {
+        Preconditions.checkNotNull(node);
+        Preconditions.checkNotNull(listener);
+        Preconditions.checkNotNull(cause);
+
+        this.node = node;
+        this.listener = listener;
+        this.cause = cause;
+    }
+
+    /**
+     * Retrieve the name of the node the listener is registered on.
+     *
+     * @return name of the node.
+     */
+    @NotNull
+    public String node() {
+        return this.node;
+    }
+
+    /**
+     * Retrieve the identity of the failed listener,
+     * {@code Class#method} for listener classes or the handler class for lambdas.
+     *
+     * @return identity of the listener.
+     */
+    @NotNull
+    public String listener() {
+        return this.listener;
+    }
+
+    /**
+     * Retrieve the cause of the failure.
+     *
+     * @return thrown exception.
+     */
+    @NotNull
+    public Throwable cause() {
+        return this.cause;
+    }
+
+    @Override
+    public String toString() {
+        return this.node + "/" + this.listener + ": " + this.cause;
+    }
+}
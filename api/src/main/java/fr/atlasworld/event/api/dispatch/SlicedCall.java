@@ -0,0 +1,62 @@
+package fr.atlasworld.event.api.dispatch;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Continuation of an event call dispatched in budgeted slices.
+ * <p>
+ * The tree is walked once when the event is called, the listeners reached are then run slice by slice.
+ * Calls are not thread-safe, slices are expected to be resumed by the thread that called the event,
+ * once per tick for example.
+ *
+ * @param <E> type of the event.
+ *
+ * @see fr.atlasworld.event.api.EventNode#callEvent(Event, DispatchBudget)
+ */
+public interface SlicedCall<E extends Event> {
+
+    /**
+     * Retrieve the called event.
+     *
+     * @return called event.
+     */
+    @NotNull
+    E event();
+
+    /**
+     * Runs the next slice of listeners, within the budget.
+     *
+     * @param budget budget of the slice.
+     *
+     * @return true if every listener has been run, the call doesn't need to be resumed again.
+     */
+    boolean resume(@NotNull DispatchBudget budget);
+
+    /**
+     * Checks whether every listener has been run.
+     *
+     * @return true if the call doesn't need to be resumed again.
+     */
+    boolean done();
+
+    /**
+     * Retrieve the amount of listeners left to be run by the next slices.
+     *
+     * @return remaining listeners.
+     */
+    int remaining();
+
+    /**
+     * Retrieve the future of the call, spanning every slice.
+     * <p>
+     * The future completes like the one returned by {@link fr.atlasworld.event.api.EventNode#callEvent(Event)}
+     * once the last slice ran and every asynchronous listener completed.
+     *
+     * @return future of the call.
+     */
+    @NotNull
+    CompletableFuture<E> future();
+}
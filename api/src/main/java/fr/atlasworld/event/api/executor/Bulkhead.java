@@ -0,0 +1,64 @@
+package fr.atlasworld.event.api.executor;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Bulkhead of a node, limiting the asynchronous listener requests in flight in its subtree.
+ * <p>
+ * Permits are acquired without blocking, once every permit is taken the {@link BulkheadPolicy policy} of the bulkhead applies.
+ * Listeners using the {@link EventExecutor#syncExecutor} are not limited, they never occupy an executor.
+ *
+ * @see fr.atlasworld.event.api.EventNode#bulkhead(int, int, BulkheadPolicy)
+ */
+public interface Bulkhead {
+
+    /**
+     * Retrieve the policy applied once the bulkhead is saturated.
+     *
+     * @return policy of the bulkhead.
+     */
+    @NotNull
+    BulkheadPolicy policy();
+
+    /**
+     * Retrieve the maximum amount of requests in flight.
+     *
+     * @return maximum requests in flight.
+     */
+    int maxInFlight();
+
+    /**
+     * Retrieve the amount of requests in flight.
+     *
+     * @return requests in flight.
+     */
+    int inFlight();
+
+    /**
+     * Retrieve the amount of requests waiting in the bulkhead queue.
+     *
+     * @return queued requests.
+     */
+    int queued();
+
+    /**
+     * Retrieve how many requests found every permit taken.
+     *
+     * @return amount of saturated requests.
+     */
+    long saturated();
+
+    /**
+     * Retrieve how many requests were executed on the thread calling the event.
+     *
+     * @return amount of inlined requests.
+     */
+    long inlined();
+
+    /**
+     * Retrieve how many requests were rejected.
+     *
+     * @return amount of rejected requests.
+     */
+    long rejected();
+}
@@ -0,0 +1,22 @@
+package fr.atlasworld.event.api.executor;
+
+/**
+ * Policy of a {@link Bulkhead} once its in-flight requests reached the limit.
+ */
+public enum BulkheadPolicy {
+
+    /**
+     * Requests wait in the bulkhead queue until a request completes, requests exceeding the queue size are rejected.
+     */
+    QUEUE,
+
+    /**
+     * Requests are executed on the thread calling the event, slowing down the caller instead of the executor.
+     */
+    RUN_INLINE,
+
+    /**
+     * Requests are rejected, the listener fails with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    REJECT
+}
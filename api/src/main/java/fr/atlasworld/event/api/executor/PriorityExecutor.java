@@ -0,0 +1,88 @@
+package fr.atlasworld.event.api.executor;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.EventFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Executor sharing its threads between priority lanes.
+ * <p>
+ * Each lane has its own queue and a weight, threads pick their next request from the non-empty lanes
+ * in proportion to their weights, so a flood of requests on a low priority lane only delays the other lanes
+ * by its share of the threads. Requests waiting longer than the maximum queue time are picked first, whatever their lane,
+ * so low priority lanes never starve.
+ * <br>
+ * Listeners choose their lane with {@link fr.atlasworld.event.api.listener.EventListenerBuilder#executor(EventExecutor) executor(executor.lane(name))}
+ * or {@link fr.atlasworld.event.api.listener.EventListenerBuilder#lane(String)}.
+ */
+public interface PriorityExecutor extends EventExecutor, AutoCloseable {
+
+    /**
+     * Create a new priority executor, starting its threads.
+     *
+     * @param name name of the executor.
+     * @param threads amount of threads executing the requests.
+     * @param builder lanes builder, at least one lane must be declared.
+     *
+     * @return newly created executor.
+     * @throws IllegalArgumentException if {@code threads} is not strictly positive.
+     * @throws IllegalStateException if no lane was declared.
+     */
+    static PriorityExecutor create(@NotNull String name, int threads, @NotNull Consumer<PriorityExecutorBuilder> builder) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkNotNull(builder);
+        Preconditions.checkArgument(threads > 0, "Threads must be strictly positive!");
+
+        return EventFlow.BRIDGE.createPriorityExecutor(name, threads, builder);
+    }
+
+    /**
+     * Requests the execution of an {@link EventRequest} on the default lane, the first declared lane.
+     *
+     * @param request request to be executed.
+     *
+     * @return future that will be completed once the request has been executed.
+     * @throws java.util.concurrent.RejectedExecutionException if this executor is closed.
+     */
+    @Override
+    CompletableFuture<Void> request(@NotNull EventRequest request);
+
+    /**
+     * Retrieve an executor requesting on a lane of this executor.
+     *
+     * @param lane name of the lane.
+     *
+     * @return executor of the lane.
+     * @throws IllegalArgumentException if no lane is named {@code lane}.
+     */
+    @NotNull
+    EventExecutor lane(@NotNull String lane);
+
+    /**
+     * Retrieve the names of the lanes, in declaration order.
+     *
+     * @return lanes of this executor.
+     */
+    @NotNull
+    List<String> lanes();
+
+    /**
+     * Retrieve the amount of requests waiting in a lane.
+     *
+     * @param lane name of the lane.
+     *
+     * @return amount of queued requests.
+     * @throws IllegalArgumentException if no lane is named {@code lane}.
+     */
+    int queueDepth(@NotNull String lane);
+
+    /**
+     * Closes this executor, queued requests are still executed before the threads stop.
+     */
+    @Override
+    void close();
+}
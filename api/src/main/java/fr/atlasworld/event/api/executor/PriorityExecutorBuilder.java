@@ -0,0 +1,43 @@
+package fr.atlasworld.event.api.executor;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import fr.atlasworld.common.annotation.OptionalBuilderArgument;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Priority Executor Builder, declares the lanes of a {@link PriorityExecutor}.
+ */
+public interface PriorityExecutorBuilder {
+
+    /**
+     * Declares a lane.
+     * <p>
+     * When several lanes hold requests, each lane gets a share of the picked requests proportional to its weight.
+     *
+     * @param name name of the lane.
+     * @param weight weight of the lane.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code weight} is not strictly positive, or a lane is already named {@code name}.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    PriorityExecutorBuilder lane(@NotNull String name, int weight);
+
+    /**
+     * Sets the maximum time a request waits before being picked ahead of the lane weights.
+     * <br>
+     * Defaults to 1 second.
+     *
+     * @param maxQueueTime maximum queue time.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code maxQueueTime} is not strictly positive.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    PriorityExecutorBuilder maxQueueTime(@NotNull Duration maxQueueTime);
+}
@@ -2,9 +2,27 @@ package fr.atlasworld.event.api.internal;
 
 import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.bridge.EventBridge;
+import fr.atlasworld.event.api.bridge.EventBridgeServer;
+import fr.atlasworld.event.api.channel.EventChannel;
+import fr.atlasworld.event.api.channel.EventLayout;
+import fr.atlasworld.event.api.executor.PriorityExecutor;
+import fr.atlasworld.event.api.executor.PriorityExecutorBuilder;
+import fr.atlasworld.event.api.journal.EventJournal;
+import fr.atlasworld.event.api.journal.JournalBuilder;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.api.record.EventRecorder;
+import fr.atlasworld.event.api.schedule.EventScheduler;
+import fr.atlasworld.event.api.trace.EventTracer;
+import fr.atlasworld.event.api.trace.TraceRecorder;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -14,4 +32,28 @@ import java.util.function.Predicate;
 public interface ApiBridge {
 
     public <E extends Event> EventNode<E> createEventNode(String name, Class<E> eventType, @Nullable Predicate<E> filter);
+
+    public void installTracer(EventTracer tracer);
+
+    public TraceRecorder createTraceRecorder(int capacity, double sampleRate);
+
+    public EventRecorder openEventRecorder(Path file, EventCodecs codecs) throws IOException;
+
+    public EventJournal openEventJournal(Path directory, EventCodecs codecs, Consumer<JournalBuilder> builder) throws IOException;
+
+    public <E extends Event> EventNode<E> createJournalNode(String name, Class<E> eventType, EventJournal journal);
+
+    public EventBridge connectEventBridge(SocketAddress address, EventCodecs codecs) throws IOException;
+
+    public EventBridgeServer listenEventBridge(SocketAddress address, EventCodecs codecs, EventNode<Event> root) throws IOException;
+
+    public <E extends Event> EventNode<E> createBridgeNode(String name, Class<E> eventType, EventBridge bridge);
+
+    public EventChannel createEventChannel(String name, EventLayout layout, int capacity);
+
+    public EventScheduler createEventScheduler(Duration tickDuration, boolean wallClock);
+
+    public EventScheduler sharedEventScheduler();
+
+    public PriorityExecutor createPriorityExecutor(String name, int threads, Consumer<PriorityExecutorBuilder> builder);
 }
@@ -0,0 +1,35 @@
+package fr.atlasworld.event.api.internal;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.query.QueryEvent;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Internal Stuff, gives the dispatching node access to the queries it concludes.
+ * Messing with this is highly not recommended.
+ */
+@ApiStatus.Internal
+public final class QueryAccess {
+    private static Consumer<QueryEvent<?, ?>> concluder; // Installed by QueryEvent, before any query exists.
+
+    private QueryAccess() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void install(@NotNull Consumer<QueryEvent<?, ?>> concluder) {
+        Preconditions.checkState(QueryAccess.concluder == null, "Query access already installed!");
+        QueryAccess.concluder = concluder;
+    }
+
+    /**
+     * Concludes a query once every listener ran, answering the responses accumulated so far.
+     *
+     * @param query query to conclude.
+     */
+    public static void conclude(@NotNull QueryEvent<?, ?> query) {
+        concluder.accept(query);
+    }
+}
@@ -0,0 +1,93 @@
+package fr.atlasworld.event.api.journal;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.EventFlow;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.record.EventCodecs;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Durable journal of events, stored in segmented memory-mapped files on local disk.
+ * <p>
+ * Events are appended by journal nodes, created with {@link EventNode#journaled(String, Class, EventJournal)},
+ * before being dispatched to the listeners of the node.
+ * Event calls only complete once their event was committed to disk.
+ * <br>
+ * Every appended event gets a sequential offset, consumers can resume reading from any retained offset.
+ *
+ * @see EventCodecs
+ */
+public interface EventJournal extends Closeable {
+
+    /**
+     * Opens a journal, resuming after the entries already stored in {@code directory}.
+     *
+     * @param directory directory of the journal segments.
+     * @param codecs codecs used to serialize the events, events without a codec can't be journaled.
+     *
+     * @return opened journal.
+     * @throws IOException if the journal could not be opened.
+     * @throws NullPointerException if {@code directory} or {@code codecs} is {@code null}.
+     */
+    static EventJournal open(@NotNull Path directory, @NotNull EventCodecs codecs) throws IOException {
+        return open(directory, codecs, builder -> {});
+    }
+
+    /**
+     * Opens a journal, resuming after the entries already stored in {@code directory}.
+     *
+     * @param directory directory of the journal segments.
+     * @param codecs codecs used to serialize the events, events without a codec can't be journaled.
+     * @param builder journal builder.
+     *
+     * @return opened journal.
+     * @throws IOException if the journal could not be opened.
+     * @throws NullPointerException if {@code directory}, {@code codecs} or {@code builder} is {@code null}.
+     */
+    static EventJournal open(@NotNull Path directory, @NotNull EventCodecs codecs, @NotNull Consumer<JournalBuilder> builder) throws IOException {
+        Preconditions.checkNotNull(directory);
+        Preconditions.checkNotNull(codecs);
+        Preconditions.checkNotNull(builder);
+
+        return EventFlow.BRIDGE.openEventJournal(directory, codecs, builder);
+    }
+
+    /**
+     * Retrieve the first offset still retained by this journal.
+     *
+     * @return first retained offset.
+     */
+    long firstOffset();
+
+    /**
+     * Retrieve the offset following the last committed entry, entries below it are durable.
+     *
+     * @return committed offset.
+     */
+    long committedOffset();
+
+    /**
+     * Opens a cursor reading the committed entries from an offset.
+     *
+     * @param offset offset of the first entry to read.
+     *
+     * @return newly opened cursor.
+     * @throws IOException if the journal could not be read.
+     * @throws JournalTruncatedException if {@code offset} is no longer retained.
+     */
+    @NotNull
+    JournalCursor read(long offset) throws IOException;
+
+    /**
+     * Closes this journal, committing every appended event.
+     *
+     * @throws IOException if the journal could not be committed.
+     */
+    @Override
+    void close() throws IOException;
+}
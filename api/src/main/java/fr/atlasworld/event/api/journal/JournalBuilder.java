@@ -0,0 +1,78 @@
+package fr.atlasworld.event.api.journal;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import fr.atlasworld.common.annotation.OptionalBuilderArgument;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Journal Builder, sets the segment, group commit and retention options of a journal.
+ */
+public interface JournalBuilder {
+
+    /**
+     * Sets the size of the journal segments, a new segment is rolled once the current one is full.
+     * <br>
+     * Defaults to 64MiB.
+     *
+     * @param bytes size of a segment, in bytes.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code bytes} is below 4KiB.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    JournalBuilder segmentSize(int bytes);
+
+    /**
+     * Sets how appended events are committed to disk.
+     * <p>
+     * Appended events are synced in batches, a batch is synced once it holds {@code maxBatch} events
+     * or once its oldest event waited for {@code maxDelay}.
+     * Events are only acknowledged once synced.
+     * <br>
+     * Defaults to 2 milliseconds and 256 events.
+     *
+     * @param maxDelay maximum time an event waits before being synced.
+     * @param maxBatch maximum amount of events synced at once.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code maxDelay} is negative, or {@code maxBatch} is not strictly positive.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    JournalBuilder groupCommit(@NotNull Duration maxDelay, int maxBatch);
+
+    /**
+     * Sets the maximum amount of segments kept, older segments are deleted when rolling a new segment.
+     * <br>
+     * Defaults to {@code 0}, keeping every segment.
+     *
+     * @param segments maximum amount of segments, or {@code 0} for no limit.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code segments} is negative.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    JournalBuilder retainSegments(int segments);
+
+    /**
+     * Sets how long segments are kept once rolled, older segments are deleted when rolling a new segment.
+     * <br>
+     * Defaults to keeping segments forever.
+     *
+     * @param retention retention of rolled segments.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code retention} is negative.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    JournalBuilder retainFor(@NotNull Duration retention);
+}
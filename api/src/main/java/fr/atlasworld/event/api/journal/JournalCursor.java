@@ -0,0 +1,33 @@
+package fr.atlasworld.event.api.journal;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Cursor reading the committed entries of a journal, in order.
+ * <p>
+ * Cursors are not thread-safe, they are meant to be consumed by a single thread.
+ */
+public interface JournalCursor extends Closeable {
+
+    /**
+     * Reads the next committed entry.
+     * <p>
+     * Entries committed after the end was reached are returned by later calls.
+     *
+     * @return next entry, or {@code null} if every committed entry has been read.
+     * @throws IOException if the journal could not be read or decoded.
+     * @throws JournalTruncatedException if the next entry got deleted by the retention policy.
+     */
+    @Nullable
+    JournalEntry next() throws IOException;
+
+    /**
+     * Retrieve the offset of the next entry to read, to be stored and resumed from later.
+     *
+     * @return offset of the next entry.
+     */
+    long offset();
+}
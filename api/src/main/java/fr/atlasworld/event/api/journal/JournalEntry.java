@@ -0,0 +1,47 @@
+package fr.atlasworld.event.api.journal;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Event read from a journal.
+ */
+public final class JournalEntry {
+    private final long offset;
+    private final long timestamp;
+    private final Event event;
+
+    public JournalEntry(long offset, long timestamp, @NotNull Event event) {
+        this.offset = offset;
+        this.timestamp = timestamp;
+        this.event = event;
+    }
+
+    /**
+     * Retrieve the offset of this entry in the journal.
+     *
+     * @return journal offset.
+     */
+    public long offset() {
+        return this.offset;
+    }
+
+    /**
+     * Retrieve the time the event was appended.
+     *
+     * @return append time, in milliseconds since the epoch.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Retrieve the journaled event.
+     *
+     * @return decoded event.
+     */
+    @NotNull
+    public Event event() {
+        return this.event;
+    }
+}
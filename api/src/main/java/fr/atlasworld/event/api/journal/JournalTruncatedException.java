@@ -0,0 +1,27 @@
+package fr.atlasworld.event.api.journal;
+
+import java.io.IOException;
+
+/**
+ * Thrown when reading an offset whose segment was deleted by the retention policy of the journal.
+ */
+public class JournalTruncatedException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final long firstOffset;
+
+    public JournalTruncatedException(long offset, long firstOffset) {
+        super("Offset " + offset + " is no longer retained, journal starts at offset " + firstOffset);
+
+        this.firstOffset = firstOffset;
+    }
+
+    /**
+     * Retrieve the first offset still retained by the journal.
+     *
+     * @return first retained offset.
+     */
+    public long firstOffset() {
+        return this.firstOffset;
+    }
+}
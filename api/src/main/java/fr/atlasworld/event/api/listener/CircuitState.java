@@ -0,0 +1,25 @@
+package fr.atlasworld.event.api.listener;
+
+/**
+ * State of the circuit breaker of a listener.
+ *
+ * @see EventListenerBuilder#circuitBreaker(int, java.time.Duration, java.time.Duration, java.util.function.Consumer)
+ */
+public enum CircuitState {
+
+    /**
+     * Listener is healthy, events go through the listener.
+     */
+    CLOSED,
+
+    /**
+     * Listener failed too many times, events are skipped until the cooldown elapsed.
+     */
+    OPEN,
+
+    /**
+     * Cooldown elapsed, a trial event goes through the listener.
+     * The circuit closes if the trial succeeds, and opens again otherwise.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,69 @@
+package fr.atlasworld.event.api.listener;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Adapter binding the {@link fr.atlasworld.event.api.annotation.EventHandler} methods of a {@link EventListener} class.
+ * <p>
+ * Adapters are generated at compile time by the EventFlow annotation processor,
+ * and named after the listener class with the {@code $EventFlowAdapter} suffix.
+ * When an adapter is present, listener classes are registered without any reflection.
+ *
+ * @param <L> listener type.
+ */
+@ApiStatus.Internal
+public interface EventListenerAdapter<L extends EventListener> {
+
+    /**
+     * Suffix appended to the binary name of the listener class to get the name of its adapter.
+     */
+    String SUFFIX = "$EventFlowAdapter";
+
+    /**
+     * Binds every handler method of the listener class.
+     *
+     * @param binder binder receiving the handler methods.
+     */
+    void bind(@NotNull Binder<L> binder);
+
+    /**
+     * Receives the handler methods of a listener class.
+     *
+     * @param <L> listener type.
+     */
+    interface Binder<L extends EventListener> {
+
+        /**
+         * Binds a handler method.
+         *
+         * @param name name of the method.
+         * @param eventType event type handled by the method.
+         * @param method invoker of the method.
+         *
+         * @param <E> event type.
+         */
+        <E extends Event> void bind(@NotNull String name, @NotNull Class<E> eventType, @NotNull HandlerMethod<L, E> method);
+    }
+
+    /**
+     * Invokes a handler method on a listener instance.
+     *
+     * @param <L> listener type.
+     * @param <E> event type.
+     */
+    @FunctionalInterface
+    interface HandlerMethod<L extends EventListener, E extends Event> {
+
+        /**
+         * Invokes the handler method.
+         *
+         * @param listener listener instance.
+         * @param event event called.
+         *
+         * @throws Throwable if something went wrong.
+         */
+        void invoke(L listener, E event) throws Throwable;
+    }
+}
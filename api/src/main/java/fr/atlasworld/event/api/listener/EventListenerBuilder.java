@@ -7,6 +7,7 @@ import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.executor.EventExecutor;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
 import java.util.EventListener;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -30,6 +31,21 @@ public interface EventListenerBuilder<E extends Event> {
     @OptionalBuilderArgument
     EventListenerBuilder<E> executor(@NotNull EventExecutor executor);
 
+    /**
+     * Sets the lane of this listener, the executor of this listener must be a {@link fr.atlasworld.event.api.executor.PriorityExecutor}.
+     * <p>
+     * The lane is resolved when the listener is registered, registering the listener fails with an {@link IllegalStateException}
+     * if its executor is not a priority executor, or an {@link IllegalArgumentException} if the executor has no such lane.
+     *
+     * @param lane name of the lane requests of this listener are queued in.
+     *
+     * @return instance of this builder.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    EventListenerBuilder<E> lane(@NotNull String lane);
+
     /**
      * Sets the handler when the listener fails to properly handle the event.
      *
@@ -78,4 +94,95 @@ public interface EventListenerBuilder<E extends Event> {
     @CanIgnoreReturnValue
     @OptionalBuilderArgument
     EventListenerBuilder<E> expireWhen(@NotNull Predicate<E> condition);
+
+    /**
+     * Sets the sampling rate of this listener, only a fraction of the events will go through the listener.
+     * <p>
+     * Sampling is decided on the thread calling the event, before the listener is requested on its executor,
+     * sampled out events never reach the executor.
+     *
+     * @param rate fraction of events passed to the listener, between {@code 0.0} and {@code 1.0}.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code rate} is not between {@code 0.0} and {@code 1.0}.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    EventListenerBuilder<E> sample(double rate);
+
+    /**
+     * Limits how many events per second will go through this listener,
+     * events exceeding the limit are skipped.
+     * <p>
+     * The limit is checked on the thread calling the event, before the listener is requested on its executor,
+     * limited events never reach the executor.
+     *
+     * @param permitsPerSecond maximum amount of events handled per second.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code permitsPerSecond} is not strictly positive.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    EventListenerBuilder<E> rateLimit(double permitsPerSecond);
+
+    /**
+     * Holds the {@link fr.atlasworld.event.api.listener.EventListener} class weakly,
+     * once the listener instance is garbage collected it gets unregistered from its node.
+     * <p>
+     * Only applies to listeners registered with {@link fr.atlasworld.event.api.EventNode#addListener(fr.atlasworld.event.api.listener.EventListener, Consumer)},
+     * lambda handlers are always held strongly.
+     *
+     * @return instance of this builder.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    EventListenerBuilder<E> weak();
+
+    /**
+     * Protects this listener with a circuit breaker.
+     * <p>
+     * Once the listener failed {@code failureThreshold} times within {@code window},
+     * events are skipped on the thread calling the event until {@code cooldown} elapsed.
+     * A single trial event is then passed to the listener, closing the circuit if it succeeds.
+     *
+     * @param failureThreshold failures opening the circuit.
+     * @param window time window in which the failures are counted.
+     * @param cooldown time the circuit stays open before a trial event is let through.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code failureThreshold} is not strictly positive,
+     *                                  or if {@code window} or {@code cooldown} is not positive.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    default EventListenerBuilder<E> circuitBreaker(int failureThreshold, @NotNull Duration window, @NotNull Duration cooldown) {
+        return this.circuitBreaker(failureThreshold, window, cooldown, state -> {});
+    }
+
+    /**
+     * Protects this listener with a circuit breaker.
+     * <p>
+     * Once the listener failed {@code failureThreshold} times within {@code window},
+     * events are skipped on the thread calling the event until {@code cooldown} elapsed.
+     * A single trial event is then passed to the listener, closing the circuit if it succeeds.
+     *
+     * @param failureThreshold failures opening the circuit.
+     * @param window time window in which the failures are counted.
+     * @param cooldown time the circuit stays open before a trial event is let through.
+     * @param stateHandler consumer notified when the circuit changes state.
+     *
+     * @return instance of this builder.
+     * @throws IllegalArgumentException if {@code failureThreshold} is not strictly positive,
+     *                                  or if {@code window} or {@code cooldown} is not positive.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    @OptionalBuilderArgument
+    EventListenerBuilder<E> circuitBreaker(int failureThreshold, @NotNull Duration window, @NotNull Duration cooldown,
+                                           @NotNull Consumer<CircuitState> stateHandler);
 }
@@ -0,0 +1,19 @@
+package fr.atlasworld.event.api.listener;
+
+import fr.atlasworld.event.api.channel.IntChannel;
+
+/**
+ * Handler of an {@link IntChannel}, receiving the value without it being boxed or wrapped into an event.
+ */
+@FunctionalInterface
+public interface IntEventHandler {
+
+    /**
+     * Handles the value.
+     *
+     * @param value value called.
+     *
+     * @throws Throwable if something went wrong.
+     */
+    void handle(int value) throws Throwable;
+}
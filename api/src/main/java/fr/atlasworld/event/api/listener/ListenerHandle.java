@@ -0,0 +1,28 @@
+package fr.atlasworld.event.api.listener;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+/**
+ * Handle of a registered listener, allows the listener to be removed from its node.
+ * <p>
+ * Handles of {@link EventListener} classes cover every handler method of the class.
+ */
+public interface ListenerHandle {
+
+    /**
+     * Unregisters the listener from its node.
+     * <br>
+     * The listener will not receive any event called after this method returns.
+     *
+     * @return true if the listener was unregistered, false if it was already unregistered or expired.
+     */
+    @CanIgnoreReturnValue
+    boolean unregister();
+
+    /**
+     * Checks whether the listener is still registered.
+     *
+     * @return true if the listener is registered and has not expired.
+     */
+    boolean registered();
+}
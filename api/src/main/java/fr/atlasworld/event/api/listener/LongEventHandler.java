@@ -0,0 +1,19 @@
+package fr.atlasworld.event.api.listener;
+
+import fr.atlasworld.event.api.channel.LongChannel;
+
+/**
+ * Handler of a {@link LongChannel}, receiving the value without it being boxed or wrapped into an event.
+ */
+@FunctionalInterface
+public interface LongEventHandler {
+
+    /**
+     * Handles the value.
+     *
+     * @param value value called.
+     *
+     * @throws Throwable if something went wrong.
+     */
+    void handle(long value) throws Throwable;
+}
@@ -0,0 +1,97 @@
+package fr.atlasworld.event.api.query;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.internal.QueryAccess;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Event asking its listeners a question, the responses of the listeners are reduced into an answer as they arrive.
+ * <p>
+ * Once the reducer decides the answer, the {@link #answer()} completes and the listeners that did not run yet are skipped,
+ * queued asynchronous listeners included. Listeners may respond from any thread.
+ *
+ * @param <V> type of the responses.
+ * @param <R> type of the answer.
+ *
+ * @see fr.atlasworld.event.api.EventNode#query(QueryEvent)
+ */
+@ThreadSafe
+public abstract class QueryEvent<V, R> implements Event {
+    static {
+        QueryAccess.install(QueryEvent::conclude);
+    }
+
+    @GuardedBy("this")
+    private final QueryReducer<V, R> reducer;
+    private final CompletableFuture<R> answer;
+
+    private volatile boolean decided;
+
+    protected QueryEvent(@NotNull QueryReducer<V, R> reducer) {
+        Preconditions.checkNotNull(reducer);
+
+        this.reducer = reducer;
+        this.answer = new CompletableFuture<>();
+    }
+
+    /**
+     * Responds to this query.
+     *
+     * @param response response of the listener.
+     *
+     * @return true if the response was accumulated, false if the answer was already decided.
+     */
+    public final boolean respond(@NotNull V response) {
+        Preconditions.checkNotNull(response);
+
+        R result;
+        synchronized (this) {
+            if (this.decided)
+                return false;
+
+            if (!this.reducer.accumulate(response))
+                return true;
+
+            this.decided = true;
+            result = this.reducer.result();
+        }
+
+        this.answer.complete(result);
+        return true;
+    }
+
+    /**
+     * Checks whether the answer of this query is decided, further responses are ignored.
+     *
+     * @return true if decided.
+     */
+    public final boolean decided() {
+        return this.decided;
+    }
+
+    // Called by the node dispatching the query, through QueryAccess.
+    private void conclude() {
+        R result;
+        synchronized (this) {
+            this.decided = true;
+            result = this.reducer.result();
+        }
+
+        this.answer.complete(result);
+    }
+
+    /**
+     * Retrieve the answer of this query.
+     *
+     * @return future completed once the answer is decided, or every listener ran.
+     */
+    @NotNull
+    public final CompletableFuture<R> answer() {
+        return this.answer;
+    }
+}
@@ -0,0 +1,33 @@
+package fr.atlasworld.event.api.query;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reduces the responses of the listeners of a {@link QueryEvent} into its answer.
+ * <p>
+ * Reducers are stateful and bound to a single query, they are never called concurrently.
+ *
+ * @param <V> type of the responses.
+ * @param <R> type of the answer.
+ *
+ * @see QueryReducers
+ */
+public interface QueryReducer<V, R> {
+
+    /**
+     * Accumulates a response.
+     *
+     * @param response response of a listener.
+     *
+     * @return true if the answer is decided, no further response can change it.
+     */
+    boolean accumulate(@NotNull V response);
+
+    /**
+     * Retrieve the answer from the responses accumulated so far.
+     *
+     * @return answer of the query.
+     */
+    @NotNull
+    R result();
+}
@@ -0,0 +1,99 @@
+package fr.atlasworld.event.api.query;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Common {@link QueryReducer}s, every call creates a new reducer.
+ */
+public final class QueryReducers {
+    private QueryReducers() {
+    }
+
+    /**
+     * Answers the first response, decided as soon as a listener responds.
+     *
+     * @param <V> type of the responses.
+     *
+     * @return new reducer, answering an empty optional if no listener responded.
+     */
+    @NotNull
+    public static <V> QueryReducer<V, Optional<V>> first() {
+        return new QueryReducer<>() {
+            private V first;
+
+            @Override
+            public boolean accumulate(@NotNull V response) {
+                this.first = response;
+                return true;
+            }
+
+            @Override
+            public @NotNull Optional<V> result() {
+                return Optional.ofNullable(this.first);
+            }
+        };
+    }
+
+    /**
+     * Answers whether any response matches a predicate, decided as soon as a response matches.
+     *
+     * @param predicate predicate the responses are tested against.
+     * @param <V> type of the responses.
+     *
+     * @return new reducer, answering {@code false} if no response matched.
+     */
+    @NotNull
+    public static <V> QueryReducer<V, Boolean> anyMatch(@NotNull Predicate<? super V> predicate) {
+        Preconditions.checkNotNull(predicate);
+
+        return new QueryReducer<>() {
+            private boolean matched;
+
+            @Override
+            public boolean accumulate(@NotNull V response) {
+                this.matched = predicate.test(response);
+                return this.matched;
+            }
+
+            @Override
+            public @NotNull Boolean result() {
+                return this.matched;
+            }
+        };
+    }
+
+    /**
+     * Collects the responses, decided once {@code limit} responses were collected.
+     *
+     * @param limit maximum amount of responses.
+     * @param <V> type of the responses.
+     *
+     * @return new reducer, answering the responses in the order they were received.
+     * @throws IllegalArgumentException if {@code limit} is not strictly positive.
+     */
+    @NotNull
+    public static <V> QueryReducer<V, List<V>> collect(int limit) {
+        Preconditions.checkArgument(limit > 0, "Limit must be strictly positive!");
+
+        return new QueryReducer<>() {
+            private final List<V> responses = new ArrayList<>();
+
+            @Override
+            public boolean accumulate(@NotNull V response) {
+                this.responses.add(response);
+                return this.responses.size() >= limit;
+            }
+
+            @Override
+            public @NotNull List<V> result() {
+                return List.copyOf(this.responses);
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package fr.atlasworld.event.api.record;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Codec serializing the payload of an event, so it can be recorded and replayed.
+ *
+ * @param <E> event type.
+ */
+public interface EventCodec<E extends Event> {
+
+    /**
+     * Writes the payload of an event.
+     *
+     * @param event event to encode.
+     * @param out output to write to.
+     *
+     * @throws IOException if the payload could not be written.
+     */
+    void encode(@NotNull E event, @NotNull DataOutput out) throws IOException;
+
+    /**
+     * Reads the payload of an event, written by {@link #encode(Event, DataOutput)}.
+     *
+     * @param in input to read from.
+     *
+     * @return decoded event.
+     * @throws IOException if the payload could not be read.
+     */
+    @NotNull
+    E decode(@NotNull DataInput in) throws IOException;
+}
@@ -0,0 +1,71 @@
+package fr.atlasworld.event.api.record;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the codecs used to record and replay events.
+ * <p>
+ * Codecs are looked up by exact event class, events without a codec are not recorded.
+ */
+@ThreadSafe
+public final class EventCodecs {
+    private final Map<String, EventCodec<?>> codecs;
+
+    public EventCodecs() {
+        this.codecs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers the codec of an event type.
+     *
+     * @param eventType event type.
+     * @param codec codec of the event type.
+     *
+     * @param <E> event type.
+     * @return this registry.
+     * @throws NullPointerException if {@code eventType} or {@code codec} is {@code null}.
+     */
+    @NotNull
+    @CanIgnoreReturnValue
+    public <E extends Event> EventCodecs register(@NotNull Class<E> eventType, @NotNull EventCodec<E> codec) {
+        Preconditions.checkNotNull(eventType);
+        Preconditions.checkNotNull(codec);
+
+        this.codecs.put(eventType.getName(), codec);
+        return this;
+    }
+
+    /**
+     * Retrieve the codec of an event type.
+     *
+     * @param eventType event type.
+     *
+     * @param <E> event type.
+     * @return codec of the event type, or {@code null} if none was registered.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <E extends Event> EventCodec<E> codec(@NotNull Class<E> eventType) {
+        return (EventCodec<E>) this.codecs.get(eventType.getName());
+    }
+
+    /**
+     * Retrieve the codec of an event type by its class name, as stored in recordings.
+     *
+     * @param eventType name of the event class.
+     *
+     * @return codec of the event type, or {@code null} if none was registered.
+     */
+    @Nullable
+    public EventCodec<?> codec(@NotNull String eventType) {
+        return this.codecs.get(eventType);
+    }
+}
@@ -0,0 +1,72 @@
+package fr.atlasworld.event.api.record;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventFlow;
+import fr.atlasworld.event.api.EventNode;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Recorder of event calls, writing the class, timestamp and payload of every event
+ * to a compact append-only memory-mapped log.
+ * <p>
+ * Recorders are attached to a root node with {@link EventNode#recordEvents(EventRecorder)}.
+ *
+ * @see EventCodecs
+ */
+public interface EventRecorder extends Closeable {
+
+    /**
+     * Opens a recorder, replacing any existing log.
+     *
+     * @param file file of the log.
+     * @param codecs codecs used to serialize the events.
+     *
+     * @return newly opened recorder.
+     * @throws IOException if the log could not be created.
+     * @throws NullPointerException if {@code file} or {@code codecs} is {@code null}.
+     */
+    static EventRecorder open(@NotNull Path file, @NotNull EventCodecs codecs) throws IOException {
+        Preconditions.checkNotNull(file);
+        Preconditions.checkNotNull(codecs);
+
+        return EventFlow.BRIDGE.openEventRecorder(file, codecs);
+    }
+
+    /**
+     * Records an event, events without a codec are skipped.
+     *
+     * @param event event to record.
+     *
+     * @return true if the event was recorded.
+     * @throws IllegalStateException if the recorder is closed.
+     * @throws java.io.UncheckedIOException if the event could not be encoded.
+     */
+    boolean record(@NotNull Event event);
+
+    /**
+     * Retrieve the amount of recorded events.
+     *
+     * @return recorded events.
+     */
+    long recorded();
+
+    /**
+     * Retrieve the amount of events skipped because they had no codec.
+     *
+     * @return skipped events.
+     */
+    long skipped();
+
+    /**
+     * Closes this recorder, trimming the log to its written size.
+     *
+     * @throws IOException if the log could not be trimmed.
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,102 @@
+package fr.atlasworld.event.api.schedule;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.EventFlow;
+import fr.atlasworld.event.api.EventNode;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Scheduler of deferred event calls, backed by a hierarchical timing wheel.
+ * <p>
+ * Time is divided in ticks of a fixed duration, delays are rounded up to the next tick.
+ * Scheduling and cancelling a call are constant time, whatever the amount of pending calls.
+ * <br>
+ * Ticks are either driven by the wall clock from a dedicated thread,
+ * or by an external tick source calling {@link #advance(long)}, like a game loop.
+ * Due events are called on the thread driving the ticks.
+ *
+ * @see EventNode#callEventLater(fr.atlasworld.event.api.Event, Duration)
+ */
+public interface EventScheduler extends AutoCloseable {
+
+    /**
+     * Create a new scheduler driven by the wall clock, starting its thread.
+     *
+     * @param tickDuration duration of a tick.
+     *
+     * @return newly created scheduler.
+     * @throws IllegalArgumentException if {@code tickDuration} is not strictly positive.
+     */
+    static EventScheduler wallClock(@NotNull Duration tickDuration) {
+        Preconditions.checkNotNull(tickDuration);
+        Preconditions.checkArgument(!tickDuration.isNegative() && !tickDuration.isZero(), "Tick duration must be strictly positive!");
+
+        return EventFlow.BRIDGE.createEventScheduler(tickDuration, true);
+    }
+
+    /**
+     * Create a new scheduler driven by {@link #advance(long)}.
+     *
+     * @param tickDuration duration of a tick, used to convert delays into ticks.
+     *
+     * @return newly created scheduler.
+     * @throws IllegalArgumentException if {@code tickDuration} is not strictly positive.
+     */
+    static EventScheduler manual(@NotNull Duration tickDuration) {
+        Preconditions.checkNotNull(tickDuration);
+        Preconditions.checkArgument(!tickDuration.isNegative() && !tickDuration.isZero(), "Tick duration must be strictly positive!");
+
+        return EventFlow.BRIDGE.createEventScheduler(tickDuration, false);
+    }
+
+    /**
+     * Retrieve the shared scheduler, driven by the wall clock with one millisecond ticks.
+     * <p>
+     * Nodes schedule their calls on this scheduler unless told otherwise with {@link EventNode#scheduleWith(EventScheduler)}.
+     *
+     * @return shared scheduler.
+     */
+    static EventScheduler shared() {
+        return EventFlow.BRIDGE.sharedEventScheduler();
+    }
+
+    /**
+     * Retrieve the duration of a tick.
+     *
+     * @return tick duration.
+     */
+    @NotNull
+    Duration tickDuration();
+
+    /**
+     * Retrieve the last tick processed by this scheduler.
+     *
+     * @return current tick.
+     */
+    long currentTick();
+
+    /**
+     * Retrieve the amount of calls scheduled and not yet called or cancelled.
+     *
+     * @return pending calls.
+     */
+    int pending();
+
+    /**
+     * Advances this scheduler, calling the events due in the elapsed ticks on the current thread.
+     *
+     * @param ticks amount of ticks to advance.
+     *
+     * @throws IllegalArgumentException if {@code ticks} is negative.
+     * @throws IllegalStateException if this scheduler is driven by the wall clock.
+     */
+    void advance(long ticks);
+
+    /**
+     * Closes this scheduler, cancelling every pending call.
+     */
+    @Override
+    void close();
+}
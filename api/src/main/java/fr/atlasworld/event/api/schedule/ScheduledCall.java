@@ -0,0 +1,47 @@
+package fr.atlasworld.event.api.schedule;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handle of an event call scheduled on an {@link EventScheduler}.
+ *
+ * @param <E> type of the event.
+ */
+public interface ScheduledCall<E extends Event> {
+
+    /**
+     * Retrieve the scheduled event.
+     *
+     * @return scheduled event.
+     */
+    @NotNull
+    E event();
+
+    /**
+     * Retrieve the future of the call.
+     * <p>
+     * The future completes like the one returned by {@link fr.atlasworld.event.api.EventNode#callEvent(Event)}
+     * once the event was called, and is cancelled if the call is cancelled.
+     *
+     * @return future of the call.
+     */
+    @NotNull
+    CompletableFuture<E> future();
+
+    /**
+     * Cancels the call, if the event was not called yet.
+     *
+     * @return true if the call was cancelled, false if it was already called or cancelled.
+     */
+    boolean cancel();
+
+    /**
+     * Checks whether the call was cancelled.
+     *
+     * @return true if the call was cancelled.
+     */
+    boolean cancelled();
+}
@@ -0,0 +1,93 @@
+package fr.atlasworld.event.api.trace;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventFlow;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tracer of the event dispatches, opening a span for each dispatch and for each listener execution.
+ * <p>
+ * A tracer can be provided as a service ({@code META-INF/services/fr.atlasworld.event.api.trace.EventTracer}),
+ * or installed at runtime with {@link #install(EventTracer)}.
+ * <br>
+ * Tracers are called on the hot path of every event call, unsampled dispatches must return {@link Span#NOOP}
+ * which disables tracing for the whole dispatch.
+ * <br>
+ * Sampling is decided by {@link #sample(Event)} before the active span of the calling thread is looked up,
+ * dispatches that are not sampled only start a span when they are called by a traced listener.
+ */
+public interface EventTracer {
+
+    /**
+     * Tracer recording nothing, used when no tracer is installed.
+     */
+    EventTracer NOOP = new EventTracer() {
+        @Override
+        public boolean sample(@NotNull Event event) {
+            return false;
+        }
+
+        @Override
+        public @NotNull Span startDispatch(@NotNull Event event, @NotNull Span parent) {
+            return Span.NOOP;
+        }
+
+        @Override
+        public @NotNull Span startListener(@NotNull Span dispatch, @NotNull String node, @NotNull String listener) {
+            return Span.NOOP;
+        }
+    };
+
+    /**
+     * Installs a tracer, replacing the current one.
+     *
+     * @param tracer tracer to install, or {@link #NOOP} to disable tracing.
+     *
+     * @throws NullPointerException if {@code tracer} is {@code null}.
+     */
+    static void install(@NotNull EventTracer tracer) {
+        Preconditions.checkNotNull(tracer);
+
+        EventFlow.BRIDGE.installTracer(tracer);
+    }
+
+    /**
+     * Decides whether a dispatch is sampled, without looking at the span active on the calling thread.
+     * <br>
+     * Defaults to sampling every dispatch, leaving the decision to {@link #startDispatch(Event, Span)}.
+     *
+     * @param event event being dispatched.
+     *
+     * @return true if the dispatch should be traced.
+     */
+    default boolean sample(@NotNull Event event) {
+        return true;
+    }
+
+    /**
+     * Starts the span of an event dispatch.
+     * <p>
+     * Only called for sampled dispatches, and for dispatches called by a traced listener,
+     * {@code parent} then being the span of that listener, possibly started by a previously installed tracer.
+     *
+     * @param event event being dispatched.
+     * @param parent span active on the thread calling the event, or {@link Span#NOOP}.
+     *
+     * @return span of the dispatch, or {@link Span#NOOP} if the dispatch is not traced.
+     */
+    @NotNull
+    Span startDispatch(@NotNull Event event, @NotNull Span parent);
+
+    /**
+     * Starts the span of a listener execution, only called for sampled dispatches.
+     *
+     * @param dispatch span of the dispatch.
+     * @param node name of the node the listener is registered on.
+     * @param listener identity of the listener.
+     *
+     * @return span of the listener execution.
+     */
+    @NotNull
+    Span startListener(@NotNull Span dispatch, @NotNull String node, @NotNull String listener);
+}
@@ -0,0 +1,51 @@
+package fr.atlasworld.event.api.trace;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Span of an event dispatch, or of a listener execution.
+ * <p>
+ * Listener spans are started on the thread calling the event when the listener is requested,
+ * and propagated to the thread executing the listener.
+ * Events called while a listener span is active are children of that span.
+ */
+public interface Span {
+
+    /**
+     * Span of dispatches that are not sampled, this span records nothing.
+     */
+    Span NOOP = new Span() {
+        @Override
+        public boolean sampled() {
+            return false;
+        }
+
+        @Override
+        public void started() {
+        }
+
+        @Override
+        public void end(@Nullable Throwable failure) {
+        }
+    };
+
+    /**
+     * Checks whether this span is recorded,
+     * children of unsampled spans are never created.
+     *
+     * @return true if the span is sampled.
+     */
+    boolean sampled();
+
+    /**
+     * Marks the start of the execution, after the span waited in its executor.
+     */
+    void started();
+
+    /**
+     * Ends this span.
+     *
+     * @param failure failure of the listener or dispatch, or {@code null} if it succeeded.
+     */
+    void end(@Nullable Throwable failure);
+}
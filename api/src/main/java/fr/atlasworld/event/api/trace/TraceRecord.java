@@ -0,0 +1,125 @@
+package fr.atlasworld.event.api.trace;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Span recorded by a {@link TraceRecorder}.
+ */
+public final class TraceRecord {
+    private final long traceId;
+    private final long spanId;
+    private final long parentId;
+    private final String name;
+    private final String thread;
+    private final long startTime;
+    private final long queueTime;
+    private final long duration;
+    private final String failure;
+
+    public TraceRecord(long traceId, long spanId, long parentId, @NotNull String name, @NotNull String thread,
+                       long startTime, long queueTime, long duration, @Nullable String failure) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentId = parentId;
+        this.name = name;
+        this.thread = thread;
+        this.startTime = startTime;
+        this.queueTime = queueTime;
+        this.duration = duration;
+        this.failure = failure;
+    }
+
+    /**
+     * Retrieve the identifier of the trace, shared by every span caused by the same root dispatch.
+     *
+     * @return trace identifier.
+     */
+    public long traceId() {
+        return this.traceId;
+    }
+
+    /**
+     * Retrieve the identifier of this span.
+     *
+     * @return span identifier.
+     */
+    public long spanId() {
+        return this.spanId;
+    }
+
+    /**
+     * Retrieve the identifier of the parent span.
+     *
+     * @return parent span identifier, or {@code 0} if this span is the root of its trace.
+     */
+    public long parentId() {
+        return this.parentId;
+    }
+
+    /**
+     * Retrieve the name of this span,
+     * the event class for dispatches, {@code node/listener} for listener executions.
+     *
+     * @return span name.
+     */
+    @NotNull
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Retrieve the name of the thread that ended this span.
+     *
+     * @return thread name.
+     */
+    @NotNull
+    public String thread() {
+        return this.thread;
+    }
+
+    /**
+     * Retrieve the start time of this span.
+     *
+     * @return start time, in {@link System#nanoTime()} nanoseconds.
+     */
+    public long startTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Retrieve the time this span waited in its executor before starting.
+     *
+     * @return queue time, in nanoseconds.
+     */
+    public long queueTime() {
+        return this.queueTime;
+    }
+
+    /**
+     * Retrieve the total duration of this span, including its queue time.
+     *
+     * @return duration, in nanoseconds.
+     */
+    public long duration() {
+        return this.duration;
+    }
+
+    /**
+     * Retrieve the failure of this span.
+     *
+     * @return failure description, or {@code null} if it succeeded.
+     */
+    @Nullable
+    public String failure() {
+        return this.failure;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[trace=%x span=%x parent=%x] %s on %s: %.3fms (queued %.3fms)%s",
+                this.traceId, this.spanId, this.parentId, this.name, this.thread,
+                this.duration / 1_000_000D, this.queueTime / 1_000_000D,
+                this.failure == null ? "" : " FAILED: " + this.failure);
+    }
+}
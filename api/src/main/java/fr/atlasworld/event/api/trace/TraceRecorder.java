@@ -0,0 +1,47 @@
+package fr.atlasworld.event.api.trace;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.EventFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Tracer keeping the latest spans in memory, so they can be dumped on demand.
+ */
+public interface TraceRecorder extends EventTracer {
+
+    /**
+     * Create a recorder keeping the latest spans in a ring buffer.
+     *
+     * @param capacity amount of spans kept, rounded up to a power of two.
+     * @param sampleRate fraction of dispatches traced, between {@code 0.0} and {@code 1.0}.
+     *
+     * @return newly created recorder.
+     * @throws IllegalArgumentException if {@code capacity} is not strictly positive,
+     *                                  or if {@code sampleRate} is not between {@code 0.0} and {@code 1.0}.
+     */
+    static TraceRecorder ringBuffer(int capacity, double sampleRate) {
+        Preconditions.checkArgument(capacity > 0, "Capacity must be strictly positive!");
+        Preconditions.checkArgument(sampleRate >= 0.0 && sampleRate <= 1.0, "Sample rate must be between 0 and 1!");
+
+        return EventFlow.BRIDGE.createTraceRecorder(capacity, sampleRate);
+    }
+
+    /**
+     * Sets the fraction of dispatches traced.
+     *
+     * @param sampleRate fraction of dispatches traced, between {@code 0.0} and {@code 1.0}.
+     *
+     * @throws IllegalArgumentException if {@code sampleRate} is not between {@code 0.0} and {@code 1.0}.
+     */
+    void sampleRate(double sampleRate);
+
+    /**
+     * Dumps the recorded spans, from the oldest to the latest.
+     *
+     * @return recorded spans.
+     */
+    @NotNull
+    List<TraceRecord> dump();
+}
@@ -1,9 +1,39 @@
 package fr.atlasworld.event.core;
 
+import com.google.common.base.Preconditions;
 import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.bridge.EventBridge;
+import fr.atlasworld.event.api.bridge.EventBridgeServer;
+import fr.atlasworld.event.api.channel.EventChannel;
+import fr.atlasworld.event.api.channel.EventLayout;
+import fr.atlasworld.event.api.executor.PriorityExecutor;
+import fr.atlasworld.event.api.executor.PriorityExecutorBuilder;
+import fr.atlasworld.event.api.journal.EventJournal;
+import fr.atlasworld.event.api.journal.JournalBuilder;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.api.record.EventRecorder;
+import fr.atlasworld.event.api.schedule.EventScheduler;
+import fr.atlasworld.event.api.trace.EventTracer;
+import fr.atlasworld.event.api.trace.TraceRecorder;
+import fr.atlasworld.event.core.bridge.SocketBridgeServer;
+import fr.atlasworld.event.core.bridge.SocketEventBridge;
+import fr.atlasworld.event.core.channel.RingEventChannel;
+import fr.atlasworld.event.core.executor.LaneSettings;
+import fr.atlasworld.event.core.executor.WeightedLaneExecutor;
+import fr.atlasworld.event.core.journal.JournalSettings;
+import fr.atlasworld.event.core.journal.MappedEventJournal;
+import fr.atlasworld.event.core.record.MappedEventRecorder;
+import fr.atlasworld.event.core.schedule.TimingWheel;
+import fr.atlasworld.event.core.trace.RingBufferRecorder;
+import fr.atlasworld.event.core.trace.Tracing;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class ApiBridge implements fr.atlasworld.event.api.internal.ApiBridge {
@@ -11,4 +41,74 @@ public class ApiBridge implements fr.atlasworld.event.api.internal.ApiBridge {
     public <E extends Event> EventNode<E> createEventNode(String name, Class<E> eventType, @Nullable Predicate<E> filter) {
         return new EventNodeImpl<>(name, eventType, filter);
     }
+
+    @Override
+    public void installTracer(EventTracer tracer) {
+        Tracing.install(tracer);
+    }
+
+    @Override
+    public TraceRecorder createTraceRecorder(int capacity, double sampleRate) {
+        return new RingBufferRecorder(capacity, sampleRate);
+    }
+
+    @Override
+    public EventRecorder openEventRecorder(Path file, EventCodecs codecs) throws IOException {
+        return new MappedEventRecorder(file, codecs);
+    }
+
+    @Override
+    public EventJournal openEventJournal(Path directory, EventCodecs codecs, Consumer<JournalBuilder> builder) throws IOException {
+        JournalSettings settings = new JournalSettings();
+        builder.accept(settings);
+
+        return new MappedEventJournal(directory, codecs, settings);
+    }
+
+    @Override
+    public <E extends Event> EventNode<E> createJournalNode(String name, Class<E> eventType, EventJournal journal) {
+        Preconditions.checkArgument(journal instanceof MappedEventJournal, "Unsupported journal implementation!");
+
+        return new EventNodeImpl<>(name, eventType, null, ((MappedEventJournal) journal).sink());
+    }
+
+    @Override
+    public EventBridge connectEventBridge(SocketAddress address, EventCodecs codecs) throws IOException {
+        return new SocketEventBridge(address, codecs);
+    }
+
+    @Override
+    public EventBridgeServer listenEventBridge(SocketAddress address, EventCodecs codecs, EventNode<Event> root) throws IOException {
+        return new SocketBridgeServer(address, codecs, root);
+    }
+
+    @Override
+    public <E extends Event> EventNode<E> createBridgeNode(String name, Class<E> eventType, EventBridge bridge) {
+        Preconditions.checkArgument(bridge instanceof SocketEventBridge, "Unsupported bridge implementation!");
+
+        return new EventNodeImpl<>(name, eventType, null, ((SocketEventBridge) bridge).sink());
+    }
+
+    @Override
+    public EventChannel createEventChannel(String name, EventLayout layout, int capacity) {
+        return new RingEventChannel(name, layout, capacity);
+    }
+
+    @Override
+    public EventScheduler createEventScheduler(Duration tickDuration, boolean wallClock) {
+        return new TimingWheel(tickDuration, wallClock);
+    }
+
+    @Override
+    public EventScheduler sharedEventScheduler() {
+        return TimingWheel.shared();
+    }
+
+    @Override
+    public PriorityExecutor createPriorityExecutor(String name, int threads, Consumer<PriorityExecutorBuilder> builder) {
+        LaneSettings settings = new LaneSettings();
+        builder.accept(settings);
+
+        return new WeightedLaneExecutor(name, threads, settings);
+    }
 }
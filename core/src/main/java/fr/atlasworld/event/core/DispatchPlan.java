@@ -0,0 +1,210 @@
+package fr.atlasworld.event.core;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.core.executor.NodeBulkhead;
+import fr.atlasworld.event.core.listener.RegisteredListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dispatch plan of a frozen tree, for a single event class.
+ * <p>
+ * The tree walk is flattened into a sequence of steps in the order events reach the nodes,
+ * node types are checked and listener buckets resolved once when building the plan.
+ * A node entry step holds the index following its subtree, jumped to when the node filter rejects the event.
+ * <br>
+ * Only nodes appearing several times in the plan are tracked by the dispatch context,
+ * any other node can't be reached twice.
+ * The children of exclusive nodes are not flattened, their order is adapted at runtime. Their subtrees are walked
+ * by the context at runtime, so every node reachable below an exclusive node is tracked as well.
+ * Listener steps hold the bulkhead of their subtree, resolved along the path leading to them.
+ * <br>
+ * Children and listeners of each node are read together when building the plan, so a plan never sees a partially
+ * applied transaction. The structure version of every node is recorded before reading it,
+ * the plan is stale once any of them changed, unregistered listeners are skipped until the plan is rebuilt.
+ */
+final class DispatchPlan {
+    private static final EventNodeImpl<?>[] NO_CHILDREN = new EventNodeImpl<?>[0];
+
+    // Distinct nodes of the plan and their structure versions when it was built.
+    private final EventNodeImpl<?>[] sources;
+    private final int[] versions;
+
+    private final EventNodeImpl<?>[] nodes;
+    private final EventNodeImpl.ListenerBucket<?>[] buckets;
+    private final RegisteredListener<?>[][] listeners;
+    private final EventNodeImpl<?>[][] children;
+    private final int[] skips;
+    private final boolean[] shared;
+    private final NodeBulkhead[] bulkheads;
+
+    private DispatchPlan(List<Step> steps, Map<EventNodeImpl<?>, Integer> occurrences, Set<EventNodeImpl<?>> exclusive,
+                         Map<EventNodeImpl<?>, Integer> versions) {
+        this.sources = new EventNodeImpl<?>[versions.size()];
+        this.versions = new int[versions.size()];
+
+        int source = 0;
+        for (Map.Entry<EventNodeImpl<?>, Integer> entry : versions.entrySet()) {
+            this.sources[source] = entry.getKey();
+            this.versions[source++] = entry.getValue();
+        }
+
+        int size = steps.size();
+        this.nodes = new EventNodeImpl<?>[size];
+        this.buckets = new EventNodeImpl.ListenerBucket<?>[size];
+        this.listeners = new RegisteredListener<?>[size][];
+        this.children = new EventNodeImpl<?>[size][];
+        this.skips = new int[size];
+        this.shared = new boolean[size];
+        this.bulkheads = new NodeBulkhead[size];
+
+        for (int i = 0; i < size; i++) {
+            Step step = steps.get(i);
+
+            this.nodes[i] = step.node;
+            this.buckets[i] = step.bucket;
+            this.listeners[i] = step.listeners;
+            this.children[i] = step.children;
+            this.skips[i] = step.skip;
+            this.shared[i] = occurrences.get(step.node) > 1 || exclusive.contains(step.node);
+            this.bulkheads[i] = step.bulkhead;
+        }
+    }
+
+    static DispatchPlan build(@NotNull EventNodeImpl<?> root, @NotNull Class<? extends Event> eventClass) {
+        List<Step> steps = new ArrayList<>();
+        Map<EventNodeImpl<?>, Integer> occurrences = new IdentityHashMap<>();
+        Set<EventNodeImpl<?>> exclusive = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<EventNodeImpl<?>, Integer> versions = new IdentityHashMap<>();
+
+        append(root, eventClass, null, steps, occurrences, exclusive, versions);
+        return new DispatchPlan(steps, occurrences, exclusive, versions);
+    }
+
+    private static void append(EventNodeImpl<?> node, Class<? extends Event> eventClass, NodeBulkhead bulkhead,
+                               List<Step> steps, Map<EventNodeImpl<?>, Integer> occurrences,
+                               Set<EventNodeImpl<?>> exclusive, Map<EventNodeImpl<?>, Integer> versions) {
+        occurrences.merge(node, 1, Integer::sum);
+        versions.putIfAbsent(node, node.structureVersion()); // Read before the node, a racing change makes the plan stale.
+
+        if (node.nodeBulkhead() != null)
+            bulkhead = node.nodeBulkhead();
+
+        EventNodeImpl.Snapshot<?> snapshot = node.snapshot(eventClass);
+
+        Step entry = new Step(node);
+        steps.add(entry);
+
+        boolean exclusiveNode = node.isExclusive();
+        if (exclusiveNode) {
+            Step children = new Step(node);
+            children.children = snapshot.children;
+            children.bulkhead = bulkhead;
+            steps.add(children);
+
+            for (EventNodeImpl<?> child : snapshot.children)
+                reachable(child, eventClass, exclusive, versions);
+        }
+
+        for (EventNodeImpl<?> child : exclusiveNode ? NO_CHILDREN : snapshot.children) {
+            if (!child.eventType().isAssignableFrom(eventClass)) // Events of this class never reach the child.
+                continue;
+
+            append(child, eventClass, bulkhead, steps, occurrences, exclusive, versions);
+        }
+
+        if (snapshot.bucket != null) {
+            Step listeners = new Step(node);
+            listeners.bucket = snapshot.bucket;
+            listeners.listeners = snapshot.listeners;
+            listeners.bulkhead = bulkhead;
+            steps.add(listeners);
+        }
+
+        entry.skip = steps.size();
+    }
+
+    /**
+     * Collects the nodes reachable below an exclusive node, walked by the context outside of the plan.
+     */
+    private static void reachable(EventNodeImpl<?> node, Class<? extends Event> eventClass,
+                                  Set<EventNodeImpl<?>> exclusive, Map<EventNodeImpl<?>, Integer> versions) {
+        if (!node.eventType().isAssignableFrom(eventClass) || !exclusive.add(node))
+            return;
+
+        versions.putIfAbsent(node, node.structureVersion()); // Read before the node, a racing change makes the plan stale.
+        for (EventNodeImpl<?> child : node.snapshot(eventClass).children)
+            reachable(child, eventClass, exclusive, versions);
+    }
+
+    /**
+     * Checks whether none of the nodes of this plan changed since it was built.
+     */
+    boolean current() {
+        for (int i = 0; i < this.sources.length; i++) {
+            if (this.sources[i].structureVersion() != this.versions[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void invoke(@NotNull Event event, @NotNull EventContext ctx) {
+        int index = 0;
+
+        while (index < this.nodes.length) {
+            EventNodeImpl node = this.nodes[index];
+
+            EventNodeImpl.ListenerBucket bucket = this.buckets[index];
+            if (bucket != null) {
+                ctx.bulkhead(this.bulkheads[index]);
+                node.callListeners(bucket, this.listeners[index], event, ctx);
+                index++;
+                continue;
+            }
+
+            EventNodeImpl<?>[] children = this.children[index];
+            if (children != null) {
+                ctx.bulkhead(this.bulkheads[index]);
+                node.invokeChildren(children, event, ctx);
+                index++;
+                continue;
+            }
+
+            if (this.shared[index]) {
+                if (ctx.wasCalled(node)) { // Already reached through another parent.
+                    index = this.skips[index];
+                    continue;
+                }
+
+                ctx.registerCalled(node);
+            } else {
+                ctx.registerVisited();
+            }
+
+            index = node.enter(event, ctx) ? index + 1 : this.skips[index];
+        }
+    }
+
+    private static final class Step {
+        private final EventNodeImpl<?> node;
+
+        private EventNodeImpl.ListenerBucket<?> bucket;
+        private RegisteredListener<?>[] listeners;
+        private EventNodeImpl<?>[] children; // Exclusive children, ordered at runtime.
+
+        private int skip;
+        private NodeBulkhead bulkhead;
+
+        private Step(EventNodeImpl<?> node) {
+            this.node = node;
+        }
+    }
+}
@@ -1,20 +1,392 @@
 package fr.atlasworld.event.core;
 
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.dispatch.DispatchResult;
+import fr.atlasworld.event.api.dispatch.EventDispatchException;
+import fr.atlasworld.event.api.dispatch.ListenerFailure;
+import fr.atlasworld.event.api.query.QueryEvent;
+import fr.atlasworld.event.api.trace.EventTracer;
+import fr.atlasworld.event.api.trace.Span;
+import fr.atlasworld.event.core.executor.NodeBulkhead;
+import fr.atlasworld.event.core.jfr.DispatchEvent;
+import fr.atlasworld.event.core.listener.RegisteredListener;
+import fr.atlasworld.event.core.trace.Tracing;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Context of a single event dispatch.
+ * <p>
+ * Pending asynchronous listeners are registered by the dispatching thread only,
+ * failures may be reported from any thread.
+ * <br>
+ * Fired dispatches don't await their asynchronous listeners, requests are never retained and no completion graph is built.
+ * Sliced dispatches defer the listeners reached while walking the tree, they are run later by slices of a budget.
+ */
 public final class EventContext {
-    private final Set<EventNodeImpl<?>> calledNodes;
+    // Lazily allocated, only nodes reachable through several parents need to be tracked.
+    private Set<EventNodeImpl<?>> calledNodes;
+    private int visitedNodes;
+    private final EventTracer tracer;
+    private final Span span;
+    private final DispatchEvent recording;
+    private final boolean fired;
+
+    // Listeners deferred by a sliced dispatch, in the order they were reached, null if not sliced.
+    private DeferredListener[] deferred;
+    private int deferredCount;
+
+    // Dispatched query, remaining listeners are skipped once its answer is decided.
+    private final QueryEvent<?, ?> query;
+
+    private int listeners;
+
+    // Bulkhead of the subtree currently walked, only accessed by the dispatching thread.
+    private NodeBulkhead bulkhead;
+
+    // Parallel lists, lazily allocated, most dispatches only run synchronous listeners.
+    private List<CompletableFuture<?>> pending;
+    private List<String> pendingIdentities;
+    private List<String> pendingNodes;
 
-    public EventContext() {
-        this.calledNodes = ConcurrentHashMap.newKeySet();
+    @GuardedBy("this")
+    private List<ListenerFailure> failures;
+
+    public EventContext(@NotNull Event event) {
+        this(event, false);
+    }
+
+    public EventContext(@NotNull Event event, boolean fired) {
+        this.fired = fired;
+        this.tracer = Tracing.tracer();
+        this.span = Tracing.startDispatch(this.tracer, event);
+        this.query = event instanceof QueryEvent ? (QueryEvent<?, ?>) event : null;
+
+        DispatchEvent recording = new DispatchEvent();
+        if (recording.isEnabled()) {
+            recording.begin();
+            this.recording = recording;
+        } else {
+            this.recording = null; // Not recording, nothing to commit.
+        }
     }
 
     public void registerCalled(EventNodeImpl<?> node) {
-        this.calledNodes.add(node);
+        if (this.calledNodes == null)
+            this.calledNodes = ConcurrentHashMap.newKeySet();
+
+        if (this.calledNodes.add(node))
+            this.visitedNodes++;
+    }
+
+    /**
+     * Registers a visited node that can't be reached twice by this dispatch, it doesn't need to be tracked.
+     */
+    public void registerVisited() {
+        this.visitedNodes++;
     }
 
     public boolean wasCalled(EventNodeImpl<?> node) {
-        return this.calledNodes.contains(node);
+        return this.calledNodes != null && this.calledNodes.contains(node);
+    }
+
+    /**
+     * Checks whether this dispatch was fired, its asynchronous listeners are not awaited.
+     *
+     * @return true if fired.
+     */
+    public boolean fired() {
+        return this.fired;
+    }
+
+    /**
+     * Makes this dispatch sliced, listeners reached while walking the tree are deferred instead of being called.
+     * Must be called before walking the tree.
+     */
+    public void slice() {
+        this.deferred = new DeferredListener[16];
+    }
+
+    /**
+     * Defers a listener if this dispatch is sliced, along with the bulkhead of the subtree currently walked.
+     * Expiration, sampling and rate limits of deferred listeners are only checked once their slice runs.
+     *
+     * @param node node the listener is registered on.
+     * @param bucket bucket holding the listener.
+     * @param listener listener reached.
+     *
+     * @return true if deferred, false if the listener must be called now.
+     */
+    public boolean defer(EventNodeImpl<?> node, EventNodeImpl.ListenerBucket<?> bucket, RegisteredListener<?> listener) {
+        if (this.deferred == null)
+            return false;
+
+        if (this.deferredCount == this.deferred.length)
+            this.deferred = Arrays.copyOf(this.deferred, this.deferredCount * 2);
+
+        this.deferred[this.deferredCount++] = new DeferredListener(node, bucket, listener, this.bulkhead);
+        return true;
+    }
+
+    int deferredListeners() {
+        return this.deferredCount;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void callDeferred(int index, Event event) {
+        if (this.decided()) // Query answered, the remaining listeners can't change it.
+            return;
+
+        DeferredListener deferred = this.deferred[index];
+        this.deferred[index] = null; // Called once, loses the reference for GC.
+
+        this.bulkhead = deferred.bulkhead;
+        ((EventNodeImpl) deferred.node).callListener(deferred.bucket, deferred.listener, event, this);
+    }
+
+    /**
+     * Checks whether the dispatched event is a query whose answer is decided, the remaining listeners don't need to run.
+     *
+     * @return true if the answer of the query is decided.
+     */
+    public boolean decided() {
+        return this.query != null && this.query.decided();
+    }
+
+    public NodeBulkhead bulkhead() {
+        return this.bulkhead;
+    }
+
+    public void bulkhead(NodeBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Registers a listener the event is passed to, only called by the dispatching thread.
+     */
+    public void registerListener() {
+        this.listeners++;
+    }
+
+    /**
+     * Starts the span of a listener execution, child of this dispatch span.
+     *
+     * @param listener listener to be executed.
+     * @param node name of the node the listener is registered on.
+     *
+     * @return span of the listener, or {@link Span#NOOP} if the dispatch is not sampled.
+     */
+    public Span startSpan(RegisteredListener<?> listener, String node) {
+        if (!this.span.sampled())
+            return Span.NOOP;
+
+        return this.tracer.startListener(this.span, node, listener.identity());
+    }
+
+    /**
+     * Registers the execution request of an asynchronous listener, the dispatch completes once every request completed.
+     *
+     * @param listener listener requested.
+     * @param node name of the node the listener is registered on.
+     * @param request future of the execution request.
+     */
+    public void await(RegisteredListener<?> listener, String node, CompletableFuture<?> request) {
+        this.await(listener.identity(), node, request);
+    }
+
+    /**
+     * Registers a request the dispatch completes after, failing the dispatch if the request fails.
+     *
+     * @param identity identity of the request, used when reporting its failure.
+     * @param node name of the node the request was made on.
+     * @param request future of the request.
+     */
+    public void await(String identity, String node, CompletableFuture<?> request) {
+        if (this.fired) // Nothing completes after the requests.
+            return;
+
+        if (this.pending == null) {
+            this.pending = new ArrayList<>();
+            this.pendingIdentities = new ArrayList<>();
+            this.pendingNodes = new ArrayList<>();
+        }
+
+        this.pending.add(request);
+        this.pendingIdentities.add(identity);
+        this.pendingNodes.add(node);
+    }
+
+    /**
+     * Reports the failure of a listener.
+     *
+     * @param listener failed listener.
+     * @param node name of the node the listener is registered on.
+     * @param cause cause of the failure.
+     */
+    public void fail(RegisteredListener<?> listener, String node, Throwable cause) {
+        this.fail(listener.identity(), node, cause);
+    }
+
+    /**
+     * Reports the failure of a request made by a node.
+     *
+     * @param identity identity of the request.
+     * @param node name of the node the request was made on.
+     * @param cause cause of the failure.
+     */
+    public synchronized void fail(String identity, String node, Throwable cause) {
+        if (this.failures == null)
+            this.failures = new ArrayList<>();
+
+        this.failures.add(new ListenerFailure(node, identity, cause));
+    }
+
+    /**
+     * Completes the dispatch once every pending listener has been executed.
+     *
+     * @param event dispatched event.
+     *
+     * @return future containing the dispatch result.
+     */
+    public <T extends Event> CompletableFuture<DispatchResult<T>> result(@NotNull T event) {
+        if (this.pending == null)
+            return CompletableFuture.completedFuture(this.buildResult(event));
+
+        return CompletableFuture.allOf(this.pending.toArray(new CompletableFuture<?>[0]))
+                .handle((unused, cause) -> {
+                    if (cause != null)
+                        this.collectRequestFailures();
+
+                    return this.buildResult(event);
+                });
+    }
+
+    /**
+     * Completes the dispatch once every pending listener has been executed,
+     * failing with an {@link EventDispatchException} if any listener failed.
+     *
+     * @param event dispatched event.
+     *
+     * @return future containing the event.
+     */
+    public <T extends Event> CompletableFuture<T> complete(@NotNull T event) {
+        if (this.pending == null) {
+            if (!this.hasFailed()) {
+                this.end(event, null, 0);
+                return CompletableFuture.completedFuture(event);
+            }
+
+            return CompletableFuture.failedFuture(new EventDispatchException(this.buildResult(event)));
+        }
+
+        return this.result(event).thenApply(result -> {
+            if (!result.successful())
+                throw new EventDispatchException(result);
+
+            return result.event();
+        });
+    }
+
+    /**
+     * Ends a fired dispatch once the tree has been walked, only failures of synchronous listeners are known.
+     *
+     * @param event dispatched event.
+     */
+    public synchronized void endFired(@NotNull Event event) {
+        if (this.failures == null)
+            this.end(event, null, 0);
+        else
+            this.end(event, this.failures.get(0).cause(), this.failures.size());
+    }
+
+    private synchronized boolean hasFailed() {
+        return this.failures != null;
+    }
+
+    // Requests failing on their own, listener failures are reported directly and never fail the request.
+    private void collectRequestFailures() {
+        for (int i = 0; i < this.pending.size(); i++) {
+            CompletableFuture<?> request = this.pending.get(i);
+            if (!request.isCompletedExceptionally())
+                continue;
+
+            try {
+                request.join();
+            } catch (CompletionException | CancellationException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                this.fail(this.pendingIdentities.get(i), this.pendingNodes.get(i), cause);
+            }
+        }
+    }
+
+    private synchronized <T extends Event> DispatchResult<T> buildResult(T event) {
+        if (this.failures == null) {
+            this.end(event, null, 0);
+            return new DispatchResultImpl<>(event, List.of());
+        }
+
+        this.end(event, this.failures.get(0).cause(), this.failures.size());
+        return new DispatchResultImpl<>(event, List.copyOf(this.failures));
+    }
+
+    private void end(Event event, Throwable failure, int failures) {
+        this.span.end(failure);
+
+        if (this.recording == null)
+            return;
+
+        this.recording.end();
+        if (!this.recording.shouldCommit())
+            return; // Below the recording threshold.
+
+        this.recording.eventClass = event.getClass();
+        this.recording.visitedNodes = this.visitedNodes;
+        this.recording.listeners = this.listeners;
+        this.recording.failures = failures;
+        this.recording.commit();
+    }
+
+    private static final class DeferredListener {
+        private final EventNodeImpl<?> node;
+        private final EventNodeImpl.ListenerBucket<?> bucket;
+        private final RegisteredListener<?> listener;
+        private final NodeBulkhead bulkhead;
+
+        private DeferredListener(EventNodeImpl<?> node, EventNodeImpl.ListenerBucket<?> bucket,
+                                 RegisteredListener<?> listener, NodeBulkhead bulkhead) {
+            this.node = node;
+            this.bucket = bucket;
+            this.listener = listener;
+            this.bulkhead = bulkhead;
+        }
+    }
+
+    private static final class DispatchResultImpl<E extends Event> implements DispatchResult<E> {
+        private final E event;
+        private final List<ListenerFailure> failures;
+
+        private DispatchResultImpl(E event, List<ListenerFailure> failures) {
+            this.event = event;
+            this.failures = failures;
+        }
+
+        @Override
+        public @NotNull E event() {
+            return this.event;
+        }
+
+        @Override
+        public @NotNull List<ListenerFailure> failures() {
+            return this.failures;
+        }
     }
 }
@@ -4,60 +4,175 @@ import com.google.common.base.Preconditions;
 import fr.atlasworld.common.logging.LogUtils;
 import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.EventTransaction;
+import fr.atlasworld.event.api.channel.IntChannel;
+import fr.atlasworld.event.api.channel.LongChannel;
+import fr.atlasworld.event.api.channel.PrimitiveChannel;
+import fr.atlasworld.event.api.executor.Bulkhead;
+import fr.atlasworld.event.api.executor.BulkheadPolicy;
+import fr.atlasworld.event.api.dispatch.AdmissionBuilder;
+import fr.atlasworld.event.api.dispatch.AdmissionController;
+import fr.atlasworld.event.api.dispatch.DispatchBudget;
+import fr.atlasworld.event.api.dispatch.DispatchResult;
+import fr.atlasworld.event.api.dispatch.SlicedCall;
+import fr.atlasworld.event.api.internal.QueryAccess;
 import fr.atlasworld.event.api.listener.EventHandler;
 import fr.atlasworld.event.api.listener.EventListener;
+import fr.atlasworld.event.api.listener.EventListenerAdapter;
 import fr.atlasworld.event.api.listener.EventListenerBuilder;
+import fr.atlasworld.event.api.listener.IntEventHandler;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+import fr.atlasworld.event.api.listener.LongEventHandler;
+import fr.atlasworld.event.api.query.QueryEvent;
+import fr.atlasworld.event.api.record.EventRecorder;
+import fr.atlasworld.event.api.schedule.EventScheduler;
+import fr.atlasworld.event.api.schedule.ScheduledCall;
+import fr.atlasworld.event.core.dispatch.AdmissionGate;
+import fr.atlasworld.event.core.dispatch.AdmissionSettings;
+import fr.atlasworld.event.core.executor.NodeBulkhead;
+import fr.atlasworld.event.core.listener.AdaptedRegisteredListener;
 import fr.atlasworld.event.core.listener.LambdaRegisteredListener;
+import fr.atlasworld.event.core.listener.ListenerAdapters;
 import fr.atlasworld.event.core.listener.ListenerSettings;
 import fr.atlasworld.event.core.listener.MethodRegisteredListener;
 import fr.atlasworld.event.core.listener.RegisteredListener;
+import fr.atlasworld.event.core.listener.WeakListenerReference;
+import fr.atlasworld.event.core.schedule.ScheduledEventCall;
+import fr.atlasworld.event.core.schedule.TimingWheel;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+/**
+ * Event node implementation.
+ * <p>
+ * Children and listeners are held in a registry guarded by the node lock, the node itself,
+ * event calls never read the registry directly but immutable snapshots of it.
+ * <br>
+ * Trees may hold a node per entity, so nodes are kept compact. Up to {@value #INLINE_LIMIT} children,
+ * the copy-on-write child snapshot is the registry. Past it, children inflate to a map indexed by name,
+ * the snapshot is then dropped when it is mutated and rebuilt lazily by the next event call,
+ * so a batch of mutations only costs a single rebuild. Listener buckets are held in a copy-on-write array,
+ * indexed by event class past the same limit, and small buckets use their snapshot as the registry the same way.
+ * Primitive listeners and dispatch plans are only allocated once used.
+ * <br>
+ * Unregistered listeners are flagged as expired and skipped by the snapshots still referencing them,
+ * inflated listener snapshots are only rebuilt once half of their listeners are gone.
+ * Weak listeners collected by the GC are unregistered on registry mutations.
+ * <p>
+ * Values of primitive channels walk the same tree without any event or context,
+ * nodes reachable through several parents are only tracked once such a node is met.
+ * <p>
+ * Frozen root nodes dispatch events through a {@link DispatchPlan} per event class instead of walking the tree.
+ * Each node versions its structure, plans are rebuilt on the next event call once any of their nodes changed.
+ * <br>
+ * Events only reach the first accepting child of exclusive nodes, children are tried in an {@link ExclusiveChildren adaptive order}.
+ * <br>
+ * The bulkhead of a node is carried by the dispatch context while its subtree is walked,
+ * asynchronous listeners of the subtree are requested through the innermost bulkhead.
+ */
 @ThreadSafe
 public class EventNodeImpl<E extends Event> implements EventNode<E> {
     private static final Logger LOGGER = LogUtils.getLogger();
+    private static final EventNodeImpl<?>[] NO_CHILDREN = new EventNodeImpl<?>[0];
+    private static final Object[] NO_HANDLERS = new Object[0];
+    private static final Predicate<Event> ACCEPT_ALL = event -> true;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<EventNodeImpl> PARENTS =
+            AtomicIntegerFieldUpdater.newUpdater(EventNodeImpl.class, "parents");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<EventNodeImpl> STRUCTURE =
+            AtomicIntegerFieldUpdater.newUpdater(EventNodeImpl.class, "structure");
+
+    // Children and listener buckets past this amount are indexed in a hash map.
+    static final int INLINE_LIMIT = 8;
 
     private final String name;
     private final Class<E> eventType;
     private final Predicate<E> eventCondition;
-    private final Map<String, EventNodeImpl<?>> children;
-    private final Map<Class<? extends E>, List<RegisteredListener<E>>> listeners;
+    private final boolean filtered;
+    private final NodeSink<? super E> sink;
 
-    private final AtomicInteger parents;
+    // Copy-on-write, only replaced under the node lock, in insertion order. Dropped on mutations once inflated.
+    private volatile EventNodeImpl<?>[] childSnapshot;
+    @GuardedBy("this")
+    private LinkedHashMap<String, EventNodeImpl<?>> childIndex;
+
+    // Copy-on-write, only replaced under the node lock, buckets are never removed.
+    private volatile ListenerBucket<E>[] buckets;
+    private volatile Map<Class<?>, ListenerBucket<E>> bucketIndex;
+
+    private volatile Map<PrimitiveChannel, PrimitiveBucket> primitiveListeners;
+
+    private volatile EventRecorder recorder;
+    private volatile TimingWheel scheduler;
+
+    private volatile boolean frozen;
+    private volatile boolean exclusive;
+    private volatile ExclusiveChildren exclusiveChildren;
+    private volatile NodeBulkhead bulkhead;
+    private volatile AdmissionGate admission;
+    private volatile Map<Class<?>, DispatchPlan> plans;
+
+    // Odd while a transaction is applied, event calls racing it read the node again under the node lock.
+    private volatile int mutations;
+
+    // Updated through PARENTS.
+    private volatile int parents;
+    // Updated through STRUCTURE, bumped whenever children, listeners, the bulkhead or exclusivity change.
+    private volatile int structure;
 
     public EventNodeImpl(String name, Class<E> eventType, Predicate<E> eventCondition) {
+        this(name, eventType, eventCondition, null);
+    }
+
+    public EventNodeImpl(String name, Class<E> eventType, Predicate<E> eventCondition, @Nullable NodeSink<? super E> sink) {
         this.name = name;
         this.eventType = eventType;
 
-        this.eventCondition = eventCondition == null ? event -> true : eventCondition;
+        this.eventCondition = eventCondition == null ? acceptAll() : eventCondition;
+        this.filtered = eventCondition != null;
+        this.sink = sink;
+
+        this.childSnapshot = NO_CHILDREN;
+        this.buckets = ListenerBucket.none();
+    }
 
-        this.children = new ConcurrentHashMap<>();
-        this.listeners = new ConcurrentHashMap<>();
-        this.parents = new AtomicInteger(0);
+    @SuppressWarnings("unchecked")
+    private static <E extends Event> Predicate<E> acceptAll() {
+        return (Predicate<E>) ACCEPT_ALL;
     }
 
     public void addParent() {
-        this.parents.incrementAndGet();
+        PARENTS.incrementAndGet(this);
     }
 
     public void removeParent() {
-        this.parents.decrementAndGet();
+        PARENTS.decrementAndGet(this);
     }
 
     public boolean hasParents() {
-        return this.parents.get() > 0;
+        return this.parents > 0;
+    }
+
+    int structureVersion() {
+        return this.structure;
+    }
+
+    private void structureChanged() {
+        STRUCTURE.incrementAndGet(this);
     }
 
     @Override
@@ -69,55 +184,529 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
     public @NotNull <T extends E> CompletableFuture<T> callEvent(@NotNull T event) {
         Preconditions.checkNotNull(event);
 
+        AdmissionGate admission = this.admission;
+        if (admission == null)
+            return this.dispatch(event).complete(event);
+
+        this.checkRoot();
+        return admission.admit(event, () -> this.dispatch(event).complete(event));
+    }
+
+    @Override
+    public @NotNull <T extends E> CompletableFuture<DispatchResult<T>> dispatchEvent(@NotNull T event) {
+        Preconditions.checkNotNull(event);
+
+        AdmissionGate admission = this.admission;
+        if (admission == null)
+            return this.dispatch(event).result(event);
+
+        this.checkRoot();
+        return admission.admit(event, () -> this.dispatch(event).result(event));
+    }
+
+    @Override
+    public @NotNull <T extends E> SlicedCall<T> callEvent(@NotNull T event, @NotNull DispatchBudget budget) {
+        Preconditions.checkNotNull(event);
+        Preconditions.checkNotNull(budget);
+        this.checkRoot();
+
+        EventContext ctx = new EventContext(event, false);
+        ctx.slice();
+
+        SlicedDispatch<T> call = new SlicedDispatch<>(event, this.dispatch(event, ctx));
+        call.resume(budget);
+
+        return call;
+    }
+
+    @Override
+    public <T extends E> boolean fireEvent(@NotNull T event) {
+        Preconditions.checkNotNull(event);
+
+        AdmissionGate admission = this.admission;
+        if (admission == null) {
+            this.dispatch(event, true).endFired(event);
+            return true;
+        }
+
+        this.checkRoot();
+        return admission.fire(event, () -> this.dispatch(event, true).endFired(event));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <R> CompletableFuture<R> query(@NotNull QueryEvent<?, R> query) {
+        Preconditions.checkNotNull(query);
+        Preconditions.checkArgument(this.eventType.isInstance(query), "Query %s is not an event of this node!", query.getClass().getName());
+
+        this.dispatchEvent((E) query).whenComplete((result, cause) -> {
+            if (cause != null)
+                query.answer().completeExceptionally(cause);
+            else
+                QueryAccess.conclude(query);
+        });
+
+        return query.answer();
+    }
+
+    @Override
+    public @NotNull <T extends E> ScheduledCall<T> callEventLater(@NotNull T event, @NotNull Duration delay) {
+        Preconditions.checkNotNull(event);
+        Preconditions.checkNotNull(delay);
+        this.checkRoot();
+
+        TimingWheel scheduler = this.scheduler != null ? this.scheduler : TimingWheel.shared();
+        ScheduledEventCall<T> call = new ScheduledEventCall<>(event, this::callEvent);
+        scheduler.schedule(call, scheduler.ticks(delay));
+
+        return call;
+    }
+
+    @Override
+    public void callLong(@NotNull LongChannel channel, long value) {
+        Preconditions.checkNotNull(channel);
+        this.checkRoot();
+
+        if (this.accepts(channel.eventType()))
+            this.invokePrimitive(channel, value, null);
+    }
+
+    @Override
+    public void callInt(@NotNull IntChannel channel, int value) {
+        Preconditions.checkNotNull(channel);
+        this.checkRoot();
+
+        if (this.accepts(channel.eventType()))
+            this.invokePrimitive(channel, value, null);
+    }
+
+    private void checkRoot() {
         if (this.hasParents())
             throw new UnsupportedOperationException("Current node is not the root of the tree! " +
                     "Events must get called on the root node.");
+    }
+
+    private EventContext dispatch(@NotNull E event) {
+        return this.dispatch(event, false);
+    }
+
+    private EventContext dispatch(@NotNull E event, boolean fired) {
+        this.checkRoot();
 
-        return this.invokeEvent(event, new EventContext());
+        return this.dispatch(event, new EventContext(event, fired));
     }
 
-    private <T extends E> CompletableFuture<T> invokeEvent(@NotNull T event, @NotNull EventContext ctx) {
+    private EventContext dispatch(@NotNull E event, @NotNull EventContext ctx) {
+        EventRecorder recorder = this.recorder;
+        if (recorder != null)
+            this.recordEvent(recorder, event);
+
+        if (this.frozen)
+            this.plan(event.getClass()).invoke(event, ctx);
+        else
+            this.invokeEvent(event, ctx, false);
+
+        return ctx;
+    }
+
+    private DispatchPlan plan(Class<? extends Event> eventClass) {
+        Map<Class<?>, DispatchPlan> plans = this.plans;
+        if (plans == null) {
+            plans = new ConcurrentHashMap<>();
+            this.plans = plans; // Racing event calls may drop each other's plans, they are rebuilt.
+        }
+
+        DispatchPlan plan = plans.get(eventClass);
+        if (plan != null && plan.current())
+            return plan;
+
+        plan = DispatchPlan.build(this, eventClass);
+        plans.put(eventClass, plan);
+
+        return plan;
+    }
+
+    private void recordEvent(EventRecorder recorder, E event) {
+        try {
+            recorder.record(event);
+        } catch (RuntimeException e) { // Recording must never prevent the event from being dispatched.
+            LOGGER.error("Failed to record event {} on node '{}'", event.getClass().getName(), this.name, e);
+        }
+    }
+
+    private boolean invokeEvent(@NotNull E event, @NotNull EventContext ctx, boolean accepted) {
         ctx.registerCalled(this);
 
-        if (!this.eventCondition.test(event))
-            return CompletableFuture.completedFuture(event);
+        if (accepted)
+            this.enterAccepted(event, ctx);
+        else if (!this.enter(event, ctx))
+            return false;
+
+        int stamp = this.mutations;
+        EventNodeImpl<?>[] children = this.childSnapshot();
+        ListenerBucket<E> bucket = this.listenerBucket(event.getClass());
+        RegisteredListener<E>[] listeners = bucket != null ? this.listenerSnapshot(bucket) : null;
+
+        if ((stamp & 1) != 0 || stamp != this.mutations) {
+            synchronized (this) { // Raced a transaction, read the node once it is applied.
+                children = this.childSnapshot();
+                bucket = this.listenerBucket(event.getClass());
+                listeners = bucket != null ? this.listenerSnapshot(bucket) : null;
+            }
+        }
 
-        List<CompletableFuture<?>> futures = new ArrayList<>();
+        NodeBulkhead outer = ctx.bulkhead();
+        NodeBulkhead bulkhead = this.bulkhead;
+        if (bulkhead != null)
+            ctx.bulkhead(bulkhead);
 
-        for (EventNodeImpl<?> node : this.children.values())
-            futures.add(node.propagateEvent(event, ctx));
+        this.invokeChildren(children, event, ctx);
 
-        if (this.listeners.containsKey(event.getClass())) {
-            List<RegisteredListener<E>> listeners = this.listeners.get(event.getClass());
+        if (bucket != null)
+            this.callListeners(bucket, listeners, event, ctx);
 
-            for (int i = 0; i < listeners.size(); i++) {
-                RegisteredListener<E> listener = listeners.get(i);
-                if (listener.isExpired(event)) {
-                    // Clear expired listeners, less computing required for next event call and loses reference for GC.
-                    this.listeners.get(event.getClass()).remove(listener);
-                    continue;
-                }
+        ctx.bulkhead(outer);
+        return true;
+    }
+
+    void invokeChildren(@NotNull EventNodeImpl<?>[] children, @NotNull E event, @NotNull EventContext ctx) {
+        if (this.exclusive) {
+            this.exclusiveChildren(children).invoke(event, ctx);
+            return;
+        }
+
+        for (EventNodeImpl<?> node : children)
+            node.propagateEvent(event, ctx);
+    }
+
+    private ExclusiveChildren exclusiveChildren(EventNodeImpl<?>[] snapshot) {
+        ExclusiveChildren children = this.exclusiveChildren;
+        if (children != null && children.boundTo(snapshot))
+            return children;
 
-                futures.add(listener.callEvent(event));
+        synchronized (this) {
+            children = this.exclusiveChildren;
+            if (children == null || !children.boundTo(snapshot)) {
+                children = new ExclusiveChildren(snapshot);
+                this.exclusiveChildren = children;
             }
+
+            return children;
+        }
+    }
+
+    /**
+     * Tests whether an event would be accepted by this node, without calling it.
+     */
+    @SuppressWarnings("unchecked")
+    boolean test(@NotNull Event event) {
+        return this.eventType.isInstance(event) && this.eventCondition.test((E) event);
+    }
+
+    /**
+     * Tests the node filter and passes the event to the node sink.
+     *
+     * @return false if the event is filtered out, along with the children of this node.
+     */
+    boolean enter(@NotNull E event, @NotNull EventContext ctx) {
+        if (!this.eventCondition.test(event))
+            return false;
+
+        this.enterAccepted(event, ctx);
+        return true;
+    }
+
+    private void enterAccepted(@NotNull E event, @NotNull EventContext ctx) {
+        if (this.sink != null)
+            this.sink.accept(event, this.name, ctx);
+    }
+
+    void callListeners(@NotNull ListenerBucket<E> bucket, @NotNull RegisteredListener<E>[] listeners,
+                       @NotNull E event, @NotNull EventContext ctx) {
+        for (RegisteredListener<E> listener : listeners) {
+            if (ctx.decided()) // Query answered, the remaining listeners can't change it.
+                return;
+
+            if (listener.hasExpired()) // Unregistered, still referenced by the snapshot.
+                continue;
+
+            if (ctx.defer(this, bucket, listener)) // Sliced dispatch, checked and called by a later slice.
+                continue;
+
+            this.callListener(bucket, listener, event, ctx);
+        }
+    }
+
+    /**
+     * Calls a listener reached by a dispatch, unless it expired or the event doesn't go through it.
+     */
+    void callListener(@NotNull ListenerBucket<E> bucket, @NotNull RegisteredListener<E> listener,
+                      @NotNull E event, @NotNull EventContext ctx) {
+        if (listener.hasExpired()) // Unregistered, still referenced by the snapshot.
+            return;
+
+        if (!listener.accepts(event)) // Filtered out, before using any permit.
+            return;
+
+        if (listener.isExpired(event)) {
+            // Clear expired listeners, less computing required for next event call and loses reference for GC.
+            this.removeListener(bucket, listener);
+            return;
+        }
+
+        if (!listener.tryAcquire()) // Sampled out, short-circuited or rate limited, skip before reaching the executor.
+            return;
+
+        if (!listener.countExecution()) { // Ran its last execution meanwhile.
+            this.removeListener(bucket, listener);
+            return;
         }
 
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                .thenApply(v -> event);
+        listener.callEvent(event, this.name, ctx);
     }
 
+    /**
+     * Propagates an event from a parent node.
+     *
+     * @return true if the event was accepted by this node.
+     */
     @SuppressWarnings("unchecked")
-    private <T extends Event> CompletableFuture<T> propagateEvent(@NotNull T event, @NotNull EventContext ctx) {
+    boolean propagateEvent(@NotNull Event event, @NotNull EventContext ctx) {
         Preconditions.checkNotNull(event);
         Preconditions.checkNotNull(ctx);
 
         if (ctx.wasCalled(this))
-            return CompletableFuture.completedFuture(event);
+            return false;
 
         if (!this.eventType.isInstance(event)) // Check if the event is the same as this event type.
-            return CompletableFuture.completedFuture(event);
+            return false;
+
+        return this.invokeEvent((E) event, ctx, false);
+    }
+
+    /**
+     * Calls an event already accepted by {@link #test(Event)} on this node, without testing the node filter again.
+     */
+    @SuppressWarnings("unchecked")
+    void propagateAccepted(@NotNull Event event, @NotNull EventContext ctx) {
+        Preconditions.checkNotNull(event);
+        Preconditions.checkNotNull(ctx);
+
+        if (!ctx.wasCalled(this))
+            this.invokeEvent((E) event, ctx, true);
+    }
+
+    private boolean accepts(Class<? extends Event> scope) {
+        return !this.filtered && this.eventType.isAssignableFrom(scope);
+    }
+
+    /**
+     * Calls a primitive value on this node and its children.
+     *
+     * @return set of the visited nodes reachable through several parents, {@code null} if none was met yet.
+     */
+    private @Nullable Set<EventNodeImpl<?>> invokePrimitive(PrimitiveChannel channel, long value,
+                                                            @Nullable Set<EventNodeImpl<?>> visited) {
+        for (EventNodeImpl<?> node : this.childSnapshot()) {
+            if (!node.accepts(channel.eventType())) // Filters can only be tested against events, filtered nodes are skipped.
+                continue;
+
+            if (node.parents > 1) {
+                if (visited == null)
+                    visited = new HashSet<>();
+
+                if (!visited.add(node)) // Already reached through another parent.
+                    continue;
+            }
+
+            visited = node.invokePrimitive(channel, value, visited);
+        }
+
+        Map<PrimitiveChannel, PrimitiveBucket> primitiveListeners = this.primitiveListeners;
+        PrimitiveBucket bucket = primitiveListeners != null ? primitiveListeners.get(channel) : null;
+        if (bucket != null)
+            bucket.call(value, this.name);
+
+        return visited;
+    }
+
+    Class<E> eventType() {
+        return this.eventType;
+    }
 
-        return (CompletableFuture<T>) this.invokeEvent((E) event, ctx);
+    @Nullable ListenerBucket<E> listenerBucket(Class<?> eventClass) {
+        Map<Class<?>, ListenerBucket<E>> index = this.bucketIndex;
+        if (index != null)
+            return index.get(eventClass);
+
+        for (ListenerBucket<E> bucket : this.buckets) {
+            if (bucket.eventClass == eventClass)
+                return bucket;
+        }
+
+        return null;
+    }
+
+    EventNodeImpl<?>[] childSnapshot() {
+        EventNodeImpl<?>[] snapshot = this.childSnapshot;
+        if (snapshot != null)
+            return snapshot;
+
+        synchronized (this) {
+            if (this.childSnapshot == null)
+                this.childSnapshot = this.childIndex.values().toArray(EventNodeImpl<?>[]::new);
+
+            return this.childSnapshot;
+        }
+    }
+
+    /**
+     * Reads the children of this node and its listeners of an event class under the node lock,
+     * so they are consistent with transactions. Used when building dispatch plans.
+     */
+    @NotNull Snapshot<E> snapshot(Class<?> eventClass) {
+        synchronized (this) {
+            ListenerBucket<E> bucket = this.listenerBucket(eventClass);
+            return new Snapshot<>(this.childSnapshot(), bucket, bucket != null ? this.listenerSnapshot(bucket) : null);
+        }
+    }
+
+    private RegisteredListener<E>[] listenerSnapshot(ListenerBucket<E> bucket) {
+        RegisteredListener<E>[] snapshot = bucket.snapshot;
+        if (snapshot != null)
+            return snapshot;
+
+        synchronized (this) {
+            return bucket.rebuild();
+        }
+    }
+
+    @GuardedBy("this")
+    private @Nullable EventNodeImpl<?> findChild(String name) {
+        if (this.childIndex != null)
+            return this.childIndex.get(name);
+
+        int position = this.childPosition(name);
+        return position >= 0 ? this.childSnapshot[position] : null;
+    }
+
+    @GuardedBy("this")
+    private int childPosition(String name) {
+        EventNodeImpl<?>[] children = this.childSnapshot; // Inline, the snapshot is the registry.
+        for (int i = 0; i < children.length; i++) {
+            if (children[i].name().equals(name))
+                return i;
+        }
+
+        return -1;
+    }
+
+    @GuardedBy("this")
+    private void attachChild(EventNodeImpl<?> node) {
+        node.addParent();
+
+        if (this.childIndex != null) {
+            EventNodeImpl<?> previous = this.childIndex.put(node.name(), node); // Replacing keeps the position.
+            if (previous != null && previous != node)
+                previous.removeParent();
+
+            this.childSnapshot = null;
+            this.structureChanged();
+            return;
+        }
+
+        EventNodeImpl<?>[] children = this.childSnapshot;
+        int position = this.childPosition(node.name());
+        if (position >= 0) { // Replaces the child of the same name, keeping its position.
+            EventNodeImpl<?> previous = children[position];
+            if (previous != node)
+                previous.removeParent();
+
+            children = children.clone();
+            children[position] = node;
+        } else if (children.length < INLINE_LIMIT) {
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = node;
+        } else {
+            this.childIndex = new LinkedHashMap<>();
+            for (EventNodeImpl<?> child : children)
+                this.childIndex.put(child.name(), child);
+
+            this.childIndex.put(node.name(), node);
+            children = null;
+        }
+
+        this.childSnapshot = children;
+        this.structureChanged();
+    }
+
+    @GuardedBy("this")
+    private EventNodeImpl<?> detachChild(String name) {
+        EventNodeImpl<?> node;
+        if (this.childIndex != null) {
+            node = this.childIndex.remove(name);
+            if (node == null)
+                return null;
+
+            this.childSnapshot = null;
+        } else {
+            int position = this.childPosition(name);
+            if (position < 0)
+                return null;
+
+            EventNodeImpl<?>[] children = this.childSnapshot;
+            node = children[position];
+
+            EventNodeImpl<?>[] remaining = new EventNodeImpl<?>[children.length - 1];
+            System.arraycopy(children, 0, remaining, 0, position);
+            System.arraycopy(children, position + 1, remaining, position, remaining.length - position);
+            this.childSnapshot = remaining;
+        }
+
+        node.removeParent();
+        this.structureChanged();
+
+        return node;
+    }
+
+    @GuardedBy("this")
+    @SuppressWarnings("unchecked")
+    private void registerListener(Class<? extends E> eventClass, RegisteredListener<E> listener) {
+        if (listener.hasExpired()) // Unregistered before its transaction got applied.
+            return;
+
+        ListenerBucket<E> bucket = this.listenerBucket(eventClass);
+        if (bucket == null) {
+            bucket = new ListenerBucket<>(eventClass);
+
+            ListenerBucket<E>[] buckets = Arrays.copyOf(this.buckets, this.buckets.length + 1);
+            buckets[buckets.length - 1] = bucket;
+
+            if (buckets.length > INLINE_LIMIT) {
+                Map<Class<?>, ListenerBucket<E>> index = new HashMap<>();
+                for (ListenerBucket<E> indexed : buckets)
+                    index.put(indexed.eventClass, indexed);
+
+                this.bucketIndex = index; // Never mutated once published.
+            }
+
+            this.buckets = buckets;
+        }
+
+        bucket.add(listener);
+        this.structureChanged(); // Dispatch plans hold the listener snapshots.
+    }
+
+    private void removeListener(ListenerBucket<E> bucket, RegisteredListener<E> listener) {
+        synchronized (this) {
+            bucket.remove(listener);
+        }
+    }
+
+    private void unregisterListener(Class<? extends E> eventClass, RegisteredListener<E> listener) {
+        ListenerBucket<E> bucket = this.listenerBucket(eventClass);
+        if (bucket != null)
+            this.removeListener(bucket, listener);
     }
 
     @Override
@@ -125,10 +714,10 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
         Preconditions.checkNotNull(node);
         Preconditions.checkArgument(node instanceof EventNodeImpl, "Unsupported EventNode.");
 
-        EventNodeImpl<T> nodeImpl = (EventNodeImpl<T>) node;
-        nodeImpl.addParent();
-
-        this.children.put(node.name(), nodeImpl);
+        WeakListenerReference.drain();
+        synchronized (this) {
+            this.attachChild((EventNodeImpl<T>) node);
+        }
     }
 
     @Override
@@ -136,9 +725,8 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
         Preconditions.checkNotNull(name);
 
         EventNodeImpl<E> node = new EventNodeImpl<>(name, this.eventType, null);
-        node.addParent();
+        this.addChildNode(node);
 
-        this.children.put(name, node);
         return node;
     }
 
@@ -148,9 +736,8 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
         Preconditions.checkNotNull(filter);
 
         EventNodeImpl<E> node = new EventNodeImpl<>(name, this.eventType, filter);
-        node.addParent();
+        this.addChildNode(node);
 
-        this.children.put(name, node);
         return node;
     }
 
@@ -160,9 +747,8 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
         Preconditions.checkNotNull(eventType);
 
         EventNodeImpl<T> node = new EventNodeImpl<>(name, eventType, null);
-        node.addParent();
+        this.addChildNode(node);
 
-        this.children.put(name, node);
         return node;
     }
 
@@ -173,9 +759,8 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
         Preconditions.checkNotNull(filter);
 
         EventNodeImpl<T> node = new EventNodeImpl<>(name, eventType, filter);
-        node.addParent();
+        this.addChildNode(node);
 
-        this.children.put(name, node);
         return node;
     }
 
@@ -183,11 +768,10 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
     public @Nullable EventNode<?> removeChildNode(@NotNull String name) {
         Preconditions.checkNotNull(name);
 
-        EventNodeImpl<?> node = this.children.remove(name);
-        if (node != null)
-            node.removeParent();
-
-        return node;
+        WeakListenerReference.drain();
+        synchronized (this) {
+            return this.detachChild(name);
+        }
     }
 
     @Override
@@ -199,42 +783,201 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
 
     @Override
     public @NotNull Set<EventNode<?>> children() {
-        return Set.copyOf(this.children.values());
+        return Set.copyOf(Arrays.asList(this.childSnapshot()));
     }
 
     @Override
     public @NotNull Optional<EventNode<?>> child(@NotNull String name) {
         Preconditions.checkNotNull(name);
 
-        return Optional.ofNullable(this.children.get(name));
+        synchronized (this) {
+            return Optional.ofNullable(this.findChild(name));
+        }
     }
 
     @Override
     @SuppressWarnings("unchecked")
-    public <T extends E> void addListener(@NotNull Class<T> eventType, @NotNull EventHandler<T> handler, @NotNull Consumer<EventListenerBuilder<T>> builder) {
+    public <T extends E> ListenerHandle addListener(@NotNull Class<T> eventType, @NotNull EventHandler<T> handler, @NotNull Consumer<EventListenerBuilder<T>> builder) {
         Preconditions.checkNotNull(eventType);
         Preconditions.checkNotNull(handler);
         Preconditions.checkNotNull(builder);
 
-        ListenerSettings.Builder<T> settings = new ListenerSettings.Builder<>();
-        builder.accept(settings);
+        RegisteredListener<E> listener = (RegisteredListener<E>) this.createListener(handler, builder);
 
-        synchronized (this.listeners) {
-            this.listeners.computeIfAbsent(eventType, k -> new ArrayList<>())
-                    .add((LambdaRegisteredListener<E>) new LambdaRegisteredListener<T>(settings.build(), handler));
+        WeakListenerReference.drain();
+        synchronized (this) {
+            this.registerListener(eventType, listener);
         }
+
+        return new Registration(List.of(Map.entry(eventType, listener)));
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public void addListener(@NotNull EventListener listener, @NotNull Consumer<EventListenerBuilder<E>> builder) {
+    public ListenerHandle addListener(@NotNull EventListener listener, @NotNull Consumer<EventListenerBuilder<E>> builder) {
         Preconditions.checkNotNull(listener);
         Preconditions.checkNotNull(builder);
 
         ListenerSettings.Builder<E> settings = new ListenerSettings.Builder<>();
         builder.accept(settings);
+
+        WeakListenerReference reference = settings.isWeak() ? new WeakListenerReference(listener) : null;
+        List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> listeners =
+                this.createListeners(listener, settings, reference);
+
+        WeakListenerReference.drain();
+        synchronized (this) {
+            for (Map.Entry<Class<? extends E>, RegisteredListener<E>> entry : listeners)
+                this.registerListener(entry.getKey(), entry.getValue());
+        }
+
+        return this.registration(listeners, reference);
+    }
+
+    @Override
+    public ListenerHandle addListener(@NotNull LongChannel channel, @NotNull LongEventHandler handler) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkNotNull(handler);
+
+        return this.addPrimitiveListener(channel, false, handler);
+    }
+
+    @Override
+    public ListenerHandle addListener(@NotNull IntChannel channel, @NotNull IntEventHandler handler) {
+        Preconditions.checkNotNull(channel);
+        Preconditions.checkNotNull(handler);
+
+        return this.addPrimitiveListener(channel, true, handler);
+    }
+
+    private ListenerHandle addPrimitiveListener(PrimitiveChannel channel, boolean ints, Object handler) {
+        Preconditions.checkArgument(this.accepts(channel.eventType()), "Values of %s never reach node '%s'!", channel, this.name);
+
+        synchronized (this) {
+            if (this.primitiveListeners == null)
+                this.primitiveListeners = new ConcurrentHashMap<>();
+
+            PrimitiveBucket bucket = this.primitiveListeners.computeIfAbsent(channel, k -> new PrimitiveBucket(channel, ints));
+
+            Object[] handlers = Arrays.copyOf(bucket.handlers, bucket.handlers.length + 1);
+            handlers[handlers.length - 1] = handler;
+            bucket.handlers = handlers;
+        }
+
+        return new PrimitiveRegistration(channel, handler);
+    }
+
+    @Override
+    public void mutate(@NotNull Consumer<EventTransaction<E>> transaction) {
+        Preconditions.checkNotNull(transaction);
+
+        Transaction tx = new Transaction();
+        try {
+            transaction.accept(tx);
+        } finally {
+            tx.closed = true;
+        }
+
+        WeakListenerReference.drain();
+        synchronized (this) {
+            this.mutations++;
+            try {
+                for (Consumer<EventNodeImpl<E>> operation : tx.operations)
+                    operation.accept(this);
+            } finally {
+                this.mutations++;
+            }
+        }
+    }
+
+    @Override
+    public void recordEvents(@Nullable EventRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public void freeze() {
+        this.checkRoot();
+
+        this.frozen = true;
+    }
+
+    @Override
+    public void exclusive() {
+        this.exclusive = true;
+        this.structureChanged();
+    }
+
+    boolean isExclusive() {
+        return this.exclusive;
+    }
+
+    @Override
+    public @NotNull Bulkhead bulkhead(int maxInFlight, int maxQueued, @NotNull BulkheadPolicy policy) {
+        Preconditions.checkArgument(maxInFlight > 0, "Max in-flight requests must be strictly positive!");
+        Preconditions.checkArgument(maxQueued >= 0, "Max queued requests must be positive!");
+        Preconditions.checkNotNull(policy);
+
+        NodeBulkhead bulkhead = new NodeBulkhead(maxInFlight, maxQueued, policy);
+        this.bulkhead = bulkhead;
+        this.structureChanged();
+
+        return bulkhead;
+    }
+
+    @Nullable NodeBulkhead nodeBulkhead() {
+        return this.bulkhead;
+    }
+
+    @Override
+    public @NotNull AdmissionController admission(@NotNull Consumer<AdmissionBuilder> builder) {
+        Preconditions.checkNotNull(builder);
+        this.checkRoot();
+
+        AdmissionSettings settings = new AdmissionSettings();
+        builder.accept(settings);
+
+        AdmissionGate admission = new AdmissionGate(settings);
+        this.admission = admission;
+
+        return admission;
+    }
+
+    @Override
+    public void unfreeze() {
+        this.frozen = false;
+        this.plans = null;
+    }
+
+    @Override
+    public boolean frozen() {
+        return this.frozen;
+    }
+
+    @Override
+    public void scheduleWith(@Nullable EventScheduler scheduler) {
+        Preconditions.checkArgument(scheduler == null || scheduler instanceof TimingWheel, "Unsupported EventScheduler.");
+
+        this.scheduler = (TimingWheel) scheduler;
+    }
+
+    private <T extends E> RegisteredListener<T> createListener(EventHandler<T> handler, Consumer<EventListenerBuilder<T>> builder) {
+        ListenerSettings.Builder<T> settings = new ListenerSettings.Builder<>();
+        builder.accept(settings);
+
+        return new LambdaRegisteredListener<>(settings.build(), handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> createListeners(EventListener listener,
+                                                                                      ListenerSettings.Builder<E> settings,
+                                                                                      @Nullable WeakListenerReference reference) {
         Class<? extends EventListener> listenerClass = listener.getClass();
 
+        EventListenerAdapter<EventListener> adapter = ListenerAdapters.adapter((Class<EventListener>) listenerClass);
+        if (adapter != null)
+            return this.adaptListeners(listener, adapter, settings, reference);
+
+        List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> listeners = new ArrayList<>();
         for (Method method : listenerClass.getDeclaredMethods()) {
 
             if (!method.isAnnotationPresent(fr.atlasworld.event.api.annotation.EventHandler.class)) {
@@ -264,11 +1007,369 @@ public class EventNodeImpl<E extends Event> implements EventNode<E> {
             }
 
             Class<? extends E> eventClass = (Class<? extends E>) parameter.getType();
-            MethodRegisteredListener<E> methodListener =
+            MethodRegisteredListener<E> methodListener = reference != null ?
+                    new MethodRegisteredListener<>(settings.build(), reference, method) :
                     new MethodRegisteredListener<>(settings.build(), listener, method);
 
-            this.listeners.computeIfAbsent(eventClass, k -> new ArrayList<>())
-                    .add(methodListener);
+            listeners.add(Map.entry(eventClass, methodListener));
+        }
+
+        return listeners;
+    }
+
+    private List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> adaptListeners(EventListener listener,
+                                                                                     EventListenerAdapter<EventListener> adapter,
+                                                                                     ListenerSettings.Builder<E> settings,
+                                                                                     @Nullable WeakListenerReference reference) {
+        List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> listeners = new ArrayList<>();
+
+        adapter.bind(new EventListenerAdapter.Binder<>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public <T extends Event> void bind(@NotNull String name, @NotNull Class<T> eventClass,
+                                               @NotNull EventListenerAdapter.HandlerMethod<EventListener, T> method) {
+                if (!EventNodeImpl.this.eventType.isAssignableFrom(eventClass)) {
+                    LOGGER.debug("WARN: Listener {} handler for {} will never get called, event doesn't inherit this node event type.",
+                            listener.getClass().getSimpleName(), eventClass.getSimpleName());
+                    return;
+                }
+
+                ListenerSettings listenerSettings = settings.build();
+                String identity = listener.getClass().getName() + "#" + name;
+                RegisteredListener<E> adapted = reference != null ?
+                        new AdaptedRegisteredListener<>(listenerSettings, reference, identity, method) :
+                        new AdaptedRegisteredListener<>(listenerSettings, listener, identity, method);
+
+                listeners.add(Map.entry((Class<? extends E>) eventClass, adapted));
+            }
+        });
+
+        return listeners;
+    }
+
+    private ListenerHandle registration(List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> listeners,
+                                        @Nullable WeakListenerReference reference) {
+        Registration registration = new Registration(listeners);
+        if (reference != null)
+            reference.bind(registration);
+
+        return registration;
+    }
+
+    /**
+     * Listeners of an event class, guarded by the node lock.
+     * <p>
+     * Up to {@value EventNodeImpl#INLINE_LIMIT} listeners, the snapshot is the registry and is replaced on every mutation.
+     * Past it, the bucket inflates to a set, the snapshot is then dropped on mutations and rebuilt by the next event call.
+     */
+    static final class ListenerBucket<E extends Event> {
+        @SuppressWarnings("rawtypes")
+        private static final ListenerBucket[] NONE = new ListenerBucket[0];
+        @SuppressWarnings("rawtypes")
+        private static final RegisteredListener[] NO_LISTENERS = new RegisteredListener[0];
+
+        private final Class<?> eventClass;
+
+        @GuardedBy("EventNodeImpl.this")
+        private Set<RegisteredListener<E>> registered;
+        @SuppressWarnings("unchecked")
+        private volatile RegisteredListener<E>[] snapshot = NO_LISTENERS;
+
+        // Listeners removed from the inflated registry but still referenced by the snapshot.
+        @GuardedBy("EventNodeImpl.this")
+        private int removed;
+
+        private ListenerBucket(Class<?> eventClass) {
+            this.eventClass = eventClass;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E extends Event> ListenerBucket<E>[] none() {
+            return NONE;
+        }
+
+        @GuardedBy("EventNodeImpl.this")
+        private void add(RegisteredListener<E> listener) {
+            if (this.registered == null) {
+                RegisteredListener<E>[] listeners = this.snapshot;
+                if (Arrays.asList(listeners).contains(listener))
+                    return;
+
+                if (listeners.length < INLINE_LIMIT) {
+                    listeners = Arrays.copyOf(listeners, listeners.length + 1);
+                    listeners[listeners.length - 1] = listener;
+                    this.snapshot = listeners;
+                    return;
+                }
+
+                this.registered = new LinkedHashSet<>(Arrays.asList(listeners));
+            }
+
+            this.registered.add(listener);
+            this.snapshot = null;
+        }
+
+        @GuardedBy("EventNodeImpl.this")
+        private void remove(RegisteredListener<E> listener) {
+            if (this.registered == null) {
+                RegisteredListener<E>[] listeners = this.snapshot;
+                int position = Arrays.asList(listeners).indexOf(listener);
+                if (position < 0)
+                    return;
+
+                RegisteredListener<E>[] remaining = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, position + 1, remaining, position, remaining.length - position);
+                this.snapshot = remaining;
+                return;
+            }
+
+            if (!this.registered.remove(listener))
+                return;
+
+            RegisteredListener<E>[] snapshot = this.snapshot;
+            if (snapshot != null && ++this.removed * 2 >= snapshot.length)
+                this.snapshot = null;
+        }
+
+        @GuardedBy("EventNodeImpl.this")
+        @SuppressWarnings("unchecked")
+        private RegisteredListener<E>[] rebuild() {
+            if (this.snapshot == null) {
+                this.snapshot = this.registered.toArray(RegisteredListener[]::new);
+                this.removed = 0;
+            }
+
+            return this.snapshot;
+        }
+    }
+
+    /**
+     * Children of a node and its listeners of an event class, read together.
+     */
+    static final class Snapshot<E extends Event> {
+        final EventNodeImpl<?>[] children;
+        final @Nullable ListenerBucket<E> bucket;
+        final @Nullable RegisteredListener<E>[] listeners;
+
+        private Snapshot(EventNodeImpl<?>[] children, @Nullable ListenerBucket<E> bucket,
+                         @Nullable RegisteredListener<E>[] listeners) {
+            this.children = children;
+            this.bucket = bucket;
+            this.listeners = listeners;
+        }
+    }
+
+    private static final class PrimitiveBucket {
+        private final PrimitiveChannel channel;
+        private final boolean ints;
+
+        // Copy-on-write, only replaced under the node lock.
+        private volatile Object[] handlers = NO_HANDLERS;
+
+        private PrimitiveBucket(PrimitiveChannel channel, boolean ints) {
+            this.channel = channel;
+            this.ints = ints;
+        }
+
+        private void call(long value, String node) {
+            for (Object handler : this.handlers) {
+                try {
+                    if (this.ints)
+                        ((IntEventHandler) handler).handle((int) value);
+                    else
+                        ((LongEventHandler) handler).handle(value);
+                } catch (Throwable cause) { // A failing handler must not prevent the others from being called.
+                    LOGGER.error("Handler of {} on node '{}' failed", this.channel, node, cause);
+                }
+            }
+        }
+    }
+
+    private final class PrimitiveRegistration implements ListenerHandle {
+        private final PrimitiveChannel channel;
+        private final Object handler;
+
+        @GuardedBy("EventNodeImpl.this")
+        private boolean registered = true;
+
+        private PrimitiveRegistration(PrimitiveChannel channel, Object handler) {
+            this.channel = channel;
+            this.handler = handler;
+        }
+
+        @Override
+        public boolean unregister() {
+            synchronized (EventNodeImpl.this) {
+                if (!this.registered)
+                    return false;
+
+                this.registered = false;
+
+                PrimitiveBucket bucket = EventNodeImpl.this.primitiveListeners.get(this.channel); // Allocated by the registration.
+                Object[] handlers = bucket.handlers;
+                for (int i = 0; i < handlers.length; i++) {
+                    if (handlers[i] != this.handler)
+                        continue;
+
+                    Object[] remaining = new Object[handlers.length - 1];
+                    System.arraycopy(handlers, 0, remaining, 0, i);
+                    System.arraycopy(handlers, i + 1, remaining, i, remaining.length - i);
+                    bucket.handlers = remaining;
+                    break;
+                }
+
+                return true;
+            }
+        }
+
+        @Override
+        public boolean registered() {
+            synchronized (EventNodeImpl.this) {
+                return this.registered;
+            }
+        }
+    }
+
+    private final class Registration implements ListenerHandle {
+        private final List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> listeners;
+
+        private Registration(List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public boolean unregister() {
+            boolean unregistered = false;
+
+            for (Map.Entry<Class<? extends E>, RegisteredListener<E>> entry : this.listeners) {
+                unregistered |= entry.getValue().expire();
+                EventNodeImpl.this.unregisterListener(entry.getKey(), entry.getValue());
+            }
+
+            return unregistered;
+        }
+
+        @Override
+        public boolean registered() {
+            for (Map.Entry<Class<? extends E>, RegisteredListener<E>> entry : this.listeners) {
+                if (!entry.getValue().hasExpired())
+                    return true;
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Records operations made on the node, they are replayed under the node lock once the transaction completes.
+     * Operations can't be staged anymore once the transaction completed.
+     */
+    private final class Transaction implements EventTransaction<E> {
+        private final List<Consumer<EventNodeImpl<E>>> operations = new ArrayList<>();
+        private boolean closed;
+
+        private void stage(Consumer<EventNodeImpl<E>> operation) {
+            Preconditions.checkState(!this.closed, "Transaction already completed!");
+            this.operations.add(operation);
+        }
+
+        @Override
+        public <T extends E> void addChildNode(@NotNull EventNode<T> node) {
+            Preconditions.checkNotNull(node);
+            Preconditions.checkArgument(node instanceof EventNodeImpl, "Unsupported EventNode.");
+
+            this.stage(target -> target.attachChild((EventNodeImpl<T>) node));
+        }
+
+        @Override
+        public EventNode<E> createChildNode(@NotNull String name) {
+            Preconditions.checkNotNull(name);
+
+            EventNodeImpl<E> node = new EventNodeImpl<>(name, EventNodeImpl.this.eventType, null);
+            this.addChildNode(node);
+
+            return node;
+        }
+
+        @Override
+        public EventNode<E> createChildNode(@NotNull String name, @NotNull Predicate<E> filter) {
+            Preconditions.checkNotNull(name);
+            Preconditions.checkNotNull(filter);
+
+            EventNodeImpl<E> node = new EventNodeImpl<>(name, EventNodeImpl.this.eventType, filter);
+            this.addChildNode(node);
+
+            return node;
+        }
+
+        @Override
+        public <T extends E> EventNode<T> createChildNode(@NotNull String name, @NotNull Class<T> eventType) {
+            Preconditions.checkNotNull(name);
+            Preconditions.checkNotNull(eventType);
+
+            EventNodeImpl<T> node = new EventNodeImpl<>(name, eventType, null);
+            this.addChildNode(node);
+
+            return node;
+        }
+
+        @Override
+        public <T extends E> EventNode<T> createChildNode(@NotNull String name, @NotNull Class<T> eventType, @NotNull Predicate<T> filter) {
+            Preconditions.checkNotNull(name);
+            Preconditions.checkNotNull(eventType);
+            Preconditions.checkNotNull(filter);
+
+            EventNodeImpl<T> node = new EventNodeImpl<>(name, eventType, filter);
+            this.addChildNode(node);
+
+            return node;
+        }
+
+        @Override
+        public void removeChildNode(@NotNull String name) {
+            Preconditions.checkNotNull(name);
+
+            this.stage(target -> target.detachChild(name));
+        }
+
+        @Override
+        public void removeChildNode(@NotNull EventNode<?> node) {
+            Preconditions.checkNotNull(node);
+
+            this.removeChildNode(node.name());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T extends E> ListenerHandle addListener(@NotNull Class<T> eventType, @NotNull EventHandler<T> handler, @NotNull Consumer<EventListenerBuilder<T>> builder) {
+            Preconditions.checkNotNull(eventType);
+            Preconditions.checkNotNull(handler);
+            Preconditions.checkNotNull(builder);
+
+            RegisteredListener<E> listener = (RegisteredListener<E>) EventNodeImpl.this.createListener(handler, builder);
+            this.stage(target -> target.registerListener(eventType, listener));
+
+            return new Registration(List.of(Map.entry(eventType, listener)));
+        }
+
+        @Override
+        public ListenerHandle addListener(@NotNull EventListener listener, @NotNull Consumer<EventListenerBuilder<E>> builder) {
+            Preconditions.checkNotNull(listener);
+            Preconditions.checkNotNull(builder);
+
+            ListenerSettings.Builder<E> settings = new ListenerSettings.Builder<>();
+            builder.accept(settings);
+
+            WeakListenerReference reference = settings.isWeak() ? new WeakListenerReference(listener) : null;
+            List<Map.Entry<Class<? extends E>, RegisteredListener<E>>> listeners =
+                    EventNodeImpl.this.createListeners(listener, settings, reference);
+
+            this.stage(target -> {
+                for (Map.Entry<Class<? extends E>, RegisteredListener<E>> entry : listeners)
+                    target.registerListener(entry.getKey(), entry.getValue());
+            });
+
+            return EventNodeImpl.this.registration(listeners, reference);
         }
     }
 }
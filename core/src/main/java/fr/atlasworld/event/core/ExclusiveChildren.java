@@ -0,0 +1,150 @@
+package fr.atlasworld.event.core;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Evaluation order of the children of an exclusive node, where an event only reaches the first child accepting it.
+ * <p>
+ * One event out of {@value #SAMPLE_RATE} tests the filters of every child, recording their pass rate and cost.
+ * Every {@value #REORDER_SAMPLES} samples the children are sorted by their expected cost to find the accepting child,
+ * the cost of their filter divided by their pass rate, and the statistics are halved so the order follows the traffic.
+ * <br>
+ * Orders are bound to a child snapshot, a new order is created in insertion order once the children change.
+ */
+@ThreadSafe
+final class ExclusiveChildren {
+    private static final int SAMPLE_RATE = 64;
+    private static final int REORDER_SAMPLES = 64;
+
+    private final EventNodeImpl<?>[] source;
+    private volatile EventNodeImpl<?>[] children;
+
+    @GuardedBy("this")
+    private final long[] tests;
+    @GuardedBy("this")
+    private final long[] passes;
+    @GuardedBy("this")
+    private final long[] nanos;
+    @GuardedBy("this")
+    private int samples;
+
+    ExclusiveChildren(@NotNull EventNodeImpl<?>[] source) {
+        this.source = source;
+        this.children = source;
+
+        this.tests = new long[source.length];
+        this.passes = new long[source.length];
+        this.nanos = new long[source.length];
+    }
+
+    boolean boundTo(EventNodeImpl<?>[] snapshot) {
+        return this.source == snapshot;
+    }
+
+    void invoke(@NotNull Event event, @NotNull EventContext ctx) {
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            EventNodeImpl<?> accepting = this.sample(event, ctx);
+            if (accepting != null)
+                accepting.propagateAccepted(event, ctx);
+
+            return;
+        }
+
+        for (EventNodeImpl<?> child : this.children) {
+            if (child.propagateEvent(event, ctx))
+                return; // Accepted, siblings are exclusive.
+        }
+    }
+
+    /**
+     * Tests the filter of every child, even past the accepting one, so the statistics of the last children stay accurate.
+     * Filters are tested outside the lock, the sample is dropped if the children were reordered meanwhile.
+     *
+     * @return first child accepting the event.
+     */
+    private @Nullable EventNodeImpl<?> sample(Event event, EventContext ctx) {
+        EventNodeImpl<?>[] children = this.children;
+        EventNodeImpl<?> accepting = null;
+
+        long[] nanos = new long[children.length];
+        boolean[] accepted = new boolean[children.length];
+
+        for (int i = 0; i < children.length; i++) {
+            EventNodeImpl<?> child = children[i];
+            if (ctx.wasCalled(child)) { // Already reached through another parent, can't accept the event here.
+                nanos[i] = -1;
+                continue;
+            }
+
+            long start = System.nanoTime();
+            accepted[i] = child.test(event);
+            nanos[i] = System.nanoTime() - start;
+
+            if (accepted[i] && accepting == null)
+                accepting = child;
+        }
+
+        synchronized (this) {
+            if (this.children != children)
+                return accepting;
+
+            for (int i = 0; i < children.length; i++) {
+                if (nanos[i] < 0)
+                    continue;
+
+                this.tests[i]++;
+                this.nanos[i] += nanos[i];
+                if (accepted[i])
+                    this.passes[i]++;
+            }
+
+            if (++this.samples >= REORDER_SAMPLES)
+                this.reorder();
+        }
+
+        return accepting;
+    }
+
+    @GuardedBy("this")
+    private void reorder() {
+        EventNodeImpl<?>[] children = this.children;
+
+        Integer[] order = new Integer[children.length];
+        double[] scores = new double[children.length];
+        for (int i = 0; i < children.length; i++) {
+            order[i] = i;
+
+            // Smoothed, children that were never tested nor accepted an event are not stuck at the end.
+            double passRate = (this.passes[i] + 1.0) / (this.tests[i] + 2.0);
+            double cost = (this.nanos[i] + 1.0) / (this.tests[i] + 1.0);
+            scores[i] = cost / passRate;
+        }
+
+        Arrays.sort(order, Comparator.comparingDouble(index -> scores[index]));
+
+        EventNodeImpl<?>[] sorted = new EventNodeImpl<?>[children.length];
+        long[] tests = this.tests.clone();
+        long[] passes = this.passes.clone();
+        long[] nanos = this.nanos.clone();
+
+        for (int i = 0; i < order.length; i++) {
+            int index = order[i];
+            sorted[i] = children[index];
+
+            this.tests[i] = tests[index] / 2;
+            this.passes[i] = passes[index] / 2;
+            this.nanos[i] = nanos[index] / 2;
+        }
+
+        this.samples = 0;
+        this.children = sorted;
+    }
+}
@@ -0,0 +1,22 @@
+package fr.atlasworld.event.core;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives every event passed to a node, before its children and listeners.
+ *
+ * @param <E> event type of the node.
+ */
+@FunctionalInterface
+public interface NodeSink<E extends Event> {
+
+    /**
+     * Receives an event passed to the node.
+     *
+     * @param event event passed to the node.
+     * @param node name of the node.
+     * @param ctx context of the dispatch, requests awaited through it delay the completion of the dispatch.
+     */
+    void accept(@NotNull E event, @NotNull String node, @NotNull EventContext ctx);
+}
@@ -0,0 +1,88 @@
+package fr.atlasworld.event.core;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.dispatch.DispatchBudget;
+import fr.atlasworld.event.api.dispatch.SlicedCall;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sliced call, running the listeners deferred by the walk of the tree.
+ * <p>
+ * Once the last slice ran, the dispatch completes like any other, awaiting the asynchronous listeners requested by the slices.
+ */
+@NotThreadSafe
+final class SlicedDispatch<E extends Event> implements SlicedCall<E> {
+    private final E event;
+    private final EventContext ctx;
+    private final CompletableFuture<E> future;
+
+    private int next;
+    private boolean done;
+
+    SlicedDispatch(@NotNull E event, @NotNull EventContext ctx) {
+        this.event = event;
+        this.ctx = ctx;
+        this.future = new CompletableFuture<>();
+    }
+
+    @Override
+    public @NotNull E event() {
+        return this.event;
+    }
+
+    @Override
+    public boolean resume(@NotNull DispatchBudget budget) {
+        Preconditions.checkNotNull(budget);
+        if (this.done)
+            return true;
+
+        int total = this.ctx.deferredListeners();
+        boolean timed = budget.nanos() != Long.MAX_VALUE;
+        long start = timed ? System.nanoTime() : 0;
+        int ran = 0;
+
+        while (this.next < total) {
+            this.ctx.callDeferred(this.next++, this.event);
+
+            if (++ran >= budget.listeners() || (timed && System.nanoTime() - start >= budget.nanos()))
+                break; // Budget used up.
+        }
+
+        if (this.next < total)
+            return false;
+
+        this.done = true;
+        this.ctx.complete(this.event).whenComplete((event, cause) -> {
+            if (cause != null)
+                this.future.completeExceptionally(cause);
+            else
+                this.future.complete(event);
+        });
+
+        return true;
+    }
+
+    @Override
+    public boolean done() {
+        return this.done;
+    }
+
+    @Override
+    public int remaining() {
+        return this.ctx.deferredListeners() - this.next;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<E> future() {
+        return this.future;
+    }
+
+    @Override
+    public String toString() {
+        return "SlicedDispatch[" + this.event.getClass().getName() + ", remaining=" + this.remaining() + "]";
+    }
+}
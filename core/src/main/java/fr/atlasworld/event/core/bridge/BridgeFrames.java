@@ -0,0 +1,21 @@
+package fr.atlasworld.event.core.bridge;
+
+/**
+ * Framing of the bridge protocol.
+ * <p>
+ * Every frame starts with {@code int length, byte type, short classId}, {@code length} covering everything after itself:
+ * <ul>
+ *     <li>{@link #TYPE_DEFINE}: followed by the UTF name of the event class, sent before the first event of a class.</li>
+ *     <li>{@link #TYPE_EVENT}: followed by the payload of the event, written by its codec.</li>
+ * </ul>
+ */
+final class BridgeFrames {
+    static final int LENGTH_SIZE = Integer.BYTES;
+    static final int HEADER_SIZE = Byte.BYTES + Short.BYTES;
+
+    static final byte TYPE_DEFINE = 1;
+    static final byte TYPE_EVENT = 2;
+
+    private BridgeFrames() {
+    }
+}
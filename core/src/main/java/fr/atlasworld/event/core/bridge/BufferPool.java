@@ -0,0 +1,53 @@
+package fr.atlasworld.event.core.bridge;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of direct buffers of a fixed size, shared by the bridge connections.
+ * <p>
+ * Buffers of another size, allocated for oversized frames, are not pooled.
+ */
+@ThreadSafe
+final class BufferPool {
+    static final BufferPool SHARED = new BufferPool(64 * 1024, 256);
+
+    private final int bufferSize;
+    private final int maxPooled;
+
+    private final Queue<ByteBuffer> buffers;
+    private final AtomicInteger pooled;
+
+    BufferPool(int bufferSize, int maxPooled) {
+        this.bufferSize = bufferSize;
+        this.maxPooled = maxPooled;
+
+        this.buffers = new ConcurrentLinkedQueue<>();
+        this.pooled = new AtomicInteger();
+    }
+
+    ByteBuffer acquire() {
+        ByteBuffer buffer = this.buffers.poll();
+        if (buffer == null)
+            return ByteBuffer.allocateDirect(this.bufferSize);
+
+        this.pooled.decrementAndGet();
+        return buffer;
+    }
+
+    void release(ByteBuffer buffer) {
+        if (buffer.capacity() != this.bufferSize || !buffer.isDirect())
+            return; // Oversized buffer, left to the GC.
+
+        if (this.pooled.incrementAndGet() > this.maxPooled) {
+            this.pooled.decrementAndGet();
+            return;
+        }
+
+        buffer.clear();
+        this.buffers.offer(buffer);
+    }
+}
@@ -0,0 +1,128 @@
+package fr.atlasworld.event.core.bridge;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link DataInput} reading directly from a buffer, throwing {@link EOFException} once exhausted.
+ */
+final class ByteBufferInput implements DataInput {
+    private ByteBuffer buffer;
+
+    ByteBufferInput wrap(ByteBuffer buffer) {
+        this.buffer = buffer;
+        return this;
+    }
+
+    private void require(int bytes) throws EOFException {
+        if (this.buffer.remaining() < bytes)
+            throw new EOFException();
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        this.readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        this.require(len);
+        this.buffer.get(b, off, len);
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.min(Math.max(0, n), this.buffer.remaining());
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return this.readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        this.require(Byte.BYTES);
+        return this.buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return this.readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        this.require(Short.BYTES);
+        return this.buffer.getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return this.readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        this.require(Character.BYTES);
+        return this.buffer.getChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        this.require(Integer.BYTES);
+        return this.buffer.getInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        this.require(Long.BYTES);
+        return this.buffer.getLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        this.require(Float.BYTES);
+        return this.buffer.getFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        this.require(Double.BYTES);
+        return this.buffer.getDouble();
+    }
+
+    @Override
+    public String readLine() {
+        if (!this.buffer.hasRemaining())
+            return null;
+
+        StringBuilder line = new StringBuilder();
+        while (this.buffer.hasRemaining()) {
+            char c = (char) (this.buffer.get() & 0xFF);
+            if (c == '\n')
+                break;
+
+            if (c == '\r') {
+                if (this.buffer.hasRemaining() && this.buffer.get(this.buffer.position()) == '\n')
+                    this.buffer.get();
+
+                break;
+            }
+
+            line.append(c);
+        }
+
+        return line.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+}
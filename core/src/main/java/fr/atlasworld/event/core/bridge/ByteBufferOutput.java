@@ -0,0 +1,112 @@
+package fr.atlasworld.event.core.bridge;
+
+import java.io.DataOutput;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link DataOutput} writing directly to a buffer, throwing {@link java.nio.BufferOverflowException} once full.
+ */
+final class ByteBufferOutput implements DataOutput {
+    private ByteBuffer buffer;
+
+    ByteBufferOutput wrap(ByteBuffer buffer) {
+        this.buffer = buffer;
+        return this;
+    }
+
+    @Override
+    public void write(int b) {
+        this.buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b) {
+        this.buffer.put(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        this.buffer.put(b, off, len);
+    }
+
+    @Override
+    public void writeBoolean(boolean v) {
+        this.buffer.put((byte) (v ? 1 : 0));
+    }
+
+    @Override
+    public void writeByte(int v) {
+        this.buffer.put((byte) v);
+    }
+
+    @Override
+    public void writeShort(int v) {
+        this.buffer.putShort((short) v);
+    }
+
+    @Override
+    public void writeChar(int v) {
+        this.buffer.putChar((char) v);
+    }
+
+    @Override
+    public void writeInt(int v) {
+        this.buffer.putInt(v);
+    }
+
+    @Override
+    public void writeLong(long v) {
+        this.buffer.putLong(v);
+    }
+
+    @Override
+    public void writeFloat(float v) {
+        this.buffer.putFloat(v);
+    }
+
+    @Override
+    public void writeDouble(double v) {
+        this.buffer.putDouble(v);
+    }
+
+    @Override
+    public void writeBytes(String s) {
+        for (int i = 0; i < s.length(); i++)
+            this.buffer.put((byte) s.charAt(i));
+    }
+
+    @Override
+    public void writeChars(String s) {
+        for (int i = 0; i < s.length(); i++)
+            this.buffer.putChar(s.charAt(i));
+    }
+
+    // Modified UTF-8, as written by DataOutputStream#writeUTF.
+    @Override
+    public void writeUTF(String s) throws UTFDataFormatException {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+
+        if (length > 0xFFFF)
+            throw new UTFDataFormatException("Encoded string too long: " + length + " bytes");
+
+        this.buffer.putShort((short) length);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                this.buffer.put((byte) c);
+            } else if (c <= 0x07FF) {
+                this.buffer.put((byte) (0xC0 | ((c >> 6) & 0x1F)));
+                this.buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else {
+                this.buffer.put((byte) (0xE0 | ((c >> 12) & 0x0F)));
+                this.buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                this.buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package fr.atlasworld.event.core.bridge;
+
+import fr.atlasworld.common.logging.LogUtils;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.bridge.EventBridgeServer;
+import fr.atlasworld.event.api.record.EventCodec;
+import fr.atlasworld.event.api.record.EventCodecs;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server reading bridge frames from accepted socket channels, one thread per connection.
+ * <p>
+ * Frames are read into pooled direct buffers and decoded in place.
+ * Received events are marked until their dispatch completes so bridge nodes don't send them back,
+ * failed dispatches are logged.
+ */
+@ThreadSafe
+public final class SocketBridgeServer implements EventBridgeServer {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private final ServerSocketChannel server;
+    private final SocketAddress address;
+    private final EventCodecs codecs;
+    private final EventNode<Event> root;
+    private final BufferPool pool;
+
+    private final Set<SocketChannel> connections;
+    private final AtomicLong received;
+
+    private volatile boolean closed;
+
+    public SocketBridgeServer(@NotNull SocketAddress address, @NotNull EventCodecs codecs, @NotNull EventNode<Event> root) throws IOException {
+        this.server = address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+
+        this.server.bind(address);
+        this.address = this.server.getLocalAddress();
+        this.codecs = codecs;
+        this.root = root;
+        this.pool = BufferPool.SHARED;
+
+        this.connections = ConcurrentHashMap.newKeySet();
+        this.received = new AtomicLong();
+
+        Thread acceptor = new Thread(this::acceptLoop, "EventFlow Bridge Acceptor - " + this.address);
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private void acceptLoop() {
+        while (!this.closed) {
+            SocketChannel connection;
+            try {
+                connection = this.server.accept();
+            } catch (ClosedChannelException e) {
+                return; // Server closed.
+            } catch (IOException e) {
+                LOGGER.error("Failed to accept bridge connection on {}", this.address, e);
+                continue;
+            }
+
+            this.connections.add(connection);
+
+            Thread reader = new Thread(() -> this.readLoop(connection), "EventFlow Bridge Reader - " + this.address);
+            reader.setDaemon(true);
+            reader.start();
+        }
+    }
+
+    private void readLoop(SocketChannel connection) {
+        Map<Short, String> classes = new HashMap<>();
+        ByteBufferInput input = new ByteBufferInput();
+        ByteBuffer buffer = this.pool.acquire();
+
+        try {
+            while (connection.read(buffer) >= 0) {
+                buffer.flip();
+
+                while (buffer.remaining() >= BridgeFrames.LENGTH_SIZE) {
+                    int length = buffer.getInt(buffer.position());
+                    if (length < BridgeFrames.HEADER_SIZE)
+                        throw new IOException("Corrupted bridge frame, length " + length);
+
+                    if (buffer.remaining() - BridgeFrames.LENGTH_SIZE < length)
+                        break; // Frame not fully received yet.
+
+                    int frameStart = buffer.position() + BridgeFrames.LENGTH_SIZE;
+                    this.readFrame(buffer.slice(frameStart, length), classes, input);
+                    buffer.position(frameStart + length);
+                }
+
+                buffer.compact();
+                if (!buffer.hasRemaining()) { // Frame larger than the buffer.
+                    ByteBuffer larger = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                    larger.put(buffer.flip());
+
+                    this.pool.release(buffer);
+                    buffer = larger;
+                }
+            }
+        } catch (IOException e) {
+            if (!this.closed)
+                LOGGER.error("Bridge connection failed on {}", this.address, e);
+        } finally {
+            this.pool.release(buffer);
+            this.connections.remove(connection);
+
+            try {
+                connection.close();
+            } catch (IOException e) {
+                LOGGER.error("Failed to close bridge connection on {}", this.address, e);
+            }
+        }
+    }
+
+    private void readFrame(ByteBuffer frame, Map<Short, String> classes, ByteBufferInput input) throws IOException {
+        byte type = frame.get();
+        short classId = frame.getShort();
+
+        if (type == BridgeFrames.TYPE_DEFINE) {
+            classes.put(classId, input.wrap(frame).readUTF());
+            return;
+        }
+
+        if (type != BridgeFrames.TYPE_EVENT)
+            throw new IOException("Corrupted bridge frame, unknown type " + type);
+
+        String eventClass = classes.get(classId);
+        if (eventClass == null)
+            throw new IOException("Corrupted bridge frame, undefined event class " + classId);
+
+        EventCodec<?> codec = this.codecs.codec(eventClass);
+        if (codec == null) {
+            LOGGER.warn("Dropped bridged event {}, no codec registered.", eventClass);
+            return;
+        }
+
+        Event event = codec.decode(input.wrap(frame));
+        this.received.incrementAndGet();
+
+        SocketEventBridge.markReceived(event);
+        try {
+            this.root.callEvent(event).whenComplete((result, cause) -> {
+                SocketEventBridge.unmarkReceived(event);
+                if (cause != null)
+                    LOGGER.error("Bridged event {} failed on {}", eventClass, this.address, cause);
+            });
+        } catch (RuntimeException e) {
+            SocketEventBridge.unmarkReceived(event);
+            LOGGER.error("Failed to call bridged event {} on {}", eventClass, this.address, e);
+        }
+    }
+
+    @Override
+    public @NotNull SocketAddress address() {
+        return this.address;
+    }
+
+    @Override
+    public long received() {
+        return this.received.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.server.close();
+
+        for (SocketChannel connection : this.connections)
+            connection.close();
+
+        if (this.address instanceof UnixDomainSocketAddress)
+            Files.deleteIfExists(((UnixDomainSocketAddress) this.address).getPath());
+    }
+}
@@ -0,0 +1,297 @@
+package fr.atlasworld.event.core.bridge;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.common.logging.LogUtils;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.bridge.EventBridge;
+import fr.atlasworld.event.api.record.EventCodec;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.core.NodeSink;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bridge writing frames to a socket channel.
+ * <p>
+ * Forwarding threads encode their frame straight into the pooled direct buffer of the current batch,
+ * a writer thread swaps the batch with an empty buffer and writes every filled buffer in a single gathering write.
+ * Forwarding threads only block once {@value #MAX_QUEUED_BUFFERS} buffers are waiting to be written.
+ */
+@ThreadSafe
+public final class SocketEventBridge implements EventBridge {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    // Events received from a bridge whose dispatch is still in flight, compared by identity.
+    private static final Set<Event> RECEIVED = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static final AtomicInteger RECEIVING = new AtomicInteger(); // Size of RECEIVED, skips the lookup when empty.
+    private static final String SINK_IDENTITY = "bridge";
+    private static final int MAX_QUEUED_BUFFERS = 64;
+
+    private final SocketChannel channel;
+    private final EventCodecs codecs;
+    private final BufferPool pool;
+
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    private final Map<Class<?>, Short> classIds;
+    @GuardedBy("lock")
+    private final List<ByteBuffer> filled;
+    @GuardedBy("lock")
+    private final ByteBufferOutput output;
+    @GuardedBy("lock")
+    private ByteBuffer batch;
+    @GuardedBy("lock")
+    private boolean closed;
+    @GuardedBy("lock")
+    private IOException failure;
+
+    private final AtomicLong forwarded;
+    private final Thread writer;
+
+    public SocketEventBridge(@NotNull SocketAddress address, @NotNull EventCodecs codecs) throws IOException {
+        this.channel = SocketChannel.open(address);
+        this.codecs = codecs;
+        this.pool = BufferPool.SHARED;
+
+        this.classIds = new HashMap<>();
+        this.filled = new ArrayList<>();
+        this.output = new ByteBufferOutput();
+        this.batch = this.pool.acquire();
+
+        this.forwarded = new AtomicLong();
+
+        this.writer = new Thread(this::writeLoop, "EventFlow Bridge Writer - " + address);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Marks an event as received from a bridge, bridge nodes don't forward it back until it is unmarked.
+     * Events raised by the listeners of a received event are forwarded as usual, whichever thread dispatches them.
+     *
+     * @param event received event.
+     */
+    static void markReceived(Event event) {
+        if (RECEIVED.add(event))
+            RECEIVING.incrementAndGet();
+    }
+
+    /**
+     * Unmarks a received event once its dispatch completed.
+     *
+     * @param event received event.
+     */
+    static void unmarkReceived(Event event) {
+        if (RECEIVED.remove(event))
+            RECEIVING.decrementAndGet();
+    }
+
+    private static boolean received(Event event) {
+        return RECEIVING.get() != 0 && RECEIVED.contains(event);
+    }
+
+    /**
+     * Creates the sink of bridge nodes, forwarding events before any listener sees them.
+     *
+     * @return sink forwarding to this bridge.
+     */
+    public <E extends Event> NodeSink<E> sink() {
+        return (event, node, ctx) -> {
+            if (received(event))
+                return; // Received from a bridge, don't send it back.
+
+            try {
+                this.forward(event);
+            } catch (RuntimeException e) {
+                ctx.fail(SINK_IDENTITY, node, e);
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forward(@NotNull Event event) {
+        Preconditions.checkNotNull(event);
+
+        EventCodec<Event> codec = (EventCodec<Event>) this.codecs.codec(event.getClass());
+        Preconditions.checkArgument(codec != null, "No codec registered for %s", event.getClass().getName());
+
+        synchronized (this.lock) {
+            try {
+                Short classId = this.classIds.get(event.getClass());
+                if (classId == null)
+                    classId = this.define(event.getClass());
+
+                short id = classId;
+                this.writeFrame(BridgeFrames.TYPE_EVENT, id, () -> codec.encode(event, this.output));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not forward event " + event.getClass().getName(), e);
+            }
+
+            this.lock.notifyAll(); // Wake up the writer.
+        }
+
+        this.forwarded.incrementAndGet();
+    }
+
+    @GuardedBy("lock")
+    private short define(Class<?> eventClass) throws IOException {
+        Preconditions.checkState(this.classIds.size() < Short.MAX_VALUE, "Too many forwarded event classes!");
+
+        short id = (short) this.classIds.size();
+        this.writeFrame(BridgeFrames.TYPE_DEFINE, id, () -> this.output.writeUTF(eventClass.getName()));
+
+        this.classIds.put(eventClass, id);
+        return id;
+    }
+
+    @GuardedBy("lock")
+    private void writeFrame(byte type, short classId, FrameBody body) throws IOException {
+        while (true) {
+            this.checkOpen();
+
+            ByteBuffer buffer = this.batch;
+            int start = buffer.position();
+            try {
+                buffer.position(start + BridgeFrames.LENGTH_SIZE);
+                buffer.put(type);
+                buffer.putShort(classId);
+                this.output.wrap(buffer);
+                body.write();
+
+                buffer.putInt(start, buffer.position() - start - BridgeFrames.LENGTH_SIZE);
+                return;
+            } catch (BufferOverflowException e) {
+                buffer.position(start);
+            } catch (Throwable e) {
+                buffer.position(start); // Drop the partial frame, earlier frames in the batch stay intact.
+                throw e;
+            }
+
+            if (start == 0) { // Larger than an empty buffer, retry with a dedicated one.
+                this.pool.release(buffer);
+                this.batch = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                continue;
+            }
+
+            if (this.filled.size() >= MAX_QUEUED_BUFFERS) {
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the bridge writer!", e);
+                }
+
+                continue; // The writer may have taken the batch meanwhile.
+            }
+
+            this.filled.add(buffer);
+            this.batch = this.pool.acquire();
+        }
+    }
+
+    @GuardedBy("lock")
+    private void checkOpen() {
+        if (this.failure != null)
+            throw new IllegalStateException("Bridge connection failed!", this.failure);
+
+        Preconditions.checkState(!this.closed, "Bridge is closed!");
+    }
+
+    private void writeLoop() {
+        while (true) {
+            ByteBuffer[] buffers;
+            synchronized (this.lock) {
+                try {
+                    while (this.filled.isEmpty() && this.batch.position() == 0 && !this.closed)
+                        this.lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if (this.filled.isEmpty() && this.batch.position() == 0)
+                    return; // Closed, everything written.
+
+                if (this.batch.position() > 0) {
+                    this.filled.add(this.batch);
+                    this.batch = this.pool.acquire();
+                }
+
+                buffers = this.filled.toArray(new ByteBuffer[0]);
+                this.filled.clear();
+                this.lock.notifyAll(); // Wake up blocked forwarding threads.
+            }
+
+            try {
+                for (ByteBuffer buffer : buffers)
+                    buffer.flip();
+
+                long remaining = 0;
+                for (ByteBuffer buffer : buffers)
+                    remaining += buffer.remaining();
+
+                while (remaining > 0)
+                    remaining -= this.channel.write(buffers);
+            } catch (IOException e) {
+                LOGGER.error("Bridge connection failed, events will no longer be forwarded.", e);
+
+                synchronized (this.lock) {
+                    this.failure = e;
+                    this.lock.notifyAll();
+                }
+                return;
+            }
+
+            for (ByteBuffer buffer : buffers)
+                this.pool.release(buffer);
+        }
+    }
+
+    @Override
+    public long forwarded() {
+        return this.forwarded.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.lock) {
+            if (this.closed)
+                return;
+
+            this.closed = true;
+            this.lock.notifyAll();
+        }
+
+        try {
+            this.writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface FrameBody {
+        void write() throws IOException;
+    }
+}
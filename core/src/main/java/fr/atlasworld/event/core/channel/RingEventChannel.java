@@ -0,0 +1,422 @@
+package fr.atlasworld.event.core.channel;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.common.logging.LogUtils;
+import fr.atlasworld.event.api.channel.EventChannel;
+import fr.atlasworld.event.api.channel.EventLayout;
+import fr.atlasworld.event.api.channel.EventSlot;
+import fr.atlasworld.event.api.channel.EventView;
+import fr.atlasworld.event.api.channel.FieldType;
+import fr.atlasworld.event.api.channel.ViewHandler;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Multi-producer ring of fixed-layout events stored in a direct buffer, drained by a single channel thread.
+ * <p>
+ * Producers claim sequences with a single atomic increment and write their event in place,
+ * the slot is then marked available with the lap of its sequence, so the channel thread never reads a partially written event.
+ * Discarded slots are flagged before being marked available, the channel thread skips them.
+ * <br>
+ * The channel thread spins, yields, then parks for exponentially longer periods while the ring stays empty,
+ * producers are never required to wake it up.
+ * Closing the channel waits a bounded time for the published events, a slot left claimed would hold them back forever.
+ * Claims racing the close are discarded and fail, as do producers waiting on a full ring once the channel thread stopped.
+ */
+@ThreadSafe
+public final class RingEventChannel implements EventChannel {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final ViewListener[] NO_LISTENERS = new ViewListener[0];
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MIN_PARK_NANOS = 10_000;
+    private static final long MAX_PARK_NANOS = 1_000_000;
+    private static final int MAX_PARK_SHIFT = 7; // MIN_PARK_NANOS << 7 exceeds MAX_PARK_NANOS.
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    private final String name;
+    private final EventLayout layout;
+    private final int recordSize;
+    private final int mask;
+    private final int indexShift;
+
+    private final ByteBuffer ring;
+    private final byte[] zeros;
+    private final AtomicIntegerArray available;
+    // Written before the slot is marked available, cleared by the channel thread before consuming it.
+    private final boolean[] discarded;
+
+    private final AtomicLong claimed;
+    private final AtomicLong consumed;
+
+    private final ThreadLocal<Slot> slots;
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    private ViewListener[] listenerArray;
+    private volatile ViewListener[] listeners;
+
+    private volatile boolean closed;
+    private volatile boolean abandoned;
+    private final Thread thread;
+
+    public RingEventChannel(@NotNull String name, @NotNull EventLayout layout, int capacity) {
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        Preconditions.checkArgument(size > 0 && (long) size * layout.size() <= Integer.MAX_VALUE, "Channel ring doesn't fit in 2GiB!");
+
+        this.name = name;
+        this.layout = layout;
+        this.recordSize = layout.size();
+        this.mask = size - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(size);
+
+        this.ring = ByteBuffer.allocateDirect(size * this.recordSize).order(ByteOrder.nativeOrder());
+        this.zeros = new byte[this.recordSize];
+        this.available = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++)
+            this.available.set(i, -1); // No lap published yet.
+
+        this.discarded = new boolean[size];
+
+        this.claimed = new AtomicLong();
+        this.consumed = new AtomicLong();
+
+        this.slots = ThreadLocal.withInitial(Slot::new);
+        this.listenerArray = NO_LISTENERS;
+        this.listeners = NO_LISTENERS;
+
+        this.thread = new Thread(this::dispatchLoop, "EventFlow Channel - " + name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public @NotNull String name() {
+        return this.name;
+    }
+
+    @Override
+    public @NotNull EventLayout layout() {
+        return this.layout;
+    }
+
+    @Override
+    public ListenerHandle addListener(@NotNull ViewHandler handler) {
+        Preconditions.checkNotNull(handler);
+
+        ViewListener listener = new ViewListener(handler);
+        synchronized (this.lock) {
+            this.listenerArray = Arrays.copyOf(this.listenerArray, this.listenerArray.length + 1);
+            this.listenerArray[this.listenerArray.length - 1] = listener;
+            this.listeners = this.listenerArray;
+        }
+
+        return listener;
+    }
+
+    private boolean removeListener(ViewListener listener) {
+        synchronized (this.lock) {
+            int index = Arrays.asList(this.listenerArray).indexOf(listener);
+            if (index < 0)
+                return false;
+
+            ViewListener[] listeners = new ViewListener[this.listenerArray.length - 1];
+            System.arraycopy(this.listenerArray, 0, listeners, 0, index);
+            System.arraycopy(this.listenerArray, index + 1, listeners, index, listeners.length - index);
+
+            this.listenerArray = listeners;
+            this.listeners = listeners;
+            return true;
+        }
+    }
+
+    @Override
+    public @NotNull EventSlot claim() {
+        Preconditions.checkState(!this.closed, "Channel is closed!");
+
+        Slot slot = this.slots.get();
+        Preconditions.checkState(slot.sequence < 0, "Previously claimed slot was not published!");
+
+        long sequence = this.claimed.getAndIncrement();
+        int idle = 0;
+        while (sequence - this.consumed.get() > this.mask) { // Ring is full, wait for the channel thread.
+            if (this.closed && (this.abandoned || !this.thread.isAlive()))
+                throw new IllegalStateException("Channel is closed!"); // Nothing will consume the ring anymore.
+
+            idle = idle(idle);
+        }
+
+        if (this.closed) { // Raced close(), the channel thread may have stopped before seeing the sequence.
+            this.discard(sequence);
+            throw new IllegalStateException("Channel is closed!");
+        }
+
+        int base = this.index(sequence) * this.recordSize;
+        this.ring.put(base, this.zeros, 0, this.recordSize);
+
+        slot.sequence = sequence;
+        slot.base = base;
+        return slot;
+    }
+
+    private void publish(long sequence) {
+        this.available.lazySet(this.index(sequence), this.lap(sequence));
+    }
+
+    private void discard(long sequence) {
+        this.discarded[this.index(sequence)] = true; // Published by the release of the lap.
+        this.publish(sequence);
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & this.mask;
+    }
+
+    private int lap(long sequence) {
+        return (int) (sequence >>> this.indexShift);
+    }
+
+    private void dispatchLoop() {
+        View view = new View();
+        long next = 0;
+        int idle = 0;
+
+        while (true) {
+            int index = this.index(next);
+            if (this.available.get(index) != this.lap(next)) {
+                if (this.closed && (next == this.claimed.get() || this.abandoned))
+                    return; // Every published event was dispatched, or a slot is left claimed.
+
+                idle = idle(idle);
+                continue;
+            }
+
+            idle = 0;
+            if (this.discarded[index]) {
+                this.discarded[index] = false;
+                this.consumed.lazySet(++next);
+                continue;
+            }
+
+            view.sequence = next;
+            view.base = index * this.recordSize;
+
+            for (ViewListener listener : this.listeners) {
+                try {
+                    listener.handler.handle(view);
+                } catch (Throwable cause) {
+                    LOGGER.error("Listener of channel '{}' failed to handle event {}", this.name, next, cause);
+                }
+            }
+
+            this.consumed.lazySet(++next);
+        }
+    }
+
+    private static int idle(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            int parks = idle - SPIN_TRIES - YIELD_TRIES;
+            LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << parks, MAX_PARK_NANOS));
+            return parks < MAX_PARK_SHIFT ? idle + 1 : idle;
+        }
+
+        return idle + 1;
+    }
+
+    @Override
+    public long dispatched() {
+        return this.consumed.get();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+
+        try {
+            this.thread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (this.thread.isAlive()) {
+            LOGGER.warn("Channel '{}' did not drain within {}ms, a claimed slot was never published.", this.name, CLOSE_TIMEOUT_MILLIS);
+            this.abandoned = true;
+        }
+    }
+
+    private static void checkType(EventLayout.Field field, FieldType type) {
+        if (field.type() != type)
+            throw new IllegalArgumentException("Field " + field + " is not of type " + type);
+    }
+
+    private final class View implements EventView {
+        private long sequence;
+        private int base;
+
+        @Override
+        public long sequence() {
+            return this.sequence;
+        }
+
+        @Override
+        public boolean getBoolean(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.BOOLEAN);
+            return RingEventChannel.this.ring.get(this.base + field.offset()) != 0;
+        }
+
+        @Override
+        public byte getByte(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.BYTE);
+            return RingEventChannel.this.ring.get(this.base + field.offset());
+        }
+
+        @Override
+        public short getShort(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.SHORT);
+            return RingEventChannel.this.ring.getShort(this.base + field.offset());
+        }
+
+        @Override
+        public char getChar(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.CHAR);
+            return RingEventChannel.this.ring.getChar(this.base + field.offset());
+        }
+
+        @Override
+        public int getInt(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.INT);
+            return RingEventChannel.this.ring.getInt(this.base + field.offset());
+        }
+
+        @Override
+        public float getFloat(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.FLOAT);
+            return RingEventChannel.this.ring.getFloat(this.base + field.offset());
+        }
+
+        @Override
+        public long getLong(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.LONG);
+            return RingEventChannel.this.ring.getLong(this.base + field.offset());
+        }
+
+        @Override
+        public double getDouble(@NotNull EventLayout.Field field) {
+            checkType(field, FieldType.DOUBLE);
+            return RingEventChannel.this.ring.getDouble(this.base + field.offset());
+        }
+    }
+
+    private final class Slot implements EventSlot {
+        private long sequence = -1;
+        private int base;
+
+        @Override
+        public @NotNull EventSlot putBoolean(@NotNull EventLayout.Field field, boolean value) {
+            checkType(field, FieldType.BOOLEAN);
+            RingEventChannel.this.ring.put(this.base + field.offset(), (byte) (value ? 1 : 0));
+            return this;
+        }
+
+        @Override
+        public @NotNull EventSlot putByte(@NotNull EventLayout.Field field, byte value) {
+            checkType(field, FieldType.BYTE);
+            RingEventChannel.this.ring.put(this.base + field.offset(), value);
+            return this;
+        }
+
+        @Override
+        public @NotNull EventSlot putShort(@NotNull EventLayout.Field field, short value) {
+            checkType(field, FieldType.SHORT);
+            RingEventChannel.this.ring.putShort(this.base + field.offset(), value);
+            return this;
+        }
+
+        @Override
+        public @NotNull EventSlot putChar(@NotNull EventLayout.Field field, char value) {
+            checkType(field, FieldType.CHAR);
+            RingEventChannel.this.ring.putChar(this.base + field.offset(), value);
+            return this;
+        }
+
+        @Override
+        public @NotNull EventSlot putInt(@NotNull EventLayout.Field field, int value) {
+            checkType(field, FieldType.INT);
+            RingEventChannel.this.ring.putInt(this.base + field.offset(), value);
+            return this;
+        }
+
+        @Override
+        public @NotNull EventSlot putFloat(@NotNull EventLayout.Field field, float value) {
+            checkType(field, FieldType.FLOAT);
+            RingEventChannel.this.ring.putFloat(this.base + field.offset(), value);
+            return this;
+        }
+
+        @Override
+        public @NotNull EventSlot putLong(@NotNull EventLayout.Field field, long value) {
+            checkType(field, FieldType.LONG);
+            RingEventChannel.this.ring.putLong(this.base + field.offset(), value);
+            return this;
+        }
+
+        @Override
+        public @NotNull EventSlot putDouble(@NotNull EventLayout.Field field, double value) {
+            checkType(field, FieldType.DOUBLE);
+            RingEventChannel.this.ring.putDouble(this.base + field.offset(), value);
+            return this;
+        }
+
+        @Override
+        public void publish() {
+            Preconditions.checkState(this.sequence >= 0, "Slot is not claimed!");
+
+            long sequence = this.sequence;
+            this.sequence = -1;
+            RingEventChannel.this.publish(sequence);
+        }
+
+        @Override
+        public void discard() {
+            Preconditions.checkState(this.sequence >= 0, "Slot is not claimed!");
+
+            long sequence = this.sequence;
+            this.sequence = -1;
+            RingEventChannel.this.discard(sequence);
+        }
+    }
+
+    private final class ViewListener implements ListenerHandle {
+        private final ViewHandler handler;
+
+        private ViewListener(ViewHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public boolean unregister() {
+            return RingEventChannel.this.removeListener(this);
+        }
+
+        @Override
+        public boolean registered() {
+            return Arrays.asList(RingEventChannel.this.listeners).contains(this);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package fr.atlasworld.event.core.dispatch;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.dispatch.AdmissionController;
+import fr.atlasworld.event.api.dispatch.AdmissionPolicy;
+import fr.atlasworld.event.api.dispatch.EventRejectedException;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Admission controller backed by a lock-free in-flight counter and an exponentially weighted latency average.
+ * <p>
+ * Events of priority {@code p} are admitted while fewer than {@code capacity * (p + 1) / levels} dispatches are in flight,
+ * the capacity being the maximum in-flight dispatches, reduced by the ratio between the target and the recent latency
+ * once the recent latency exceeds the target. Every priority may have at least one dispatch in flight,
+ * so the latency average keeps being updated and the capacity recovers.
+ * <br>
+ * A dispatch leaves the flight once its future completes, deferred events are then dispatched by the completing thread.
+ * Fired events have no future, they leave the flight once the tree has been walked.
+ * Deferred events are queued per priority, the highest priorities are drained first and each queue in arrival order,
+ * a lower priority event waiting for capacity never holds back a higher priority one.
+ * A single thread drains the deferred events at a time, synchronous dispatches never recurse.
+ * <br>
+ * The completing thread may be the executor thread of an asynchronous listener,
+ * the synchronous listeners of the deferred events then run on it.
+ */
+@ThreadSafe
+public final class AdmissionGate implements AdmissionController {
+    private static final int LATENCY_SHIFT = 3; // Each dispatch weighs 1/8 of the average.
+
+    private final int maxInFlight;
+    private final long maxLatencyNanos;
+    private final Map<Class<? extends Event>, Integer> priorities;
+    private final int levels;
+    private final AdmissionPolicy policy;
+    private final int maxDeferred;
+
+    private final Map<Class<?>, Integer> resolvedPriorities;
+
+    private final AtomicInteger inFlight;
+    private final AtomicInteger deferred;
+    private final AtomicInteger draining;
+    private final List<Queue<Pending<?>>> queues; // Indexed by priority.
+
+    // Racy average, a lost update only drops a sample.
+    private volatile long latencyNanos;
+
+    private final LongAdder admitted;
+    private final LongAdder shed;
+
+    public AdmissionGate(AdmissionSettings settings) {
+        this.maxInFlight = settings.maxInFlight();
+        this.maxLatencyNanos = settings.maxLatency() != null ? settings.maxLatency().toNanos() : 0;
+        this.priorities = Map.copyOf(settings.priorities());
+        this.levels = this.priorities.values().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+        this.policy = settings.policy();
+        this.maxDeferred = settings.maxDeferred();
+
+        this.resolvedPriorities = new ConcurrentHashMap<>();
+
+        this.inFlight = new AtomicInteger();
+        this.deferred = new AtomicInteger();
+        this.draining = new AtomicInteger();
+        List<Queue<Pending<?>>> queues = new ArrayList<>();
+        for (int i = 0; i < this.levels; i++)
+            queues.add(new ConcurrentLinkedQueue<>());
+
+        this.queues = List.copyOf(queues);
+
+        this.admitted = new LongAdder();
+        this.shed = new LongAdder();
+    }
+
+    /**
+     * Admits, defers or sheds an event.
+     *
+     * @param event event to admit.
+     * @param dispatch dispatch of the event, called once admitted.
+     *
+     * @return future of the dispatch, or failed future with an {@link EventRejectedException} if the event was shed.
+     */
+    public <R> CompletableFuture<R> admit(@NotNull Event event, @NotNull Supplier<CompletableFuture<R>> dispatch) {
+        int priority = this.priority(event.getClass());
+
+        if (this.tryAcquire(priority))
+            return this.run(dispatch);
+
+        if (this.policy == AdmissionPolicy.SHED)
+            return this.shed(event, this.inFlight.get() + " dispatches in flight");
+
+        if (!this.reserveDeferred())
+            return this.shed(event, this.maxDeferred + " events already deferred");
+
+        Pending<R> pending = new Pending<>(dispatch);
+        this.queues.get(priority).add(pending);
+        this.drain(); // A dispatch may have completed before the event got deferred.
+
+        return pending.future;
+    }
+
+    /**
+     * Admits, defers or sheds a fired event, no future is created to track its dispatch.
+     *
+     * @param event event to admit.
+     * @param dispatch dispatch of the event, called once admitted. The event leaves the flight once it returns.
+     *
+     * @return false if the event was shed.
+     */
+    public boolean fire(@NotNull Event event, @NotNull Runnable dispatch) {
+        int priority = this.priority(event.getClass());
+
+        if (this.tryAcquire(priority)) {
+            this.runFired(dispatch);
+            return true;
+        }
+
+        if (this.policy == AdmissionPolicy.SHED || !this.reserveDeferred()) {
+            this.shed.increment();
+            return false;
+        }
+
+        this.queues.get(priority).add(new Pending<>(dispatch));
+        this.drain(); // A dispatch may have completed before the event got deferred.
+
+        return true;
+    }
+
+    private boolean reserveDeferred() {
+        if (this.deferred.incrementAndGet() <= this.maxDeferred)
+            return true;
+
+        this.deferred.decrementAndGet();
+        return false;
+    }
+
+    private <R> CompletableFuture<R> shed(Event event, String reason) {
+        this.shed.increment();
+        return CompletableFuture.failedFuture(new EventRejectedException(event.getClass(), reason));
+    }
+
+    private int priority(Class<?> eventClass) {
+        Integer priority = this.resolvedPriorities.get(eventClass);
+        if (priority != null)
+            return priority;
+
+        priority = this.resolvePriority(eventClass);
+        this.resolvedPriorities.put(eventClass, priority);
+        return priority;
+    }
+
+    /**
+     * Resolves the priority of the closest configured superclass, or the highest priority of the configured interfaces.
+     */
+    private int resolvePriority(Class<?> eventClass) {
+        for (Class<?> current = eventClass; current != null; current = current.getSuperclass()) {
+            Integer priority = this.priorities.get(current);
+            if (priority != null)
+                return priority;
+        }
+
+        int priority = 0;
+        for (Map.Entry<Class<? extends Event>, Integer> entry : this.priorities.entrySet()) {
+            if (entry.getKey().isAssignableFrom(eventClass))
+                priority = Math.max(priority, entry.getValue());
+        }
+
+        return priority;
+    }
+
+    private int limit(int priority) {
+        long capacity = this.maxInFlight;
+
+        long latency = this.latencyNanos;
+        if (this.maxLatencyNanos > 0 && latency > this.maxLatencyNanos)
+            capacity = capacity * this.maxLatencyNanos / latency;
+
+        return (int) Math.max(1, capacity * (priority + 1) / this.levels);
+    }
+
+    private boolean tryAcquire(int priority) {
+        int limit = this.limit(priority);
+
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= limit)
+                return false;
+
+            if (this.inFlight.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+
+    private <R> CompletableFuture<R> run(Supplier<CompletableFuture<R>> dispatch) {
+        this.admitted.increment();
+        long start = System.nanoTime();
+
+        CompletableFuture<R> future;
+        try {
+            future = dispatch.get();
+        } catch (RuntimeException e) {
+            this.release(start);
+            throw e;
+        }
+
+        future.whenComplete((result, cause) -> this.release(start));
+        return future;
+    }
+
+    private void runFired(Runnable dispatch) {
+        this.admitted.increment();
+        long start = System.nanoTime();
+
+        try {
+            dispatch.run();
+        } finally {
+            this.release(start);
+        }
+    }
+
+    private void release(long start) {
+        long sample = System.nanoTime() - start;
+        long latency = this.latencyNanos;
+        this.latencyNanos = latency + ((sample - latency) >> LATENCY_SHIFT);
+
+        this.inFlight.decrementAndGet();
+        this.drain();
+    }
+
+    private void drain() {
+        if (this.draining.getAndIncrement() != 0) // Another thread is draining, it will check again.
+            return;
+
+        int missed = 1;
+        do {
+            for (int priority = this.levels - 1; priority >= 0; priority--) {
+                Queue<Pending<?>> queue = this.queues.get(priority);
+
+                Pending<?> pending;
+                while ((pending = queue.peek()) != null && this.tryAcquire(priority)) {
+                    queue.poll(); // Only the draining thread removes events.
+                    this.deferred.decrementAndGet();
+
+                    this.runDeferred(pending);
+                }
+
+                if (pending != null) // Lower priorities have a lower limit, they can't be admitted either.
+                    break;
+            }
+
+            missed = this.draining.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private <R> void runDeferred(Pending<R> pending) {
+        if (pending.fired != null) {
+            try {
+                this.runFired(pending.fired);
+            } catch (RuntimeException ignored) { // Nothing awaits fired events, listener failures were already handled.
+            }
+            return;
+        }
+
+        try {
+            this.run(pending.dispatch).whenComplete((result, cause) -> {
+                if (cause != null)
+                    pending.future.completeExceptionally(cause);
+                else
+                    pending.future.complete(result);
+            });
+        } catch (RuntimeException e) {
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    @Override
+    public int deferred() {
+        return this.deferred.get();
+    }
+
+    @Override
+    public long admitted() {
+        return this.admitted.sum();
+    }
+
+    @Override
+    public long shed() {
+        return this.shed.sum();
+    }
+
+    @Override
+    public @NotNull Duration latency() {
+        return Duration.ofNanos(this.latencyNanos);
+    }
+
+    private static final class Pending<R> {
+        private final Supplier<CompletableFuture<R>> dispatch;
+        private final CompletableFuture<R> future;
+        private final Runnable fired; // Fired events have no dispatch nor future.
+
+        private Pending(Supplier<CompletableFuture<R>> dispatch) {
+            this.dispatch = dispatch;
+            this.future = new CompletableFuture<>();
+            this.fired = null;
+        }
+
+        private Pending(Runnable fired) {
+            this.dispatch = null;
+            this.future = null;
+            this.fired = fired;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package fr.atlasworld.event.core.dispatch;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.dispatch.AdmissionBuilder;
+import fr.atlasworld.event.api.dispatch.AdmissionPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class AdmissionSettings implements AdmissionBuilder {
+    private int maxInFlight;
+    private Duration maxLatency;
+    private final Map<Class<? extends Event>, Integer> priorities;
+    private AdmissionPolicy policy;
+    private int maxDeferred;
+
+    public AdmissionSettings() {
+        this.maxInFlight = 10000;
+        this.priorities = new HashMap<>();
+        this.policy = AdmissionPolicy.SHED;
+    }
+
+    @Override
+    public @NotNull AdmissionSettings maxInFlight(int dispatches) {
+        Preconditions.checkArgument(dispatches > 0, "Max in-flight dispatches must be strictly positive!");
+
+        this.maxInFlight = dispatches;
+        return this;
+    }
+
+    @Override
+    public @NotNull AdmissionSettings maxLatency(@NotNull Duration latency) {
+        Preconditions.checkNotNull(latency);
+        Preconditions.checkArgument(!latency.isNegative() && !latency.isZero(), "Max latency must be strictly positive!");
+
+        this.maxLatency = latency;
+        return this;
+    }
+
+    @Override
+    public @NotNull AdmissionSettings priority(@NotNull Class<? extends Event> eventClass, int priority) {
+        Preconditions.checkNotNull(eventClass);
+        Preconditions.checkArgument(priority >= 0, "Priority must be positive!");
+
+        this.priorities.put(eventClass, priority);
+        return this;
+    }
+
+    @Override
+    public @NotNull AdmissionSettings policy(@NotNull AdmissionPolicy policy, int maxDeferred) {
+        Preconditions.checkNotNull(policy);
+        Preconditions.checkArgument(maxDeferred >= 0, "Max deferred events must be positive!");
+
+        this.policy = policy;
+        this.maxDeferred = maxDeferred;
+        return this;
+    }
+
+    public int maxInFlight() {
+        return this.maxInFlight;
+    }
+
+    public @Nullable Duration maxLatency() {
+        return this.maxLatency;
+    }
+
+    public Map<Class<? extends Event>, Integer> priorities() {
+        return this.priorities;
+    }
+
+    public AdmissionPolicy policy() {
+        return this.policy;
+    }
+
+    public int maxDeferred() {
+        return this.maxDeferred;
+    }
+}
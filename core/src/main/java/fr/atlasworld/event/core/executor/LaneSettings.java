@@ -0,0 +1,53 @@
+package fr.atlasworld.event.core.executor;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.executor.PriorityExecutorBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LaneSettings implements PriorityExecutorBuilder {
+    private final List<String> names;
+    private final List<Integer> weights;
+    private Duration maxQueueTime;
+
+    public LaneSettings() {
+        this.names = new ArrayList<>();
+        this.weights = new ArrayList<>();
+        this.maxQueueTime = Duration.ofSeconds(1);
+    }
+
+    @Override
+    public @NotNull LaneSettings lane(@NotNull String name, int weight) {
+        Preconditions.checkNotNull(name);
+        Preconditions.checkArgument(weight > 0, "Lane weight must be strictly positive!");
+        Preconditions.checkArgument(!this.names.contains(name), "Lane '%s' is already declared!", name);
+
+        this.names.add(name);
+        this.weights.add(weight);
+        return this;
+    }
+
+    @Override
+    public @NotNull LaneSettings maxQueueTime(@NotNull Duration maxQueueTime) {
+        Preconditions.checkNotNull(maxQueueTime);
+        Preconditions.checkArgument(!maxQueueTime.isNegative() && !maxQueueTime.isZero(), "Max queue time must be strictly positive!");
+
+        this.maxQueueTime = maxQueueTime;
+        return this;
+    }
+
+    public List<String> names() {
+        return this.names;
+    }
+
+    public int weight(int lane) {
+        return this.weights.get(lane);
+    }
+
+    public Duration maxQueueTime() {
+        return this.maxQueueTime;
+    }
+}
@@ -0,0 +1,189 @@
+package fr.atlasworld.event.core.executor;
+
+import fr.atlasworld.event.api.executor.Bulkhead;
+import fr.atlasworld.event.api.executor.BulkheadPolicy;
+import fr.atlasworld.event.api.executor.EventExecutor;
+import fr.atlasworld.event.api.executor.EventRequest;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead backed by a lock-free counting semaphore.
+ * <p>
+ * A permit is released once the executor completes the request, queued requests are then requested by the releasing thread.
+ * Queued requests are re-checked after being queued, a permit released in between is never missed.
+ */
+@ThreadSafe
+public final class NodeBulkhead implements Bulkhead {
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final BulkheadPolicy policy;
+
+    private final AtomicInteger inFlight;
+    private final AtomicInteger queued;
+    private final Queue<Pending> queue;
+
+    private final LongAdder saturated;
+    private final LongAdder inlined;
+    private final LongAdder rejected;
+
+    public NodeBulkhead(int maxInFlight, int maxQueued, BulkheadPolicy policy) {
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+        this.policy = policy;
+
+        this.inFlight = new AtomicInteger();
+        this.queued = new AtomicInteger();
+        this.queue = new ConcurrentLinkedQueue<>();
+
+        this.saturated = new LongAdder();
+        this.inlined = new LongAdder();
+        this.rejected = new LongAdder();
+    }
+
+    /**
+     * Requests the execution of a request on an executor, within the limits of this bulkhead.
+     */
+    public CompletableFuture<Void> request(EventExecutor executor, EventRequest request) throws InterruptedException {
+        if (this.tryAcquire())
+            return this.submit(executor, request);
+
+        this.saturated.increment();
+
+        switch (this.policy) {
+            case RUN_INLINE -> {
+                this.inlined.increment();
+                return EventExecutor.syncExecutor.request(request);
+            }
+            case QUEUE -> {
+                if (this.queued.incrementAndGet() > this.maxQueued) {
+                    this.queued.decrementAndGet();
+                    return this.reject();
+                }
+
+                Pending pending = new Pending(executor, request);
+                this.queue.add(pending);
+                this.drain(); // A permit may have been released before the request got queued.
+
+                return pending.future;
+            }
+            default -> {
+                return this.reject();
+            }
+        }
+    }
+
+    private CompletableFuture<Void> reject() {
+        this.rejected.increment();
+        return CompletableFuture.failedFuture(new RejectedExecutionException("Bulkhead is saturated, " + this.maxInFlight + " requests in flight."));
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= this.maxInFlight)
+                return false;
+
+            if (this.inFlight.compareAndSet(current, current + 1))
+                return true;
+        }
+    }
+
+    private CompletableFuture<Void> submit(EventExecutor executor, EventRequest request) throws InterruptedException {
+        CompletableFuture<Void> future;
+        try {
+            future = executor.request(request);
+        } catch (InterruptedException | RuntimeException e) {
+            this.release();
+            throw e;
+        }
+
+        future.whenComplete((result, cause) -> this.release());
+        return future;
+    }
+
+    private void release() {
+        this.inFlight.decrementAndGet();
+        this.drain();
+    }
+
+    private void drain() {
+        while (!this.queue.isEmpty() && this.tryAcquire()) {
+            Pending pending = this.queue.poll();
+            if (pending == null) { // Taken by another thread.
+                this.inFlight.decrementAndGet();
+                continue;
+            }
+
+            this.queued.decrementAndGet();
+
+            try {
+                this.submit(pending.executor, pending.request).whenComplete((result, cause) -> {
+                    if (cause != null)
+                        pending.future.completeExceptionally(cause);
+                    else
+                        pending.future.complete(null);
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.future.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public @NotNull BulkheadPolicy policy() {
+        return this.policy;
+    }
+
+    @Override
+    public int maxInFlight() {
+        return this.maxInFlight;
+    }
+
+    @Override
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    @Override
+    public int queued() {
+        return this.queued.get();
+    }
+
+    @Override
+    public long saturated() {
+        return this.saturated.sum();
+    }
+
+    @Override
+    public long inlined() {
+        return this.inlined.sum();
+    }
+
+    @Override
+    public long rejected() {
+        return this.rejected.sum();
+    }
+
+    private static final class Pending {
+        private final EventExecutor executor;
+        private final EventRequest request;
+        private final CompletableFuture<Void> future;
+
+        private Pending(EventExecutor executor, EventRequest request) {
+            this.executor = executor;
+            this.request = request;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package fr.atlasworld.event.core.executor;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.executor.EventExecutor;
+import fr.atlasworld.event.api.executor.EventRequest;
+import fr.atlasworld.event.api.executor.PriorityExecutor;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Priority executor picking requests with a smooth weighted round-robin over its lanes.
+ * <p>
+ * On every pick each non-empty lane earns its weight in credit, the lane with the most credit is picked
+ * and pays back the total weight of the non-empty lanes. Lanes are picked in proportion to their weights,
+ * and a lane with a large weight is interleaved with the others instead of being drained in bursts.
+ * <br>
+ * Before applying the weights, the heads of the lanes are checked for requests that waited past the maximum queue time,
+ * the oldest of them is picked first. Aged picks are still paid for in credit, and only one is made per round,
+ * as many picks as the total weight of the non-empty lanes. When every lane is overloaded and all their heads aged,
+ * requests are still served by weight instead of in arrival order.
+ */
+@ThreadSafe
+public final class WeightedLaneExecutor implements PriorityExecutor {
+    private final String name;
+    private final Lane[] lanes;
+    private final Map<String, Lane> lanesByName;
+    private final List<String> laneNames;
+    private final long maxQueueNanos;
+
+    private final ReentrantLock lock;
+    private final Condition available;
+
+    @GuardedBy("lock")
+    private boolean closed;
+    // Picks left before the next aged pick.
+    @GuardedBy("lock")
+    private int agedCooldown;
+
+    private final Thread[] threads;
+
+    public WeightedLaneExecutor(String name, int threads, LaneSettings settings) {
+        Preconditions.checkState(!settings.names().isEmpty(), "At least one lane must be declared!");
+
+        this.name = name;
+        this.laneNames = List.copyOf(settings.names());
+        this.maxQueueNanos = settings.maxQueueTime().toNanos();
+
+        this.lanes = new Lane[this.laneNames.size()];
+        this.lanesByName = new HashMap<>();
+        for (int i = 0; i < this.lanes.length; i++) {
+            this.lanes[i] = new Lane(this.laneNames.get(i), settings.weight(i));
+            this.lanesByName.put(this.laneNames.get(i), this.lanes[i]);
+        }
+
+        this.lock = new ReentrantLock();
+        this.available = this.lock.newCondition();
+
+        this.threads = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            this.threads[i] = new Thread(this::workLoop, "EventFlow Executor - " + name + " #" + i);
+            this.threads[i].setDaemon(true);
+            this.threads[i].start();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> request(@NotNull EventRequest request) {
+        return this.lanes[0].request(request);
+    }
+
+    @Override
+    public @NotNull EventExecutor lane(@NotNull String lane) {
+        return this.laneNamed(lane);
+    }
+
+    @Override
+    public @NotNull List<String> lanes() {
+        return this.laneNames;
+    }
+
+    @Override
+    public int queueDepth(@NotNull String lane) {
+        return this.laneNamed(lane).depth;
+    }
+
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            this.closed = true;
+            this.available.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+
+        for (Thread thread : this.threads) {
+            if (thread == Thread.currentThread()) // Closed by one of its requests, can't wait for itself.
+                continue;
+
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private Lane laneNamed(String lane) {
+        Preconditions.checkNotNull(lane);
+
+        Lane found = this.lanesByName.get(lane);
+        Preconditions.checkArgument(found != null, "Executor '%s' has no lane '%s'!", this.name, lane);
+
+        return found;
+    }
+
+    private CompletableFuture<Void> enqueue(Lane lane, EventRequest request) {
+        Preconditions.checkNotNull(request);
+
+        Task task = new Task(request, System.nanoTime());
+
+        this.lock.lock();
+        try {
+            if (this.closed)
+                throw new RejectedExecutionException("Executor '" + this.name + "' is closed!");
+
+            lane.queue.add(task);
+            lane.depth = lane.queue.size();
+            this.available.signal();
+        } finally {
+            this.lock.unlock();
+        }
+
+        return task.future;
+    }
+
+    private void workLoop() {
+        while (true) {
+            Task task;
+
+            this.lock.lock();
+            try {
+                while ((task = this.next()) == null) {
+                    if (this.closed)
+                        return; // Every lane is drained.
+
+                    this.available.awaitUninterruptibly();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+
+            task.run();
+        }
+    }
+
+    @GuardedBy("lock")
+    private Task next() {
+        long now = System.nanoTime();
+
+        Lane picked = null;
+        Lane aged = null;
+        long oldest = 0;
+        int totalWeight = 0;
+
+        for (Lane lane : this.lanes) {
+            Task head = lane.queue.peek();
+            if (head == null) // Empty lanes don't earn credit.
+                continue;
+
+            long waited = now - head.enqueued;
+            if (waited >= this.maxQueueNanos && (aged == null || waited > oldest)) {
+                aged = lane;
+                oldest = waited;
+            }
+
+            lane.credit += lane.weight;
+            totalWeight += lane.weight;
+
+            if (picked == null || lane.credit > picked.credit)
+                picked = lane;
+        }
+
+        if (picked == null)
+            return null;
+
+        if (aged != null && this.agedCooldown <= 0) { // Starving request, served ahead of the weights once per round.
+            picked = aged;
+            this.agedCooldown = totalWeight;
+        }
+
+        this.agedCooldown--;
+        picked.credit -= totalWeight;
+
+        Task task = picked.queue.poll();
+        picked.depth = picked.queue.size();
+        if (picked.depth == 0)
+            picked.credit = 0; // Credit is not kept while idle.
+
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return "WeightedLaneExecutor[" + this.name + ", lanes=" + Arrays.toString(this.lanes) + "]";
+    }
+
+    private final class Lane implements EventExecutor {
+        private final String name;
+        private final int weight;
+
+        @GuardedBy("lock")
+        private final ArrayDeque<Task> queue;
+        @GuardedBy("lock")
+        private int credit;
+
+        // Written under the lock, read by any thread.
+        private volatile int depth;
+
+        private Lane(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+            this.queue = new ArrayDeque<>();
+        }
+
+        @Override
+        public CompletableFuture<Void> request(@NotNull EventRequest request) {
+            return WeightedLaneExecutor.this.enqueue(this, request);
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "(" + this.weight + ")";
+        }
+    }
+
+    private static final class Task {
+        private final EventRequest request;
+        private final long enqueued;
+        private final CompletableFuture<Void> future;
+
+        private Task(EventRequest request, long enqueued) {
+            this.request = request;
+            this.enqueued = enqueued;
+            this.future = new CompletableFuture<>();
+        }
+
+        private void run() {
+            try {
+                this.request.execute();
+                this.future.complete(null);
+            } catch (Throwable cause) {
+                this.future.completeExceptionally(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package fr.atlasworld.event.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of an event dispatch, from the event call until every listener has been executed.
+ */
+@Name("fr.atlasworld.event.Dispatch")
+@Label("Event Dispatch")
+@Category("EventFlow")
+@Description("Dispatch of an event through a node tree, until every listener has been executed")
+@Threshold("20 ms")
+@StackTrace(false)
+public final class DispatchEvent extends jdk.jfr.Event {
+
+    @Label("Event Class")
+    public Class<?> eventClass;
+
+    @Label("Visited Nodes")
+    public int visitedNodes;
+
+    @Label("Listeners")
+    @Description("Amount of listeners the event was passed to")
+    public int listeners;
+
+    @Label("Failures")
+    public int failures;
+}
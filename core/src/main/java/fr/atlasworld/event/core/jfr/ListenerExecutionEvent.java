@@ -0,0 +1,33 @@
+package fr.atlasworld.event.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of a listener execution, recorded on the thread executing the listener.
+ */
+@Name("fr.atlasworld.event.ListenerExecution")
+@Label("Listener Execution")
+@Category("EventFlow")
+@Description("Execution of an event listener on its executor")
+@Threshold("10 ms")
+@StackTrace(false)
+public final class ListenerExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Listener")
+    public String listener;
+
+    @Label("Node")
+    public String node;
+
+    @Label("Executor")
+    public Class<?> executor;
+
+    @Label("Failure")
+    @Description("Failure thrown by the listener, if any")
+    public String failure;
+}
@@ -0,0 +1,135 @@
+package fr.atlasworld.event.core.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory-mapped segment file of a journal.
+ * <p>
+ * A segment is a sequence of entries: {@code int length, long timestamp, short nameLength, byte[] name, byte[] payload},
+ * where {@code length} covers everything after itself. A zero length marks the end of the segment,
+ * the length of an entry is written last so partially written entries are never read.
+ * <br>
+ * Segments are named after the offset of their first entry.
+ */
+final class JournalSegment {
+    static final String EXTENSION = ".journal";
+    static final int LENGTH_SIZE = Integer.BYTES;
+    static final int HEADER_SIZE = Long.BYTES + Short.BYTES;
+
+    private final long baseOffset;
+    private final Path file;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(long baseOffset, Path file, MappedByteBuffer buffer) {
+        this.baseOffset = baseOffset;
+        this.file = file;
+        this.buffer = buffer;
+    }
+
+    static Path file(Path directory, long baseOffset) {
+        return directory.resolve(String.format("%020d%s", baseOffset, EXTENSION));
+    }
+
+    static long baseOffset(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - EXTENSION.length()));
+    }
+
+    static JournalSegment create(Path directory, long baseOffset, int size) throws IOException {
+        Path file = file(directory, baseOffset);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new JournalSegment(baseOffset, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    static JournalSegment open(Path file, boolean writable) throws IOException {
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[] {StandardOpenOption.READ};
+
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+            return new JournalSegment(baseOffset(file), file, channel.map(mode, 0, channel.size()));
+        }
+    }
+
+    long baseOffset() {
+        return this.baseOffset;
+    }
+
+    Path file() {
+        return this.file;
+    }
+
+    MappedByteBuffer buffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Reads the length of the entry at a position.
+     *
+     * @return length of the entry, or {@code 0} if the segment ends at this position.
+     */
+    int entryLength(int position) {
+        if (this.buffer.capacity() - position < LENGTH_SIZE)
+            return 0;
+
+        return this.buffer.getInt(position);
+    }
+
+    /**
+     * Skips entries from the start of the segment.
+     *
+     * @return position of the entry following the skipped ones, or {@code -1} if the segment holds less entries.
+     */
+    int skip(long entries) {
+        int position = 0;
+        for (long i = 0; i < entries; i++) {
+            int length = this.entryLength(position);
+            if (length <= 0)
+                return -1;
+
+            position += LENGTH_SIZE + length;
+        }
+
+        return position;
+    }
+
+    /**
+     * Counts the entries of the segment.
+     *
+     * @return amount of entries.
+     */
+    int count() {
+        int position = 0;
+        int count = 0;
+
+        int length;
+        while ((length = this.entryLength(position)) > 0) {
+            position += LENGTH_SIZE + length;
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the end of the segment.
+     *
+     * @return position following the last entry.
+     */
+    int end() {
+        int position = 0;
+
+        int length;
+        while ((length = this.entryLength(position)) > 0)
+            position += LENGTH_SIZE + length;
+
+        return position;
+    }
+}
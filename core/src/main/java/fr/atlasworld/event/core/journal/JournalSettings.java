@@ -0,0 +1,79 @@
+package fr.atlasworld.event.core.journal;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.journal.JournalBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+public class JournalSettings implements JournalBuilder {
+    private int segmentSize;
+    private Duration maxDelay;
+    private int maxBatch;
+    private int retainSegments;
+    private Duration retention;
+
+    public JournalSettings() {
+        this.segmentSize = 64 * 1024 * 1024;
+        this.maxDelay = Duration.ofMillis(2);
+        this.maxBatch = 256;
+        this.retainSegments = 0;
+        this.retention = null; // Keep forever.
+    }
+
+    @Override
+    public @NotNull JournalSettings segmentSize(int bytes) {
+        Preconditions.checkArgument(bytes >= 4096, "Segment size must be at least 4KiB!");
+
+        this.segmentSize = bytes;
+        return this;
+    }
+
+    @Override
+    public @NotNull JournalSettings groupCommit(@NotNull Duration maxDelay, int maxBatch) {
+        Preconditions.checkNotNull(maxDelay);
+        Preconditions.checkArgument(!maxDelay.isNegative(), "Commit delay must be positive!");
+        Preconditions.checkArgument(maxBatch > 0, "Commit batch must be strictly positive!");
+
+        this.maxDelay = maxDelay;
+        this.maxBatch = maxBatch;
+        return this;
+    }
+
+    @Override
+    public @NotNull JournalSettings retainSegments(int segments) {
+        Preconditions.checkArgument(segments >= 0, "Retained segments must be positive!");
+
+        this.retainSegments = segments;
+        return this;
+    }
+
+    @Override
+    public @NotNull JournalSettings retainFor(@NotNull Duration retention) {
+        Preconditions.checkNotNull(retention);
+        Preconditions.checkArgument(!retention.isNegative(), "Retention must be positive!");
+
+        this.retention = retention;
+        return this;
+    }
+
+    public int segmentSize() {
+        return this.segmentSize;
+    }
+
+    public long maxDelayNanos() {
+        return this.maxDelay.toNanos();
+    }
+
+    public int maxBatch() {
+        return this.maxBatch;
+    }
+
+    public int retainSegments() {
+        return this.retainSegments;
+    }
+
+    public Duration retention() {
+        return this.retention;
+    }
+}
@@ -0,0 +1,318 @@
+package fr.atlasworld.event.core.journal;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.common.logging.LogUtils;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.journal.EventJournal;
+import fr.atlasworld.event.api.journal.JournalCursor;
+import fr.atlasworld.event.api.journal.JournalTruncatedException;
+import fr.atlasworld.event.api.record.EventCodec;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.core.NodeSink;
+import fr.atlasworld.event.core.record.PayloadBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Journal appending events to memory-mapped segment files.
+ * <p>
+ * Appends are serialized and only copy the encoded event to the active segment,
+ * a committer thread syncs the active segment in batches and acknowledges the appended events afterward.
+ * Rolled segments are handed to the committer and synced along with the next batch, appenders never wait for a sync.
+ */
+@ThreadSafe
+public final class MappedEventJournal implements EventJournal {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String SINK_IDENTITY = "journal";
+
+    private final Path directory;
+    private final EventCodecs codecs;
+    private final JournalSettings settings;
+
+    private final ConcurrentNavigableMap<Long, Path> segments;
+
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    private JournalSegment active;
+    @GuardedBy("lock")
+    private long nextOffset;
+    @GuardedBy("lock")
+    private List<PendingCommit> pending;
+    @GuardedBy("lock")
+    private List<JournalSegment> rolled; // Not synced yet, they hold entries of the pending commits.
+    @GuardedBy("lock")
+    private long oldestPending;
+    @GuardedBy("lock")
+    private boolean closed;
+
+    private volatile long committedOffset;
+
+    private final Thread committer;
+
+    public MappedEventJournal(@NotNull Path directory, @NotNull EventCodecs codecs, @NotNull JournalSettings settings) throws IOException {
+        this.directory = directory;
+        this.codecs = codecs;
+        this.settings = settings;
+        this.segments = new ConcurrentSkipListMap<>();
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(JournalSegment.EXTENSION))
+                    .forEach(file -> this.segments.put(JournalSegment.baseOffset(file), file));
+        }
+
+        if (this.segments.isEmpty()) {
+            this.active = JournalSegment.create(directory, 0, settings.segmentSize());
+            this.segments.put(0L, this.active.file());
+            this.nextOffset = 0;
+        } else { // Resume after the last stored entry.
+            this.active = JournalSegment.open(this.segments.lastEntry().getValue(), true);
+            this.active.buffer().position(this.active.end());
+            this.nextOffset = this.active.baseOffset() + this.active.count();
+        }
+
+        this.committedOffset = this.nextOffset;
+        this.pending = new ArrayList<>();
+        this.rolled = new ArrayList<>();
+
+        this.committer = new Thread(this::commitLoop, "EventFlow Journal Committer - " + directory.getFileName());
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    /**
+     * Appends an event to the journal.
+     *
+     * @param event event to append.
+     *
+     * @return future completed with the offset of the event once committed to disk.
+     */
+    public CompletableFuture<Long> append(@NotNull Event event) {
+        @SuppressWarnings("unchecked")
+        EventCodec<Event> codec = (EventCodec<Event>) this.codecs.codec(event.getClass());
+        if (codec == null)
+            return CompletableFuture.failedFuture(new IllegalArgumentException("No codec registered for " + event.getClass().getName()));
+
+        byte[] name = event.getClass().getName().getBytes(StandardCharsets.UTF_8);
+        PayloadBuffer payload = new PayloadBuffer();
+        try {
+            codec.encode(event, new DataOutputStream(payload));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        int length = JournalSegment.HEADER_SIZE + name.length + payload.size();
+        int required = JournalSegment.LENGTH_SIZE + length + JournalSegment.LENGTH_SIZE; // Keep room for the end marker.
+        if (required > this.settings.segmentSize())
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Event is larger than a journal segment!"));
+
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        synchronized (this.lock) {
+            if (this.closed)
+                return CompletableFuture.failedFuture(new IllegalStateException("Journal is closed!"));
+
+            try {
+                if (this.active.buffer().remaining() < required)
+                    this.roll();
+            } catch (IOException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+
+            MappedByteBuffer buffer = this.active.buffer();
+            int start = buffer.position();
+
+            buffer.position(start + JournalSegment.LENGTH_SIZE);
+            buffer.putLong(System.currentTimeMillis());
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+            payload.writeTo(buffer);
+            buffer.putInt(start, length); // Publish the entry once fully written.
+
+            long offset = this.nextOffset++;
+            if (this.pending.isEmpty())
+                this.oldestPending = System.nanoTime();
+
+            this.pending.add(new PendingCommit(offset, future));
+            if (this.pending.size() == 1 || this.pending.size() >= this.settings.maxBatch())
+                this.lock.notifyAll();
+        }
+
+        return future;
+    }
+
+    /**
+     * Creates the sink of journal nodes, appending events before any listener sees them.
+     * The dispatch completes once the events are committed.
+     *
+     * @return sink appending to this journal.
+     */
+    public <E extends Event> NodeSink<E> sink() {
+        return (event, node, ctx) -> ctx.await(SINK_IDENTITY, node, this.append(event));
+    }
+
+    @GuardedBy("lock")
+    private void roll() throws IOException {
+        JournalSegment rolled = this.active;
+        this.active = JournalSegment.create(this.directory, this.nextOffset, this.settings.segmentSize());
+        this.segments.put(this.nextOffset, this.active.file());
+        this.rolled.add(rolled); // Synced by the committer, outside the lock.
+
+        LOGGER.debug("Rolled journal segment {}, next segment starts at offset {}.", rolled.file().getFileName(), this.nextOffset);
+        this.applyRetention();
+    }
+
+    @GuardedBy("lock")
+    private void applyRetention() {
+        int retainSegments = this.settings.retainSegments();
+        Instant expiry = this.settings.retention() == null ? null : Instant.now().minus(this.settings.retention());
+
+        for (Map.Entry<Long, Path> segment : this.segments.entrySet()) {
+            if (segment.getKey() == this.active.baseOffset())
+                break; // Never delete the active segment.
+
+            boolean tooMany = retainSegments > 0 && this.segments.size() > retainSegments;
+            try {
+                boolean expired = expiry != null && Files.getLastModifiedTime(segment.getValue()).toInstant().isBefore(expiry);
+                if (!tooMany && !expired)
+                    break; // Segments are ordered, newer segments are retained too.
+
+                this.segments.remove(segment.getKey());
+                Files.deleteIfExists(segment.getValue());
+            } catch (IOException e) {
+                LOGGER.error("Failed to delete journal segment {}", segment.getValue(), e);
+                return;
+            }
+        }
+    }
+
+    private void commitLoop() {
+        while (true) {
+            JournalSegment segment;
+            List<JournalSegment> rolled;
+            long target;
+            List<PendingCommit> batch;
+
+            synchronized (this.lock) {
+                try {
+                    while (this.pending.isEmpty() && !this.closed)
+                        this.lock.wait();
+
+                    long deadline = this.oldestPending + this.settings.maxDelayNanos();
+                    long remaining;
+                    while (this.pending.size() < this.settings.maxBatch() && !this.closed
+                            && (remaining = deadline - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this.lock, remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                if (this.pending.isEmpty())
+                    return; // Closed, everything committed.
+
+                segment = this.active;
+                target = this.nextOffset;
+                batch = this.pending;
+                this.pending = new ArrayList<>();
+
+                rolled = this.rolled;
+                this.rolled = new ArrayList<>();
+            }
+
+            try {
+                for (JournalSegment previous : rolled) // Hold the oldest entries of the batch.
+                    previous.buffer().force();
+
+                segment.buffer().force();
+            } catch (UncheckedIOException e) {
+                for (PendingCommit commit : batch)
+                    commit.future.completeExceptionally(e.getCause());
+
+                continue;
+            }
+
+            this.committedOffset = target;
+            for (PendingCommit commit : batch)
+                commit.future.complete(commit.offset);
+        }
+    }
+
+    Path segmentFile(long offset) throws JournalTruncatedException {
+        Map.Entry<Long, Path> segment = this.segments.floorEntry(offset);
+        if (segment == null || offset < this.firstOffset())
+            throw new JournalTruncatedException(offset, this.firstOffset());
+
+        return segment.getValue();
+    }
+
+    EventCodecs codecs() {
+        return this.codecs;
+    }
+
+    @Override
+    public long firstOffset() {
+        Map.Entry<Long, Path> first = this.segments.firstEntry();
+        return first == null ? 0 : first.getKey();
+    }
+
+    @Override
+    public long committedOffset() {
+        return this.committedOffset;
+    }
+
+    @Override
+    public @NotNull JournalCursor read(long offset) throws IOException {
+        Preconditions.checkArgument(offset >= 0, "Offset must be positive!");
+        this.segmentFile(offset); // Fail early if the offset is no longer retained.
+
+        return new MappedJournalCursor(this, offset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.lock) {
+            if (this.closed)
+                return;
+
+            this.closed = true;
+            this.lock.notifyAll();
+        }
+
+        try {
+            this.committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while committing the journal!", e);
+        }
+    }
+
+    private static final class PendingCommit {
+        private final long offset;
+        private final CompletableFuture<Long> future;
+
+        private PendingCommit(long offset, CompletableFuture<Long> future) {
+            this.offset = offset;
+            this.future = future;
+        }
+    }
+}
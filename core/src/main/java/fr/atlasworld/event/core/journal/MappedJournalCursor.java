@@ -0,0 +1,96 @@
+package fr.atlasworld.event.core.journal;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.journal.JournalCursor;
+import fr.atlasworld.event.api.journal.JournalEntry;
+import fr.atlasworld.event.api.journal.JournalTruncatedException;
+import fr.atlasworld.event.api.record.EventCodec;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+
+/**
+ * Cursor mapping the journal segments read-only, one segment at a time.
+ */
+final class MappedJournalCursor implements JournalCursor {
+    private final MappedEventJournal journal;
+
+    private long offset;
+
+    private JournalSegment segment;
+    private int position;
+
+    MappedJournalCursor(MappedEventJournal journal, long offset) {
+        this.journal = journal;
+        this.offset = offset;
+    }
+
+    @Override
+    public @Nullable JournalEntry next() throws IOException {
+        if (this.offset >= this.journal.committedOffset())
+            return null; // Caught up with the committed entries.
+
+        if (this.segment == null)
+            this.openSegment();
+
+        int length = this.segment.entryLength(this.position);
+        if (length <= 0) { // End of segment, the next one starts at the current offset.
+            this.openSegment();
+
+            length = this.segment.entryLength(this.position);
+            if (length <= 0)
+                throw new IOException("Corrupted journal, offset " + this.offset + " is missing!");
+        }
+
+        MappedByteBuffer buffer = this.segment.buffer();
+        int entry = this.position + JournalSegment.LENGTH_SIZE;
+
+        long timestamp = buffer.getLong(entry);
+        int nameLength = buffer.getShort(entry + Long.BYTES) & 0xFFFF;
+
+        byte[] name = new byte[nameLength];
+        buffer.get(entry + JournalSegment.HEADER_SIZE, name);
+
+        byte[] payload = new byte[length - JournalSegment.HEADER_SIZE - nameLength];
+        buffer.get(entry + JournalSegment.HEADER_SIZE + nameLength, payload);
+
+        String eventClass = new String(name, StandardCharsets.UTF_8);
+        EventCodec<?> codec = this.journal.codecs().codec(eventClass);
+        if (codec == null)
+            throw new IOException("No codec registered for journaled event " + eventClass);
+
+        Event event = codec.decode(new DataInputStream(new ByteArrayInputStream(payload)));
+        JournalEntry journalEntry = new JournalEntry(this.offset, timestamp, event);
+
+        this.position = entry + length;
+        this.offset++;
+        return journalEntry;
+    }
+
+    private void openSegment() throws IOException {
+        try {
+            this.segment = JournalSegment.open(this.journal.segmentFile(this.offset), false);
+        } catch (NoSuchFileException e) { // Deleted by the retention policy meanwhile.
+            throw new JournalTruncatedException(this.offset, this.journal.firstOffset());
+        }
+
+        this.position = this.segment.skip(this.offset - this.segment.baseOffset());
+        if (this.position < 0)
+            throw new IOException("Corrupted journal, offset " + this.offset + " is missing!");
+    }
+
+    @Override
+    public long offset() {
+        return this.offset;
+    }
+
+    @Override
+    public void close() {
+        this.segment = null; // Mappings are released once unreachable.
+    }
+}
@@ -0,0 +1,55 @@
+package fr.atlasworld.event.core.listener;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.listener.EventListener;
+import fr.atlasworld.event.api.listener.EventListenerAdapter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Listener method bound through a generated {@link EventListenerAdapter}, invoked without reflection.
+ */
+public class AdaptedRegisteredListener<L extends EventListener, E extends Event> extends RegisteredListener<E> {
+    private final L instance;
+    private final WeakListenerReference reference;
+    private final String identity;
+    private final EventListenerAdapter.HandlerMethod<L, E> method;
+
+    public AdaptedRegisteredListener(ListenerSettings<E> settings, L instance, String identity,
+                                     EventListenerAdapter.HandlerMethod<L, E> method) {
+        super(settings);
+        this.instance = instance;
+        this.reference = null;
+        this.identity = identity;
+        this.method = method;
+    }
+
+    public AdaptedRegisteredListener(ListenerSettings<E> settings, WeakListenerReference reference, String identity,
+                                     EventListenerAdapter.HandlerMethod<L, E> method) {
+        super(settings);
+        this.instance = null;
+        this.reference = reference;
+        this.identity = identity;
+        this.method = method;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private L instance() {
+        return this.instance != null ? this.instance : (L) this.reference.get();
+    }
+
+    @Override
+    public void run(@NotNull E event) throws Throwable {
+        L instance = this.instance();
+        if (instance == null) // Collected, will be unregistered on the next registry mutation.
+            return;
+
+        this.method.invoke(instance, event);
+    }
+
+    @Override
+    public @NotNull String identity() {
+        return this.identity;
+    }
+}
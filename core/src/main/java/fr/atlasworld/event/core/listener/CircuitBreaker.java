@@ -0,0 +1,101 @@
+package fr.atlasworld.event.core.listener;
+
+import fr.atlasworld.event.api.listener.CircuitState;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free circuit breaker of a listener.
+ * <p>
+ * Failures are counted in fixed windows, reaching the threshold opens the circuit.
+ * Once open, a single trial is let through every cooldown, closing the circuit when it succeeds.
+ */
+@ThreadSafe
+public final class CircuitBreaker {
+    private final int failureThreshold;
+    private final long window;
+    private final long cooldown;
+    private final Consumer<CircuitState> stateHandler;
+
+    private final AtomicReference<CircuitState> state;
+    private final AtomicInteger failures;
+    private final AtomicLong windowStart;
+    private final AtomicLong nextTrial;
+
+    public CircuitBreaker(int failureThreshold, Duration window, Duration cooldown, Consumer<CircuitState> stateHandler) {
+        this.failureThreshold = failureThreshold;
+        this.window = window.toNanos();
+        this.cooldown = cooldown.toNanos();
+        this.stateHandler = stateHandler;
+
+        this.state = new AtomicReference<>(CircuitState.CLOSED);
+        this.failures = new AtomicInteger(0);
+        this.windowStart = new AtomicLong(System.nanoTime());
+        this.nextTrial = new AtomicLong(0);
+    }
+
+    public CircuitState state() {
+        return this.state.get();
+    }
+
+    /**
+     * Checks whether an event may go through the listener.
+     *
+     * @return true if the circuit is closed, or if this call was granted the trial of an open circuit.
+     */
+    public boolean tryAcquire() {
+        CircuitState state = this.state.get();
+        if (state == CircuitState.CLOSED)
+            return true;
+
+        long now = System.nanoTime();
+        long trial = this.nextTrial.get();
+
+        if (now - trial < 0 || !this.nextTrial.compareAndSet(trial, now + this.cooldown))
+            return false;
+
+        // Trials that never report back (filtered out events...) are retried after another cooldown.
+        this.transition(CircuitState.OPEN, CircuitState.HALF_OPEN);
+        return true;
+    }
+
+    public void recordSuccess() {
+        if (this.state.get() != CircuitState.HALF_OPEN)
+            return;
+
+        this.failures.set(0);
+        this.windowStart.set(System.nanoTime());
+        this.transition(CircuitState.HALF_OPEN, CircuitState.CLOSED);
+    }
+
+    public void recordFailure() {
+        long now = System.nanoTime();
+
+        switch (this.state.get()) {
+            case HALF_OPEN -> this.open(CircuitState.HALF_OPEN, now);
+            case CLOSED -> {
+                long start = this.windowStart.get();
+                if (now - start > this.window && this.windowStart.compareAndSet(start, now))
+                    this.failures.set(0);
+
+                if (this.failures.incrementAndGet() >= this.failureThreshold)
+                    this.open(CircuitState.CLOSED, now);
+            }
+        }
+    }
+
+    private void open(CircuitState from, long now) {
+        this.nextTrial.set(now + this.cooldown);
+        this.transition(from, CircuitState.OPEN);
+    }
+
+    private void transition(CircuitState from, CircuitState to) {
+        if (this.state.compareAndSet(from, to))
+            this.stateHandler.accept(to);
+    }
+}
@@ -16,4 +16,9 @@ public class LambdaRegisteredListener<E extends Event> extends RegisteredListene
     public void run(@NotNull E event) throws Throwable {
         this.handler.handle(event);
     }
+
+    @Override
+    public @NotNull String identity() {
+        return this.handler.getClass().getName();
+    }
 }
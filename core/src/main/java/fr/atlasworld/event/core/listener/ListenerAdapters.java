@@ -0,0 +1,46 @@
+package fr.atlasworld.event.core.listener;
+
+import fr.atlasworld.common.logging.LogUtils;
+import fr.atlasworld.event.api.listener.EventListener;
+import fr.atlasworld.event.api.listener.EventListenerAdapter;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+/**
+ * Lookup of the {@link EventListenerAdapter} generated at compile time for listener classes.
+ */
+public final class ListenerAdapters {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final ClassValue<EventListenerAdapter<?>> ADAPTERS = new ClassValue<>() {
+        @Override
+        protected EventListenerAdapter<?> computeValue(Class<?> type) {
+            try {
+                Class<?> adapterClass = Class.forName(type.getName() + EventListenerAdapter.SUFFIX, true, type.getClassLoader());
+                return (EventListenerAdapter<?>) adapterClass.getDeclaredConstructor().newInstance();
+            } catch (ClassNotFoundException e) {
+                return null; // Not generated, reflection will be used.
+            } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                LOGGER.error("Failed to load EventFlow adapter of {}, falling back to reflection.", type.getName(), e);
+                return null;
+            }
+        }
+    };
+
+    private ListenerAdapters() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieve the adapter generated for a listener class.
+     *
+     * @param listenerClass listener class.
+     *
+     * @return adapter of the class, or {@code null} if no adapter was generated.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <L extends EventListener> EventListenerAdapter<L> adapter(Class<L> listenerClass) {
+        return (EventListenerAdapter<L>) ADAPTERS.get(listenerClass);
+    }
+}
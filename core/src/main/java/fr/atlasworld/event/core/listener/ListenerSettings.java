@@ -3,10 +3,15 @@ package fr.atlasworld.event.core.listener;
 import com.google.common.base.Preconditions;
 import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.executor.EventExecutor;
+import fr.atlasworld.event.api.executor.PriorityExecutor;
+import fr.atlasworld.event.api.listener.CircuitState;
 import fr.atlasworld.event.api.listener.EventListenerBuilder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -15,23 +20,33 @@ public class ListenerSettings<E extends Event> {
     private final EventExecutor executor;
     private final Consumer<Throwable> failureHandler;
     private final AtomicInteger expireCount;
+    private final double sampleRate;
+    private final TokenBucket rateLimiter;
+    private final CircuitBreaker circuitBreaker;
 
     private final List<Predicate<E>> filters;
     private final List<Predicate<E>> expireConditions;
 
     private final boolean countExpires;
+    private final boolean sampled;
 
     private ListenerSettings(EventExecutor executor, Consumer<Throwable> failureHandler, int expireCount,
+                             double sampleRate, double rateLimit, @Nullable CircuitBreaker circuitBreaker,
                              List<Predicate<E>> filters, List<Predicate<E>> expireConditions) {
 
         this.executor = executor;
         this.failureHandler = failureHandler;
-        this.expireCount = new AtomicInteger(expireCount);
+        this.expireCount = expireCount > 0 ? new AtomicInteger(expireCount) : null; // Most listeners never expire by count.
+        this.sampleRate = sampleRate;
+        this.rateLimiter = rateLimit > 0 ? new TokenBucket(rateLimit) : null;
+        this.circuitBreaker = circuitBreaker;
 
         this.countExpires = expireCount > 0;
+        this.sampled = sampleRate < 1.0;
 
-        this.filters = Collections.unmodifiableList(filters);
-        this.expireConditions = Collections.unmodifiableList(expireConditions);
+        // Shared empty list for listeners without filters or expiration conditions.
+        this.filters = List.copyOf(filters);
+        this.expireConditions = List.copyOf(expireConditions);
     }
 
     public EventExecutor executor() {
@@ -51,23 +66,65 @@ public class ListenerSettings<E extends Event> {
         return true;
     }
 
+    /**
+     * Checks whether the next event may go through the listener, according to its sampling rate,
+     * circuit breaker and rate limit.
+     * <p>
+     * Called on the thread calling the event, this must stay allocation free.
+     *
+     * @return true if the event should be passed to the listener, false if it was sampled out, short-circuited or rate limited.
+     */
+    public boolean tryAcquire() {
+        if (this.sampled && ThreadLocalRandom.current().nextDouble() >= this.sampleRate)
+            return false;
+
+        if (this.circuitBreaker != null && !this.circuitBreaker.tryAcquire())
+            return false;
+
+        return this.rateLimiter == null || this.rateLimiter.tryAcquire();
+    }
+
+    public void recordSuccess() {
+        if (this.circuitBreaker != null)
+            this.circuitBreaker.recordSuccess();
+    }
+
+    public void recordFailure() {
+        if (this.circuitBreaker != null)
+            this.circuitBreaker.recordFailure();
+    }
+
     public boolean expired(E event) {
         for (Predicate<E> condition : this.expireConditions) {
             if (condition.test(event))
                 return true;
         }
 
-        if (this.countExpires) {
-            return this.expireCount.getAndDecrement() <= 0;
-        }
+        return this.countExpires && this.expireCount.get() <= 0;
+    }
 
-        return false;
+    /**
+     * Counts an execution of the listener, once the event went through {@link #tryAcquire()}.
+     *
+     * @return false if the listener already ran its maximum amount of executions.
+     */
+    public boolean countExecution() {
+        return !this.countExpires || this.expireCount.getAndDecrement() > 0;
     }
 
     public static class Builder<E extends Event> implements EventListenerBuilder<E> {
         private EventExecutor executor;
+        private String lane;
         private Consumer<Throwable> failureHandler;
         private int expireCount;
+        private double sampleRate;
+        private double rateLimit;
+        private boolean weak;
+
+        private int failureThreshold;
+        private Duration failureWindow;
+        private Duration cooldown;
+        private Consumer<CircuitState> circuitStateHandler;
 
         private final List<Predicate<E>> filter;
         private final List<Predicate<E>> expireConditions;
@@ -76,6 +133,9 @@ public class ListenerSettings<E extends Event> {
             this.executor = EventExecutor.syncExecutor; // Use Sync Executor by default.
             this.failureHandler = cause -> {};
             this.expireCount = 0;
+            this.sampleRate = 1.0;
+            this.rateLimit = 0;
+            this.weak = false;
 
             this.filter = new ArrayList<>();
             this.expireConditions = new ArrayList<>();
@@ -89,6 +149,14 @@ public class ListenerSettings<E extends Event> {
             return this;
         }
 
+        @Override
+        public @NotNull Builder<E> lane(@NotNull String lane) {
+            Preconditions.checkNotNull(lane);
+
+            this.lane = lane;
+            return this;
+        }
+
         @Override
         public @NotNull Builder<E> failure(@NotNull Consumer<Throwable> failureHandler) {
             Preconditions.checkNotNull(failureHandler);
@@ -119,9 +187,60 @@ public class ListenerSettings<E extends Event> {
             return this;
         }
 
+        @Override
+        public @NotNull Builder<E> sample(double rate) {
+            Preconditions.checkArgument(rate >= 0.0 && rate <= 1.0, "Sample rate must be between 0 and 1!");
+
+            this.sampleRate = rate;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder<E> rateLimit(double permitsPerSecond) {
+            Preconditions.checkArgument(permitsPerSecond > 0, "Rate limit must be strictly positive!");
+
+            this.rateLimit = permitsPerSecond;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder<E> weak() {
+            this.weak = true;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder<E> circuitBreaker(int failureThreshold, @NotNull Duration window, @NotNull Duration cooldown,
+                                                  @NotNull Consumer<CircuitState> stateHandler) {
+            Preconditions.checkArgument(failureThreshold > 0, "Failure threshold must be strictly positive!");
+            Preconditions.checkNotNull(window);
+            Preconditions.checkNotNull(cooldown);
+            Preconditions.checkNotNull(stateHandler);
+            Preconditions.checkArgument(!window.isNegative() && !cooldown.isNegative(), "Window and cooldown must be positive!");
+
+            this.failureThreshold = failureThreshold;
+            this.failureWindow = window;
+            this.cooldown = cooldown;
+            this.circuitStateHandler = stateHandler;
+            return this;
+        }
+
+        public boolean isWeak() {
+            return this.weak;
+        }
+
         public ListenerSettings<E> build() {
-            return new ListenerSettings<>(this.executor, this.failureHandler, this.expireCount, this.filter,
-                    this.expireConditions);
+            CircuitBreaker circuitBreaker = this.failureThreshold > 0 ?
+                    new CircuitBreaker(this.failureThreshold, this.failureWindow, this.cooldown, this.circuitStateHandler) : null;
+
+            EventExecutor executor = this.executor;
+            if (this.lane != null) {
+                Preconditions.checkState(executor instanceof PriorityExecutor, "Lanes require a PriorityExecutor!");
+                executor = ((PriorityExecutor) executor).lane(this.lane);
+            }
+
+            return new ListenerSettings<>(executor, this.failureHandler, this.expireCount, this.sampleRate,
+                    this.rateLimit, circuitBreaker, this.filter, this.expireConditions);
         }
     }
 }
@@ -3,22 +3,52 @@ package fr.atlasworld.event.core.listener;
 import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.listener.EventListener;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 public class MethodRegisteredListener<E extends Event> extends RegisteredListener<E> {
     private final EventListener instance;
+    private final WeakListenerReference reference;
     private final Method method;
 
     public MethodRegisteredListener(ListenerSettings<E> settings, EventListener instance, Method method) {
         super(settings);
         this.instance = instance;
+        this.reference = null;
         this.method = method;
     }
 
+    public MethodRegisteredListener(ListenerSettings<E> settings, WeakListenerReference reference, Method method) {
+        super(settings);
+        this.instance = null;
+        this.reference = reference;
+        this.method = method;
+    }
+
+    @Nullable
+    private EventListener instance() {
+        return this.instance != null ? this.instance : this.reference.get();
+    }
+
     @Override
-    public void run(@NotNull Event event) throws Exception {
+    public void run(@NotNull Event event) throws Throwable {
+        EventListener instance = this.instance();
+        if (instance == null) // Collected, will be unregistered on the next registry mutation.
+            return;
+
         this.method.setAccessible(true);
-        this.method.invoke(this.instance, event);
+
+        try {
+            this.method.invoke(instance, event);
+        } catch (InvocationTargetException e) {
+            throw e.getCause(); // Report the listener failure rather than the reflection wrapper.
+        }
+    }
+
+    @Override
+    public @NotNull String identity() {
+        return this.method.getDeclaringClass().getName() + "#" + this.method.getName();
     }
 }
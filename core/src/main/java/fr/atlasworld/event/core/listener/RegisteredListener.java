@@ -1,53 +1,208 @@
 package fr.atlasworld.event.core.listener;
 
 import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.executor.EventExecutor;
+import fr.atlasworld.event.api.executor.EventRequest;
+import fr.atlasworld.event.api.trace.Span;
+import fr.atlasworld.event.core.EventContext;
+import fr.atlasworld.event.core.executor.NodeBulkhead;
+import fr.atlasworld.event.core.jfr.ListenerExecutionEvent;
+import fr.atlasworld.event.core.trace.Tracing;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 public abstract class RegisteredListener<E extends Event> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<RegisteredListener> EXPIRED =
+            AtomicIntegerFieldUpdater.newUpdater(RegisteredListener.class, "expired");
+
     private final ListenerSettings<E> settings;
 
-    private final AtomicBoolean expired;
+    // Updated through EXPIRED, saving an atomic object per listener.
+    private volatile int expired;
 
     protected RegisteredListener(ListenerSettings<E> settings) {
         this.settings = settings;
-        this.expired = new AtomicBoolean(false);
     }
 
     public abstract void run(@NotNull E event) throws Throwable;
 
+    /**
+     * Retrieve the identity of this listener, used when reporting failures.
+     *
+     * @return identity of the listener.
+     */
+    @NotNull
+    public abstract String identity();
+
     protected final void handleException(Throwable cause) {
         this.settings.failureHandler().accept(cause);
     }
 
+    /**
+     * Marks this listener as expired, it will not be called anymore.
+     *
+     * @return true if the listener was expired by this call, false if it was already expired.
+     */
+    public boolean expire() {
+        return EXPIRED.compareAndSet(this, 0, 1);
+    }
+
+    /**
+     * Checks whether this listener has been marked as expired, without evaluating its expiration conditions.
+     *
+     * @return true if the listener has expired.
+     */
+    public boolean hasExpired() {
+        return this.expired != 0;
+    }
+
     public boolean isExpired(E event) {
-        if (this.expired.get())
+        if (this.expired != 0)
             return true;
 
         if (this.settings.expired(event)) {
-            this.expired.set(true);
+            this.expired = 1;
             return true;
         }
 
         return false;
     }
 
-    public CompletableFuture<E> callEvent(@NotNull E event) {
-        if (this.expired.get() && !this.settings.testEvent(event))
-            return CompletableFuture.completedFuture(event);
+    /**
+     * Tests the filters of this listener, must be called before {@link #tryAcquire()}
+     * so filtered out events never use a permit.
+     *
+     * @param event event to test.
+     *
+     * @return true if the event passes every filter.
+     */
+    public boolean accepts(E event) {
+        return this.settings.testEvent(event);
+    }
+
+    /**
+     * Checks whether the next event may go through this listener, must be called before {@link #callEvent(Event, String, EventContext)}.
+     *
+     * @return true if the event should be passed to the listener, false if it was sampled out, short-circuited or rate limited.
+     */
+    public boolean tryAcquire() {
+        return this.settings.tryAcquire();
+    }
+
+    /**
+     * Counts an execution of this listener once the event went through {@link #tryAcquire()},
+     * expiring it if it already ran its maximum amount of executions.
+     *
+     * @return false if the listener expired.
+     */
+    public boolean countExecution() {
+        if (this.settings.countExecution())
+            return true;
+
+        this.expired = 1;
+        return false;
+    }
+
+    /**
+     * Calls the event on this listener.
+     * <p>
+     * Listeners using the {@link EventExecutor#syncExecutor} are run inline,
+     * others are requested on their executor, within the bulkhead of their subtree, and awaited through the context.
+     * Failures are passed to the failure handler and reported to the context,
+     * requests never complete exceptionally because of the listener.
+     * Fired dispatches don't await the requests, requests rejected by the executor or the bulkhead are passed to the failure handler.
+     * <br>
+     * The listener span is started here, on the calling thread, and active on the thread executing the listener.
+     *
+     * @param event event to handle.
+     * @param node name of the node this listener is registered on.
+     * @param ctx context of the dispatch.
+     */
+    public void callEvent(@NotNull E event, @NotNull String node, @NotNull EventContext ctx) {
+        ctx.registerListener();
 
-        CompletableFuture<E> future;
+        Span span = ctx.startSpan(this, node);
+        EventExecutor executor = this.settings.executor();
+        if (executor == EventExecutor.syncExecutor) { // Run inline, no request future needed.
+            this.execute(event, node, ctx, span);
+            return;
+        }
 
         try {
-            future = CompletableFuture.allOf(
-                    this.settings.executor().request(() -> this.run(event)))
-                    .thenApply(unused -> event);
+            EventRequest request = () -> this.execute(event, node, ctx, span);
+            NodeBulkhead bulkhead = ctx.bulkhead();
+
+            CompletableFuture<Void> future = bulkhead != null ? bulkhead.request(executor, request) : executor.request(request);
+            if (ctx.fired()) {
+                if (future.isCompletedExceptionally()) // Rejected, nobody awaits the request.
+                    future.exceptionally(this::rejected);
+
+                return;
+            }
+
+            ctx.await(this, node, future);
         } catch (InterruptedException e) {
-            future = CompletableFuture.failedFuture(e);
+            if (ctx.fired())
+                this.handleException(e);
+
+            ctx.fail(this, node, e);
+        }
+    }
+
+    private Void rejected(Throwable cause) {
+        this.handleException(cause instanceof CompletionException && cause.getCause() != null ? cause.getCause() : cause);
+        return null;
+    }
+
+    private void execute(E event, String node, EventContext ctx, Span span) {
+        if (!span.sampled()) {
+            this.execute(event, node, ctx);
+            return;
+        }
+
+        span.started();
+        Span previous = Tracing.enter(span);
+        Throwable failure = this.execute(event, node, ctx);
+        Tracing.exit(previous);
+
+        span.end(failure);
+    }
+
+    private Throwable execute(E event, String node, EventContext ctx) {
+        if (ctx.decided()) // Query answered while the request was queued.
+            return null;
+
+        ListenerExecutionEvent recording = new ListenerExecutionEvent();
+        recording.begin();
+
+        try {
+            this.run(event);
+        } catch (Throwable cause) {
+            this.record(recording, node, cause);
+            this.settings.recordFailure();
+            this.handleException(cause);
+            ctx.fail(this, node, cause);
+            return cause;
         }
 
-        return future;
+        this.record(recording, node, null);
+        this.settings.recordSuccess();
+        return null;
+    }
+
+    private void record(ListenerExecutionEvent recording, String node, Throwable failure) {
+        recording.end();
+        if (!recording.shouldCommit())
+            return; // Not recording, or below the recording threshold.
+
+        recording.listener = this.identity();
+        recording.node = node;
+        recording.executor = this.settings.executor().getClass();
+        recording.failure = failure == null ? null : failure.toString();
+        recording.commit();
     }
 }
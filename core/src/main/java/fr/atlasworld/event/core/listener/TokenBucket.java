@@ -0,0 +1,41 @@
+package fr.atlasworld.event.core.listener;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, holding up to one second worth of permits.
+ * <p>
+ * Instead of storing the amount of available tokens, the bucket stores the theoretical time at which it will be
+ * empty again, acquiring a permit is a single compare-and-set on that timestamp.
+ */
+@ThreadSafe
+public final class TokenBucket {
+    private final long permitInterval;
+    private final long burstInterval;
+
+    private final AtomicLong emptyAt;
+
+    public TokenBucket(double permitsPerSecond) {
+        this.permitInterval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstInterval = Math.max(this.permitInterval, TimeUnit.SECONDS.toNanos(1));
+
+        this.emptyAt = new AtomicLong(System.nanoTime() - this.burstInterval);
+    }
+
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+
+        while (true) {
+            long current = this.emptyAt.get();
+            long next = Math.max(current, now - this.burstInterval) + this.permitInterval;
+
+            if (next - now > 0)
+                return false; // Bucket is empty.
+
+            if (this.emptyAt.compareAndSet(current, next))
+                return true;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package fr.atlasworld.event.core.listener;
+
+import fr.atlasworld.event.api.listener.EventListener;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Weak reference to a {@link EventListener} registered with {@link fr.atlasworld.event.api.listener.EventListenerBuilder#weak()}.
+ * <p>
+ * Collected listeners are enqueued and unregistered by {@link #drain()},
+ * which is called whenever a node registry gets mutated instead of on every event call.
+ */
+@ThreadSafe
+public final class WeakListenerReference extends WeakReference<EventListener> {
+    private static final ReferenceQueue<EventListener> QUEUE = new ReferenceQueue<>();
+
+    private volatile ListenerHandle handle;
+
+    public WeakListenerReference(EventListener listener) {
+        super(listener, QUEUE);
+    }
+
+    public void bind(ListenerHandle handle) {
+        this.handle = handle;
+    }
+
+    /**
+     * Unregisters every listener that was garbage collected since the last call.
+     */
+    public static void drain() {
+        Reference<? extends EventListener> reference;
+
+        while ((reference = QUEUE.poll()) != null) {
+            ListenerHandle handle = ((WeakListenerReference) reference).handle;
+
+            if (handle != null)
+                handle.unregister();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package fr.atlasworld.event.core.record;
+
+/**
+ * Binary layout of event logs.
+ * <p>
+ * A log starts with a header: {@code int magic, short version, long startMillis}.
+ * <br>
+ * It is followed by entries, each starting with a tag byte:
+ * <ul>
+ *     <li>{@link #TAG_CLASS}: {@code short id, UTF name}, declares an event class before its first event.</li>
+ *     <li>{@link #TAG_EVENT}: {@code short classId, long timestamp, int length, byte[length] payload},
+ *     the timestamp being in nanoseconds since the start of the recording.</li>
+ * </ul>
+ * A zero tag marks the end of the log, regions mapped but never written are zero filled.
+ */
+public final class EventLog {
+    public static final int MAGIC = 0x45564C47; // EVLG
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES;
+
+    public static final byte TAG_END = 0;
+    public static final byte TAG_CLASS = 1;
+    public static final byte TAG_EVENT = 2;
+
+    public static final int EVENT_HEADER_SIZE = Byte.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+
+    /**
+     * Size of the regions mapped at once.
+     */
+    public static final int REGION_SIZE = 16 * 1024 * 1024;
+
+    private EventLog() {
+    }
+}
@@ -0,0 +1,188 @@
+package fr.atlasworld.event.core.record;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.record.EventCodec;
+import fr.atlasworld.event.api.record.EventCodecs;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sequential reader of an {@link EventLog}, mapping the log region by region.
+ * <p>
+ * Not thread-safe, a reader is meant to be consumed by a single thread.
+ */
+public final class EventLogReader implements Closeable {
+    private final FileChannel channel;
+    private final long size;
+    private final long startMillis;
+
+    private final List<String> classes;
+
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    private String eventClass;
+    private long timestamp;
+    private byte[] payload;
+
+    public EventLogReader(@NotNull Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = this.channel.size();
+        this.classes = new ArrayList<>();
+
+        if (this.size < EventLog.HEADER_SIZE) {
+            this.channel.close();
+            throw new IOException("File is not an event log: " + file);
+        }
+
+        this.map(0, EventLog.HEADER_SIZE);
+        if (this.region.getInt() != EventLog.MAGIC) {
+            this.channel.close();
+            throw new IOException("File is not an event log: " + file);
+        }
+
+        short version = this.region.getShort();
+        if (version != EventLog.VERSION) {
+            this.channel.close();
+            throw new IOException("Unsupported event log version: " + version);
+        }
+
+        this.startMillis = this.region.getLong();
+    }
+
+    /**
+     * Retrieve the wall-clock start of the recording.
+     *
+     * @return start of the recording, in milliseconds since the epoch.
+     */
+    public long startMillis() {
+        return this.startMillis;
+    }
+
+    /**
+     * Reads the next event of the log.
+     *
+     * @return true if an event was read, false if the end of the log was reached.
+     * @throws IOException if the log is corrupted.
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            if (!this.ensureAvailable(Byte.BYTES))
+                return false;
+
+            byte tag = this.region.get();
+            switch (tag) {
+                case EventLog.TAG_END -> {
+                    return false;
+                }
+                case EventLog.TAG_CLASS -> {
+                    this.ensureEntry(Short.BYTES + Short.BYTES);
+                    this.region.getShort(); // Ids are sequential.
+                    int length = this.region.getShort() & 0xFFFF;
+
+                    this.ensureEntry(length);
+                    byte[] name = new byte[length];
+                    this.region.get(name);
+                    this.classes.add(new String(name, StandardCharsets.UTF_8));
+                }
+                case EventLog.TAG_EVENT -> {
+                    this.ensureEntry(Short.BYTES + Long.BYTES + Integer.BYTES);
+                    int classId = this.region.getShort();
+                    this.timestamp = this.region.getLong();
+                    int length = this.region.getInt();
+
+                    if (classId < 0 || classId >= this.classes.size() || length < 0)
+                        throw new IOException("Corrupted event log entry!");
+
+                    this.ensureEntry(length);
+                    this.eventClass = this.classes.get(classId);
+                    this.payload = new byte[length];
+                    this.region.get(this.payload);
+                    return true;
+                }
+                default -> throw new IOException("Corrupted event log, unknown tag: " + tag);
+            }
+        }
+    }
+
+    /**
+     * Retrieve the class name of the current event.
+     *
+     * @return event class name.
+     */
+    @NotNull
+    public String eventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * Retrieve the timestamp of the current event.
+     *
+     * @return timestamp, in nanoseconds since the start of the recording.
+     */
+    public long timestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * Decodes the current event.
+     *
+     * @param codecs codecs of the recorded events.
+     *
+     * @return decoded event, or {@code null} if no codec is registered for the event class.
+     * @throws IOException if the payload could not be decoded.
+     */
+    public Event decode(@NotNull EventCodecs codecs) throws IOException {
+        EventCodec<?> codec = codecs.codec(this.eventClass);
+        if (codec == null)
+            return null;
+
+        return codec.decode(new DataInputStream(new ByteArrayInputStream(this.payload)));
+    }
+
+    // Remaps at the current position when the region does not hold the next bytes.
+    private boolean ensureAvailable(int size) throws IOException {
+        if (this.region.remaining() >= size)
+            return true;
+
+        long position = this.regionStart + this.region.position();
+        if (this.size - position < size)
+            return false;
+
+        this.map(position, size);
+        return true;
+    }
+
+    private void ensureEntry(int size) throws IOException {
+        if (this.region.remaining() >= size)
+            return;
+
+        long position = this.regionStart + this.region.position();
+        if (this.size - position < size)
+            throw new IOException("Truncated event log!");
+
+        this.map(position, size);
+    }
+
+    private void map(long position, int minimum) throws IOException {
+        long length = Math.min(this.size - position, Math.max(EventLog.REGION_SIZE, minimum));
+        this.region = this.channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        this.regionStart = position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+}
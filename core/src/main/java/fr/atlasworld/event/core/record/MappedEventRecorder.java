@@ -0,0 +1,166 @@
+package fr.atlasworld.event.core.record;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.record.EventCodec;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.api.record.EventRecorder;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recorder appending events to a memory-mapped {@link EventLog}.
+ * <p>
+ * The log is mapped region by region, entries never span two regions.
+ * Writes are serialized, payloads are encoded into a reused buffer before being written to the mapping.
+ */
+@ThreadSafe
+public final class MappedEventRecorder implements EventRecorder {
+    private final EventCodecs codecs;
+    private final FileChannel channel;
+    private final long startTime;
+
+    private final AtomicLong recorded;
+    private final AtomicLong skipped;
+
+    private final Object lock = new Object();
+
+    @GuardedBy("lock")
+    private final Map<Class<?>, Short> classIds;
+    @GuardedBy("lock")
+    private final PayloadBuffer payload;
+    @GuardedBy("lock")
+    private final DataOutputStream payloadOut;
+
+    @GuardedBy("lock")
+    private MappedByteBuffer region;
+    @GuardedBy("lock")
+    private long regionStart;
+    @GuardedBy("lock")
+    private boolean closed;
+
+    public MappedEventRecorder(@NotNull Path file, @NotNull EventCodecs codecs) throws IOException {
+        this.codecs = codecs;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.startTime = System.nanoTime();
+
+        this.recorded = new AtomicLong();
+        this.skipped = new AtomicLong();
+
+        this.classIds = new HashMap<>();
+        this.payload = new PayloadBuffer();
+        this.payloadOut = new DataOutputStream(this.payload);
+
+        this.region = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, EventLog.REGION_SIZE);
+        this.regionStart = 0;
+
+        this.region.putInt(EventLog.MAGIC);
+        this.region.putShort(EventLog.VERSION);
+        this.region.putLong(System.currentTimeMillis());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean record(@NotNull Event event) {
+        Preconditions.checkNotNull(event);
+
+        long timestamp = System.nanoTime() - this.startTime;
+        EventCodec<Event> codec = (EventCodec<Event>) this.codecs.codec(event.getClass());
+        if (codec == null) {
+            this.skipped.incrementAndGet();
+            return false;
+        }
+
+        synchronized (this.lock) {
+            Preconditions.checkState(!this.closed, "Recorder is closed!");
+
+            try {
+                this.payload.reset();
+                codec.encode(event, this.payloadOut);
+
+                short classId = this.classId(event.getClass());
+                int length = this.payload.size();
+
+                this.ensureCapacity(EventLog.EVENT_HEADER_SIZE + length);
+                this.region.put(EventLog.TAG_EVENT);
+                this.region.putShort(classId);
+                this.region.putLong(timestamp);
+                this.region.putInt(length);
+                this.payload.writeTo(this.region);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not record event " + event.getClass().getName(), e);
+            }
+        }
+
+        this.recorded.incrementAndGet();
+        return true;
+    }
+
+    @GuardedBy("lock")
+    private short classId(Class<?> eventClass) throws IOException {
+        Short id = this.classIds.get(eventClass);
+        if (id != null)
+            return id;
+
+        Preconditions.checkState(this.classIds.size() < Short.MAX_VALUE, "Too many recorded event classes!");
+
+        short newId = (short) this.classIds.size();
+        byte[] name = eventClass.getName().getBytes(StandardCharsets.UTF_8);
+
+        this.ensureCapacity(Byte.BYTES + Short.BYTES + Short.BYTES + name.length);
+        this.region.put(EventLog.TAG_CLASS);
+        this.region.putShort(newId);
+        this.region.putShort((short) name.length);
+        this.region.put(name);
+
+        this.classIds.put(eventClass, newId);
+        return newId;
+    }
+
+    @GuardedBy("lock")
+    private void ensureCapacity(int size) throws IOException {
+        if (this.region.remaining() >= size)
+            return;
+
+        long position = this.regionStart + this.region.position();
+        this.region = this.channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(EventLog.REGION_SIZE, size));
+        this.regionStart = position;
+    }
+
+    @Override
+    public long recorded() {
+        return this.recorded.get();
+    }
+
+    @Override
+    public long skipped() {
+        return this.skipped.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.lock) {
+            if (this.closed)
+                return;
+
+            this.closed = true;
+            this.region.force();
+            this.channel.truncate(this.regionStart + this.region.position());
+            this.channel.close();
+        }
+    }
+}
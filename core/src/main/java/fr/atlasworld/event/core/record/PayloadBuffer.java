@@ -0,0 +1,23 @@
+package fr.atlasworld.event.core.record;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Growable buffer for encoded payloads, written out without copying its content to an intermediate array.
+ */
+public final class PayloadBuffer extends ByteArrayOutputStream {
+
+    public PayloadBuffer() {
+        super();
+    }
+
+    /**
+     * Writes the content of this buffer to a byte buffer.
+     *
+     * @param buffer buffer to write to.
+     */
+    public synchronized void writeTo(ByteBuffer buffer) {
+        buffer.put(this.buf, 0, this.count);
+    }
+}
@@ -0,0 +1,62 @@
+package fr.atlasworld.event.core.schedule;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.schedule.ScheduledCall;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Event call waiting in a {@link TimingWheel}.
+ */
+public final class ScheduledEventCall<E extends Event> extends TimingWheel.Timeout implements ScheduledCall<E> {
+    private final E event;
+    private final Function<E, CompletableFuture<E>> call;
+    private final CompletableFuture<E> future;
+
+    public ScheduledEventCall(E event, Function<E, CompletableFuture<E>> call) {
+        this.event = event;
+        this.call = call;
+        this.future = new CompletableFuture<>();
+    }
+
+    @Override
+    protected void expire() {
+        try {
+            this.call.apply(this.event).whenComplete((event, cause) -> {
+                if (cause != null)
+                    this.future.completeExceptionally(cause);
+                else
+                    this.future.complete(event);
+            });
+        } catch (RuntimeException e) { // Node got attached to a parent since the call was scheduled.
+            this.future.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    protected void onCancel() {
+        this.future.cancel(false);
+    }
+
+    @Override
+    public @NotNull E event() {
+        return this.event;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<E> future() {
+        return this.future;
+    }
+
+    @Override
+    public boolean cancelled() {
+        return this.isCancelled();
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledEventCall[" + this.event.getClass().getName() + "]";
+    }
+}
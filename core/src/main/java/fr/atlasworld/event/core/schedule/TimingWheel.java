@@ -0,0 +1,368 @@
+package fr.atlasworld.event.core.schedule;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.common.logging.LogUtils;
+import fr.atlasworld.event.api.schedule.EventScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hierarchical hashed timing wheel.
+ * <p>
+ * The wheel is made of {@value #LEVELS} levels of {@value #SLOTS} slots, each slot of a level spanning a full turn of
+ * the level below. A timeout is linked in the slot of the highest level where its deadline differs from the current tick,
+ * and cascades down a level each time its slot comes up, until it expires in the lowest level.
+ * <br>
+ * Scheduling and cancelling only append to a lock-free queue, the wheel itself is only touched by the thread advancing it,
+ * which links and unlinks timeouts in constant time before processing the elapsed ticks.
+ */
+@ThreadSafe
+public final class TimingWheel implements EventScheduler {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    // Furthest deadline, beyond it timeouts would not be expired before the tick counter overflows.
+    private static final long MAX_DELAY = Long.MAX_VALUE / 2;
+
+    private final long tickNanos;
+    private final boolean closeable;
+
+    private final Object tickLock;
+
+    @GuardedBy("tickLock")
+    private final Timeout[][] wheel;
+
+    private final Queue<Timeout> scheduled;
+    private final Queue<Timeout> cancelled;
+    private final AtomicInteger pending;
+
+    private volatile long currentTick;
+    private volatile boolean closed;
+
+    private final @Nullable Thread driver;
+
+    public TimingWheel(Duration tickDuration, boolean wallClock) {
+        this(tickDuration, wallClock, true);
+    }
+
+    private TimingWheel(Duration tickDuration, boolean wallClock, boolean closeable) {
+        this.tickNanos = Math.max(1L, tickDuration.toNanos());
+        this.closeable = closeable;
+
+        this.tickLock = new Object();
+        this.wheel = new Timeout[LEVELS][SLOTS];
+
+        this.scheduled = new ConcurrentLinkedQueue<>();
+        this.cancelled = new ConcurrentLinkedQueue<>();
+        this.pending = new AtomicInteger();
+
+        if (!wallClock) {
+            this.driver = null;
+            return;
+        }
+
+        this.driver = new Thread(this::driveLoop, "EventFlow Scheduler - " + THREAD_ID.incrementAndGet());
+        this.driver.setDaemon(true);
+        this.driver.start();
+    }
+
+    public static TimingWheel shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Converts a delay into an amount of ticks, rounded up.
+     */
+    public long ticks(Duration delay) {
+        if (delay.isNegative() || delay.isZero())
+            return 0L;
+
+        try {
+            long nanos = delay.toNanos();
+            return Math.min(MAX_DELAY, nanos / this.tickNanos + (nanos % this.tickNanos == 0 ? 0 : 1));
+        } catch (ArithmeticException e) { // Delay doesn't fit in nanoseconds, way further than any tick.
+            return MAX_DELAY;
+        }
+    }
+
+    /**
+     * Schedules a timeout, expiring after at least {@code delay} ticks, and at least on the next tick.
+     */
+    public void schedule(@NotNull Timeout timeout, long delay) {
+        Preconditions.checkState(!this.closed, "Scheduler is closed!");
+        Preconditions.checkState(timeout.wheel == null, "Timeout was already scheduled!");
+
+        timeout.wheel = this;
+        timeout.deadline = this.currentTick + Math.min(MAX_DELAY, Math.max(1L, delay));
+
+        this.pending.incrementAndGet();
+        this.scheduled.add(timeout);
+
+        // Closed while enqueueing, the queue may have been drained already and the timeout would never come up.
+        if (this.closed)
+            timeout.cancel();
+    }
+
+    @Override
+    public @NotNull Duration tickDuration() {
+        return Duration.ofNanos(this.tickNanos);
+    }
+
+    @Override
+    public long currentTick() {
+        return this.currentTick;
+    }
+
+    @Override
+    public int pending() {
+        return this.pending.get();
+    }
+
+    @Override
+    public void advance(long ticks) {
+        Preconditions.checkArgument(ticks >= 0, "Ticks must be positive!");
+        Preconditions.checkState(this.driver == null, "Scheduler is driven by the wall clock!");
+
+        synchronized (this.tickLock) {
+            this.advanceTo(this.currentTick + ticks);
+        }
+    }
+
+    @Override
+    public void close() {
+        Preconditions.checkState(this.closeable, "Shared scheduler can't be closed!");
+        this.closed = true;
+
+        if (this.driver != null) {
+            LockSupport.unpark(this.driver);
+
+            try {
+                this.driver.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this.tickLock) {
+            this.drainQueues();
+
+            for (Timeout[] level : this.wheel) {
+                for (int slot = 0; slot < SLOTS; slot++) {
+                    Timeout timeout = level[slot];
+                    level[slot] = null;
+
+                    while (timeout != null) {
+                        Timeout next = timeout.next;
+                        timeout.prev = timeout.next = null;
+                        timeout.linked = false;
+                        timeout.cancel();
+
+                        timeout = next;
+                    }
+                }
+            }
+        }
+    }
+
+    private void driveLoop() {
+        long start = System.nanoTime();
+
+        while (!this.closed) {
+            long elapsed = (System.nanoTime() - start) / this.tickNanos;
+            if (elapsed <= this.currentTick) {
+                LockSupport.parkNanos(this, start + (this.currentTick + 1) * this.tickNanos - System.nanoTime());
+                continue;
+            }
+
+            synchronized (this.tickLock) {
+                this.advanceTo(elapsed);
+            }
+        }
+    }
+
+    @GuardedBy("tickLock")
+    private void advanceTo(long target) {
+        this.drainQueues();
+
+        while (this.currentTick < target) {
+            long tick = this.currentTick + 1;
+            this.currentTick = tick;
+
+            this.cascade(tick);
+            this.expire(tick);
+        }
+    }
+
+    @GuardedBy("tickLock")
+    private void drainQueues() {
+        Timeout timeout;
+        while ((timeout = this.scheduled.poll()) != null) {
+            if (timeout.state != Timeout.PENDING) // Cancelled before reaching the wheel.
+                continue;
+
+            this.link(timeout, this.currentTick + 1);
+        }
+
+        while ((timeout = this.cancelled.poll()) != null) {
+            if (timeout.linked)
+                this.unlink(timeout);
+        }
+    }
+
+    @GuardedBy("tickLock")
+    private void cascade(long tick) {
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = SLOT_BITS * level;
+            if ((tick & ((1L << shift) - 1)) != 0) // The levels below didn't complete a turn.
+                continue;
+
+            int slot = (int) (tick >>> shift) & SLOT_MASK;
+            Timeout timeout = this.wheel[level][slot];
+            this.wheel[level][slot] = null;
+
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = timeout.next = null;
+                timeout.linked = false;
+
+                if (timeout.state == Timeout.PENDING)
+                    this.link(timeout, tick);
+
+                timeout = next;
+            }
+        }
+    }
+
+    @GuardedBy("tickLock")
+    private void expire(long tick) {
+        int slot = (int) tick & SLOT_MASK;
+        Timeout timeout = this.wheel[0][slot];
+        this.wheel[0][slot] = null;
+
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = timeout.next = null;
+            timeout.linked = false;
+
+            if (Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) {
+                this.pending.decrementAndGet();
+
+                try {
+                    timeout.expire();
+                } catch (Throwable cause) { // A failing timeout must not prevent the others from expiring.
+                    LOGGER.error("Scheduled timeout {} failed", timeout, cause);
+                }
+            }
+
+            timeout = next;
+        }
+    }
+
+    /**
+     * Links a timeout in the slot of the highest level where its deadline differs from the current tick.
+     */
+    @GuardedBy("tickLock")
+    private void link(Timeout timeout, long earliest) {
+        long deadline = Math.max(timeout.deadline, earliest);
+        long diff = deadline ^ this.currentTick;
+
+        int level = diff == 0 ? 0 : Math.min(LEVELS - 1, (63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS);
+        int slot = (int) (deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+
+        Timeout head = this.wheel[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.next = head;
+        timeout.linked = true;
+
+        if (head != null)
+            head.prev = timeout;
+
+        this.wheel[level][slot] = timeout;
+    }
+
+    @GuardedBy("tickLock")
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null)
+            timeout.prev.next = timeout.next;
+        else
+            this.wheel[timeout.level][timeout.slot] = timeout.next;
+
+        if (timeout.next != null)
+            timeout.next.prev = timeout.prev;
+
+        timeout.prev = timeout.next = null;
+        timeout.linked = false;
+    }
+
+    /**
+     * Entry of the wheel, expiring once its deadline is reached unless cancelled before.
+     */
+    public static abstract class Timeout {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private volatile int state;
+        private volatile TimingWheel wheel;
+
+        // Owned by the thread advancing the wheel.
+        private long deadline;
+        private Timeout prev;
+        private Timeout next;
+        private int level;
+        private int slot;
+        private boolean linked;
+
+        /**
+         * Called by the thread advancing the wheel once the deadline is reached.
+         */
+        protected abstract void expire();
+
+        /**
+         * Called once the timeout got cancelled, either by {@link #cancel()} or by closing the wheel.
+         */
+        protected void onCancel() {
+        }
+
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED))
+                return false;
+
+            TimingWheel wheel = this.wheel;
+            if (wheel != null) {
+                wheel.pending.decrementAndGet();
+                wheel.cancelled.add(this);
+            }
+
+            this.onCancel();
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return this.state == CANCELLED;
+        }
+    }
+
+    private static final class Shared {
+        private static final TimingWheel INSTANCE = new TimingWheel(Duration.ofMillis(1), true, false);
+    }
+}
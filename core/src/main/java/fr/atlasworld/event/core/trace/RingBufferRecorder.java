@@ -0,0 +1,144 @@
+package fr.atlasworld.event.core.trace;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.trace.Span;
+import fr.atlasworld.event.api.trace.TraceRecord;
+import fr.atlasworld.event.api.trace.TraceRecorder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Recorder keeping the latest ended spans in a fixed size ring buffer.
+ * <p>
+ * Recording a span claims a slot with a single atomic increment, older spans are overwritten.
+ * Dumps are not a consistent snapshot, spans ending while dumping may be missing.
+ */
+@ThreadSafe
+public final class RingBufferRecorder implements TraceRecorder {
+    private final AtomicReferenceArray<TraceRecord> records;
+    private final int mask;
+
+    private final AtomicLong sequence;
+    private final AtomicLong ids;
+
+    private volatile double sampleRate;
+
+    public RingBufferRecorder(int capacity, double sampleRate) {
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.records = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+
+        this.sequence = new AtomicLong();
+        this.ids = new AtomicLong();
+
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public boolean sample(@NotNull Event event) {
+        double rate = this.sampleRate;
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    @Override
+    public @NotNull Span startDispatch(@NotNull Event event, @NotNull Span parent) {
+        // Always trace events caused by a traced listener.
+        if (parent instanceof RecordedSpan recorded && recorded.recorder() == this)
+            return new RecordedSpan(this, recorded.traceId, recorded.spanId, event.getClass().getName());
+
+        long id = this.ids.incrementAndGet();
+        return new RecordedSpan(this, id, 0, event.getClass().getName());
+    }
+
+    @Override
+    public @NotNull Span startListener(@NotNull Span dispatch, @NotNull String node, @NotNull String listener) {
+        if (!(dispatch instanceof RecordedSpan parent))
+            return Span.NOOP; // Started by another tracer.
+
+        return new RecordedSpan(this, parent.traceId, parent.spanId, node + "/" + listener);
+    }
+
+    @Override
+    public void sampleRate(double sampleRate) {
+        Preconditions.checkArgument(sampleRate >= 0.0 && sampleRate <= 1.0, "Sample rate must be between 0 and 1!");
+
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public @NotNull List<TraceRecord> dump() {
+        long end = this.sequence.get();
+        long start = Math.max(0, end - this.records.length());
+
+        List<TraceRecord> dump = new ArrayList<>((int) (end - start));
+        for (long i = start; i < end; i++) {
+            TraceRecord record = this.records.get((int) (i & this.mask));
+            if (record != null)
+                dump.add(record);
+        }
+
+        return dump;
+    }
+
+    private void record(TraceRecord record) {
+        long index = this.sequence.getAndIncrement();
+        this.records.set((int) (index & this.mask), record);
+    }
+
+    private long nextId() {
+        return this.ids.incrementAndGet();
+    }
+
+    private static final class RecordedSpan implements Span {
+        private final RingBufferRecorder recorder;
+        private final long traceId;
+        private final long spanId;
+        private final long parentId;
+        private final String name;
+        private final long startTime;
+
+        private long executionTime;
+
+        private RecordedSpan(RingBufferRecorder recorder, long traceId, long parentId, String name) {
+            this.recorder = recorder;
+            this.traceId = traceId;
+            this.spanId = parentId == 0 ? traceId : recorder.nextId();
+            this.parentId = parentId;
+            this.name = name;
+            this.startTime = System.nanoTime();
+            this.executionTime = this.startTime;
+        }
+
+        private RingBufferRecorder recorder() {
+            return this.recorder;
+        }
+
+        @Override
+        public boolean sampled() {
+            return true;
+        }
+
+        @Override
+        public void started() {
+            this.executionTime = System.nanoTime();
+        }
+
+        @Override
+        public void end(@Nullable Throwable failure) {
+            long now = System.nanoTime();
+
+            this.recorder.record(new TraceRecord(this.traceId, this.spanId, this.parentId, this.name,
+                    Thread.currentThread().getName(), this.startTime, this.executionTime - this.startTime,
+                    now - this.startTime, failure == null ? null : failure.toString()));
+        }
+    }
+}
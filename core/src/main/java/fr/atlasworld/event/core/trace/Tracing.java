@@ -0,0 +1,91 @@
+package fr.atlasworld.event.core.trace;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.trace.EventTracer;
+import fr.atlasworld.event.api.trace.Span;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the installed tracer and the span active on each thread.
+ * <p>
+ * When no tracer is installed, starting a dispatch is a single volatile read,
+ * the thread-local span is never touched.
+ * The tracer decides the sampling first, unsampled dispatches only look up the thread-local span
+ * while a traced listener is running on any thread.
+ */
+public final class Tracing {
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    // Spans entered on any thread, the thread-local span is only looked up when there is one.
+    private static final AtomicInteger ACTIVE = new AtomicInteger();
+
+    private static volatile EventTracer tracer = ServiceLoader.load(EventTracer.class).findFirst().orElse(EventTracer.NOOP);
+
+    private Tracing() {
+    }
+
+    public static void install(@NotNull EventTracer tracer) {
+        Preconditions.checkNotNull(tracer);
+
+        Tracing.tracer = tracer;
+    }
+
+    @NotNull
+    public static EventTracer tracer() {
+        return tracer;
+    }
+
+    /**
+     * Starts the span of a dispatch, child of the span active on the calling thread.
+     *
+     * @param tracer tracer of the dispatch.
+     * @param event event being dispatched.
+     *
+     * @return span of the dispatch, or {@link Span#NOOP}.
+     */
+    @NotNull
+    public static Span startDispatch(@NotNull EventTracer tracer, @NotNull Event event) {
+        if (tracer == EventTracer.NOOP)
+            return Span.NOOP; // Tracing disabled.
+
+        if (tracer.sample(event)) {
+            Span parent = CURRENT.get();
+            return tracer.startDispatch(event, parent == null ? Span.NOOP : parent);
+        }
+
+        if (ACTIVE.get() == 0)
+            return Span.NOOP; // Not sampled, and no traced listener is running.
+
+        Span parent = CURRENT.get();
+        return parent == null ? Span.NOOP : tracer.startDispatch(event, parent);
+    }
+
+    /**
+     * Makes a span the active span of the current thread.
+     *
+     * @param span span to activate.
+     *
+     * @return previously active span, to be restored with {@link #exit(Span)}.
+     */
+    public static Span enter(@NotNull Span span) {
+        Span previous = CURRENT.get();
+        CURRENT.set(span);
+        ACTIVE.incrementAndGet();
+
+        return previous;
+    }
+
+    public static void exit(Span previous) {
+        ACTIVE.decrementAndGet();
+
+        if (previous == null) {
+            CURRENT.remove();
+            return;
+        }
+
+        CURRENT.set(previous);
+    }
+}
@@ -0,0 +1,165 @@
+package unit;
+
+import fr.atlasworld.event.api.channel.EventChannel;
+import fr.atlasworld.event.api.channel.EventLayout;
+import fr.atlasworld.event.api.channel.EventSlot;
+import fr.atlasworld.event.api.channel.FieldType;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+import fr.atlasworld.event.core.channel.RingEventChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class EventChannelTests {
+    record EntityMove(int entityId, double x, double y, double z, float yaw, float pitch) {}
+
+    @Test
+    @DisplayName("Record layouts should align fields in declaration order")
+    public void testRecordLayout() {
+        EventLayout layout = EventLayout.of(EntityMove.class);
+
+        assertEquals(6, layout.fields().size());
+        assertEquals(0, layout.field("entityId").offset());
+        assertEquals(8, layout.field("x").offset(), "Doubles should be aligned on 8 bytes.");
+        assertEquals(32, layout.field("yaw").offset());
+        assertEquals(40, layout.size(), "Layout size should be padded to 8 bytes.");
+        assertEquals(FieldType.FLOAT, layout.field("pitch").type());
+    }
+
+    @Test
+    @DisplayName("Events published from many threads should all be dispatched, with their fields")
+    public void testChannelDispatch() throws InterruptedException {
+        EventLayout layout = EventLayout.of(EntityMove.class);
+        EventLayout.Field entityId = layout.field("entityId");
+        EventLayout.Field x = layout.field("x");
+
+        AtomicLong idSum = new AtomicLong();
+        AtomicLong xSum = new AtomicLong();
+
+        int threads = 4;
+        int events = 10_000;
+
+        try (EventChannel channel = new RingEventChannel("moves", layout, 256)) {
+            channel.addListener(view -> {
+                idSum.addAndGet(view.getInt(entityId));
+                xSum.addAndGet((long) view.getDouble(x));
+            });
+
+            List<Thread> publishers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread publisher = new Thread(() -> {
+                    for (int i = 0; i < events; i++)
+                        channel.claim().putInt(entityId, i).putDouble(x, 2.0).publish();
+                });
+                publisher.start();
+                publishers.add(publisher);
+            }
+
+            for (Thread publisher : publishers)
+                publisher.join();
+        }
+
+        assertEquals(threads * ((long) events * (events - 1) / 2), idSum.get(), "Every event should be dispatched once.");
+        assertEquals(threads * events * 2L, xSum.get());
+    }
+
+    @Test
+    @DisplayName("Unregistered channel listeners should not receive events, and field types should be checked")
+    public void testChannelListenerHandle() {
+        EventLayout layout = EventLayout.builder().add("value", FieldType.LONG).build();
+        EventLayout.Field value = layout.field("value");
+        AtomicLong calls = new AtomicLong();
+
+        EventChannel channel = new RingEventChannel("values", layout, 16);
+        ListenerHandle handle = channel.addListener(view -> calls.incrementAndGet());
+
+        EventSlot slot = channel.claim();
+        assertThrows(IllegalArgumentException.class, () -> slot.putInt(value, 1));
+        slot.putLong(value, 1).publish();
+
+        assertTrue(handle.unregister());
+        assertFalse(handle.registered());
+        channel.close();
+
+        assertTrue(calls.get() <= 1, "Unregistered listener should not be called anymore.");
+    }
+
+    @Test
+    @DisplayName("Slots of failed publishers should be discarded without holding back the following events")
+    public void testChannelDiscardedSlot() {
+        EventLayout layout = EventLayout.builder().add("value", FieldType.LONG).build();
+        EventLayout.Field value = layout.field("value");
+        List<Long> received = new CopyOnWriteArrayList<>();
+
+        EventChannel channel = new RingEventChannel("discarded", layout, 4);
+        channel.addListener(view -> received.add(view.getLong(value)));
+
+        assertThrows(IllegalArgumentException.class, () -> channel.publish(slot -> slot.putLong(value, 1).putInt(value, 1)));
+        for (long i = 2; i <= 9; i++) { // Laps the ring, the discarded slot is reused.
+            long next = i;
+            channel.publish(slot -> slot.putLong(value, next));
+        }
+
+        channel.close();
+
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), received, "Discarded events should be skipped.");
+        assertEquals(9, channel.dispatched());
+    }
+
+    @Test
+    @DisplayName("Claims racing a close should fail cleanly instead of being dropped")
+    public void testChannelClaimRacingClose() throws InterruptedException {
+        EventLayout layout = EventLayout.builder().add("value", FieldType.LONG).build();
+        EventLayout.Field value = layout.field("value");
+        List<Long> received = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        EventChannel channel = new RingEventChannel("closing", layout, 2);
+        channel.addListener(view -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            received.add(view.getLong(value));
+        });
+
+        channel.publish(slot -> slot.putLong(value, 1));
+        channel.publish(slot -> slot.putLong(value, 2));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> { // Waits on the full ring.
+            try {
+                channel.publish(slot -> slot.putLong(value, 3));
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        producer.start();
+        Thread.sleep(100);
+
+        Thread closer = new Thread(channel::close);
+        closer.start();
+        Thread.sleep(100);
+
+        long start = System.nanoTime();
+        release.countDown();
+        producer.join();
+        closer.join();
+
+        assertInstanceOf(IllegalStateException.class, failure.get(), "Claims taken after the close should fail.");
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2), "Failed claims should not hold the close back.");
+        assertEquals(List.of(1L, 2L), received);
+        assertEquals(3, channel.dispatched(), "The failed claim should be discarded.");
+    }
+}
@@ -2,23 +2,36 @@ package unit;
 
 import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.annotation.EventHandler;
+import fr.atlasworld.event.api.dispatch.DispatchResult;
+import fr.atlasworld.event.api.dispatch.EventDispatchException;
 import fr.atlasworld.event.api.executor.EventExecutor;
+import fr.atlasworld.event.api.executor.PriorityExecutor;
+import fr.atlasworld.event.api.listener.CircuitState;
 import fr.atlasworld.event.api.listener.EventListener;
+import fr.atlasworld.event.api.listener.EventListenerBuilder;
+import fr.atlasworld.event.api.listener.ListenerHandle;
 import fr.atlasworld.event.core.EventNodeImpl;
+import fr.atlasworld.event.core.listener.ListenerAdapters;
 import fr.atlasworld.event.core.listener.ListenerSettings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public final class EventListenerTests {
     private static class TestEvent implements Event {}
+    static class AdaptedEvent extends TestEvent {} // Generated adapters can't reference private event types.
 
     private EventNodeImpl<TestEvent> eventNode;
 
@@ -50,6 +63,18 @@ public final class EventListenerTests {
         });
     }
 
+    @Test
+    @DisplayName("Test adding and executing a method listener through its generated adapter")
+    public void testAddAndExecuteAdaptedListener() {
+        AdaptedListener listener = new AdaptedListener();
+        eventNode.addListener(listener);
+
+        assertNotNull(ListenerAdapters.adapter(AdaptedListener.class), "Adapter should be generated for the listener.");
+
+        eventNode.callEvent(new AdaptedEvent()).join();
+        assertEquals(1, listener.calls.get(), "Adapted listener should be executed once.");
+    }
+
     @Test
     @DisplayName("Test listener expiration")
     public void testListenerExpiration() {
@@ -93,6 +118,128 @@ public final class EventListenerTests {
         });
     }
 
+    @Test
+    @DisplayName("Test unregistering listeners")
+    public void testUnregisterListener() {
+        AtomicInteger counter = new AtomicInteger(0);
+
+        ListenerHandle handle = eventNode.addListener(TestEvent.class, event -> counter.incrementAndGet());
+        eventNode.callEvent(new TestEvent()).join();
+
+        assertTrue(handle.unregister(), "Registered listener should be unregistered.");
+        assertFalse(handle.registered(), "Unregistered listener should not be registered anymore.");
+        assertFalse(handle.unregister(), "Listener should not be unregistered twice.");
+
+        eventNode.callEvent(new TestEvent()).join();
+        assertEquals(1, counter.get(), "Unregistered listener should not be executed again.");
+    }
+
+    @Test
+    @DisplayName("Test weak listeners getting unregistered once collected")
+    public void testWeakListener() throws InterruptedException {
+        TestListener listener = new TestListener();
+        ListenerHandle handle = eventNode.addListener(listener, EventListenerBuilder::weak);
+        listener = null;
+
+        for (int i = 0; i < 50 && handle.registered(); i++) {
+            System.gc();
+            Thread.sleep(10);
+
+            eventNode.addListener(TestEvent.class, event -> {}); // Registry mutation, clears collected listeners.
+        }
+
+        assertFalse(handle.registered(), "Collected weak listener should be unregistered.");
+    }
+
+    @Test
+    @DisplayName("Test sampled out listeners")
+    public void testSampledListener() {
+        AtomicInteger sampled = new AtomicInteger(0);
+        AtomicInteger unsampled = new AtomicInteger(0);
+
+        eventNode.addListener(TestEvent.class, event -> sampled.incrementAndGet(), builder -> builder.sample(0.0));
+        eventNode.addListener(TestEvent.class, event -> unsampled.incrementAndGet(), builder -> builder.sample(1.0));
+
+        for (int i = 0; i < 10; i++)
+            eventNode.callEvent(new TestEvent()).join();
+
+        assertEquals(0, sampled.get(), "Listener with a sample rate of 0 should never be executed.");
+        assertEquals(10, unsampled.get(), "Listener with a sample rate of 1 should always be executed.");
+    }
+
+    @Test
+    @DisplayName("Test rate limited listeners")
+    public void testRateLimitedListener() {
+        AtomicInteger counter = new AtomicInteger(0);
+
+        eventNode.addListener(TestEvent.class, event -> counter.incrementAndGet(), builder -> builder.rateLimit(2));
+
+        for (int i = 0; i < 10; i++)
+            eventNode.callEvent(new TestEvent()).join();
+
+        assertTrue(counter.get() >= 2 && counter.get() < 10, "Rate limited listener should only be executed up to its limit.");
+    }
+
+    @Test
+    @DisplayName("Test filtered out events not using rate limit permits")
+    public void testRateLimitedFilteredListener() {
+        AtomicInteger counter = new AtomicInteger(0);
+        AtomicBoolean passing = new AtomicBoolean(false);
+
+        eventNode.addListener(TestEvent.class, event -> counter.incrementAndGet(),
+                builder -> builder.rateLimit(1).filter(event -> passing.get()));
+
+        for (int i = 0; i < 10; i++)
+            eventNode.callEvent(new TestEvent()).join();
+
+        passing.set(true);
+        eventNode.callEvent(new TestEvent()).join();
+
+        assertEquals(1, counter.get(), "Filtered out events should not use the permits of the listener.");
+    }
+
+    @Test
+    @DisplayName("Test circuit breaker skipping repeatedly failing listeners")
+    public void testCircuitBreaker() {
+        AtomicInteger counter = new AtomicInteger(0);
+        AtomicBoolean failing = new AtomicBoolean(true);
+        List<CircuitState> states = new CopyOnWriteArrayList<>();
+
+        eventNode.addListener(TestEvent.class, event -> {
+            counter.incrementAndGet();
+
+            if (failing.get())
+                throw new IllegalStateException("Subsystem down");
+        }, builder -> builder.circuitBreaker(2, Duration.ofMinutes(1), Duration.ZERO, states::add));
+
+        eventNode.dispatchEvent(new TestEvent()).join();
+        eventNode.dispatchEvent(new TestEvent()).join();
+        assertEquals(List.of(CircuitState.OPEN), states, "Circuit should open once the threshold is reached.");
+
+        failing.set(false);
+        eventNode.dispatchEvent(new TestEvent()).join();
+
+        assertEquals(3, counter.get(), "Trial event should go through the listener once the cooldown elapsed.");
+        assertEquals(List.of(CircuitState.OPEN, CircuitState.HALF_OPEN, CircuitState.CLOSED), states,
+                "Circuit should close once the trial succeeds.");
+    }
+
+    @Test
+    @DisplayName("Test open circuit breaker skipping listeners")
+    public void testOpenCircuitBreaker() {
+        AtomicInteger counter = new AtomicInteger(0);
+
+        eventNode.addListener(TestEvent.class, event -> {
+            counter.incrementAndGet();
+            throw new IllegalStateException("Subsystem down");
+        }, builder -> builder.circuitBreaker(2, Duration.ofMinutes(1), Duration.ofHours(1)));
+
+        for (int i = 0; i < 10; i++)
+            eventNode.dispatchEvent(new TestEvent()).join();
+
+        assertEquals(2, counter.get(), "Listener should be skipped while the circuit is open.");
+    }
+
     @Test
     @DisplayName("Test handling exceptions in listeners")
     public void testHandleExceptionsInListeners() {
@@ -114,6 +261,155 @@ public final class EventListenerTests {
         assertTrue(called.get(), "Thrown exception should be returned in exception.");
     }
 
+    static class AdaptedListener implements EventListener {
+        private final AtomicInteger calls = new AtomicInteger(0);
+
+        @EventHandler
+        void onEvent(AdaptedEvent event) {
+            calls.incrementAndGet();
+        }
+    }
+
+    @Test
+    @DisplayName("Test collecting listener failures in the dispatch result")
+    public void testDispatchResultFailures() {
+        AtomicInteger failures = new AtomicInteger(0);
+
+        eventNode.addListener(TestEvent.class, event -> { throw new IllegalStateException("First"); }, builder ->
+                builder.failure(cause -> failures.incrementAndGet()));
+        eventNode.addListener(TestEvent.class, event -> { throw new IllegalArgumentException("Second"); });
+        eventNode.addListener(new FailingListener());
+
+        DispatchResult<TestEvent> result = eventNode.dispatchEvent(new TestEvent()).join();
+
+        assertFalse(result.successful(), "Dispatch should not be successful.");
+        assertEquals(3, result.failures().size(), "Every failing listener should be reported.");
+        assertEquals(1, failures.get(), "Failure handler should be called.");
+        assertEquals("TestNode", result.failures().get(0).node(), "Failure should report the node of the listener.");
+        assertEquals(FailingListener.class.getName() + "#onEvent", result.failures().get(2).listener(),
+                "Failure should report the identity of the listener.");
+        assertInstanceOf(UnsupportedOperationException.class, result.failures().get(2).cause(),
+                "Failure should report the cause thrown by the listener.");
+
+        CompletionException exception = assertThrows(CompletionException.class, () -> eventNode.callEvent(new TestEvent()).join());
+        EventDispatchException dispatchException = assertInstanceOf(EventDispatchException.class, exception.getCause());
+
+        assertInstanceOf(IllegalStateException.class, dispatchException.getCause(), "First failure should be the cause.");
+        assertEquals(2, dispatchException.getSuppressed().length, "Other failures should be suppressed.");
+    }
+
+    @Test
+    @DisplayName("Test priority lanes sharing executor threads by weight")
+    public void testPriorityLanes() throws InterruptedException {
+        try (PriorityExecutor executor = PriorityExecutor.create("test", 1, builder -> builder
+                .lane("critical", 8)
+                .lane("bulk", 1))) {
+
+            CountDownLatch gate = holdThread(executor); // Hold the only thread while the lanes fill up.
+
+            List<String> order = new CopyOnWriteArrayList<>();
+            List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 90; i++)
+                futures.add(executor.lane("bulk").request(() -> order.add("bulk")));
+
+            eventNode.addListener(TestEvent.class, event -> order.add("critical"), builder -> builder.executor(executor).lane("critical"));
+            for (int i = 0; i < 10; i++)
+                futures.add(eventNode.callEvent(new TestEvent()).thenApply(event -> null));
+
+            int bulkDepth = executor.queueDepth("bulk");
+            int criticalDepth = executor.queueDepth("critical");
+            gate.countDown();
+
+            assertEquals(90, bulkDepth);
+            assertEquals(10, criticalDepth);
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            assertEquals(100, order.size());
+            assertTrue(order.lastIndexOf("critical") < 15, "Critical lane should be served ahead of the bulk lane, order: " + order);
+            assertEquals(0, executor.queueDepth("bulk"));
+        }
+
+        try (PriorityExecutor other = PriorityExecutor.create("other", 1, lanes -> lanes.lane("default", 1))) {
+            assertThrows(IllegalArgumentException.class, () -> eventNode.addListener(TestEvent.class, event -> {},
+                    builder -> builder.executor(other).lane("missing")));
+        }
+
+        assertThrows(IllegalStateException.class, () -> eventNode.addListener(TestEvent.class, event -> {},
+                builder -> builder.lane("critical")));
+    }
+
+    @Test
+    @DisplayName("Test starving lanes getting served once past the max queue time")
+    public void testPriorityLaneAging() throws InterruptedException {
+        try (PriorityExecutor executor = PriorityExecutor.create("aging", 1, builder -> builder
+                .lane("high", 100)
+                .lane("low", 1)
+                .maxQueueTime(Duration.ofMillis(20)))) {
+
+            CountDownLatch gate = holdThread(executor);
+
+            List<String> order = new CopyOnWriteArrayList<>();
+            CompletableFuture<Void> low = executor.lane("low").request(() -> order.add("low"));
+            Thread.sleep(30);
+
+            for (int i = 0; i < 50; i++)
+                executor.lane("high").request(() -> order.add("high"));
+
+            gate.countDown();
+            low.join();
+
+            assertEquals("low", order.get(0), "Request past the max queue time should be served first.");
+        }
+    }
+
+    @Test
+    @DisplayName("Test overloaded lanes keeping their weights once every request aged")
+    public void testPriorityLaneOverload() throws InterruptedException {
+        try (PriorityExecutor executor = PriorityExecutor.create("overload", 1, builder -> builder
+                .lane("high", 3)
+                .lane("low", 1)
+                .maxQueueTime(Duration.ofMillis(1)))) {
+
+            CountDownLatch gate = holdThread(executor);
+
+            List<String> order = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 100; i++) // Oldest requests, served first if aging ignored the weights.
+                executor.lane("low").request(() -> order.add("low"));
+
+            List<CompletableFuture<Void>> futures = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 300; i++)
+                futures.add(executor.lane("high").request(() -> order.add("high")));
+
+            Thread.sleep(10); // Every request is past the max queue time.
+            gate.countDown();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            long high = order.subList(0, 100).stream().filter("high"::equals).count();
+            assertTrue(high >= 60, "Overloaded lanes should still be served by weight, high picks: " + high);
+        }
+    }
+
+    private static CountDownLatch holdThread(PriorityExecutor executor) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch gate = new CountDownLatch(1);
+
+        executor.request(() -> {
+            started.countDown();
+            gate.await();
+        });
+
+        started.await();
+        return gate;
+    }
+
+    static class FailingListener implements EventListener {
+
+        @EventHandler
+        void onEvent(TestEvent event) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private static class TestListener implements EventListener {
         private boolean called = false;
 
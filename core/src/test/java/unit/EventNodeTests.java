@@ -2,18 +2,114 @@ package unit;
 
 import fr.atlasworld.event.api.Event;
 import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.EventTransaction;
+import fr.atlasworld.event.api.bridge.EventBridge;
+import fr.atlasworld.event.api.bridge.EventBridgeServer;
+import fr.atlasworld.event.api.channel.IntChannel;
+import fr.atlasworld.event.api.channel.LongChannel;
+import fr.atlasworld.event.api.dispatch.AdmissionController;
+import fr.atlasworld.event.api.dispatch.AdmissionPolicy;
+import fr.atlasworld.event.api.dispatch.DispatchBudget;
+import fr.atlasworld.event.api.dispatch.DispatchResult;
+import fr.atlasworld.event.api.dispatch.EventRejectedException;
+import fr.atlasworld.event.api.dispatch.SlicedCall;
+import fr.atlasworld.event.api.executor.Bulkhead;
+import fr.atlasworld.event.api.executor.BulkheadPolicy;
 import fr.atlasworld.event.api.executor.EventExecutor;
+import fr.atlasworld.event.api.executor.EventRequest;
+import fr.atlasworld.event.api.journal.EventJournal;
+import fr.atlasworld.event.api.journal.JournalCursor;
+import fr.atlasworld.event.api.journal.JournalEntry;
+import fr.atlasworld.event.api.journal.JournalTruncatedException;
+import fr.atlasworld.event.api.listener.ListenerHandle;
+import fr.atlasworld.event.api.query.QueryEvent;
+import fr.atlasworld.event.api.query.QueryReducers;
+import fr.atlasworld.event.api.record.EventCodec;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.api.record.EventRecorder;
+import fr.atlasworld.event.api.schedule.EventScheduler;
+import fr.atlasworld.event.api.schedule.ScheduledCall;
+import fr.atlasworld.event.api.trace.EventTracer;
+import fr.atlasworld.event.api.trace.TraceRecord;
+import fr.atlasworld.event.api.trace.TraceRecorder;
 import fr.atlasworld.event.core.EventNodeImpl;
+import fr.atlasworld.event.core.record.EventLogReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public final class EventNodeTests {
     static class TestEvent implements Event {}
+    static class NestedEvent implements Event {}
+
+    static class VetoQuery extends QueryEvent<Boolean, Boolean> {
+        VetoQuery() {
+            super(QueryReducers.anyMatch(veto -> veto));
+        }
+    }
+
+    static class ClaimQuery extends QueryEvent<String, List<String>> {
+        ClaimQuery(int limit) {
+            super(QueryReducers.collect(limit));
+        }
+    }
+
+    static class PayloadEvent implements Event {
+        private final String payload;
+
+        PayloadEvent(String payload) {
+            this.payload = payload;
+        }
+    }
+
+    static class PayloadCodec implements EventCodec<PayloadEvent> {
+        @Override
+        public void encode(PayloadEvent event, DataOutput out) throws IOException {
+            byte[] payload = event.payload.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(payload.length);
+            out.write(payload);
+        }
+
+        @Override
+        public PayloadEvent decode(DataInput in) throws IOException {
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            return new PayloadEvent(new String(payload, StandardCharsets.UTF_8));
+        }
+    }
 
     private EventNodeImpl<Event> rootNode;
 
@@ -91,4 +187,925 @@ public final class EventNodeTests {
 
         assertEquals(1, callCount.get(), "Node should receive one event call.");
     }
+
+    @Test
+    @DisplayName("Changes staged in a transaction should only be applied once it completes")
+    public void testTransactionApplied() {
+        AtomicInteger callCount = new AtomicInteger(0);
+
+        this.rootNode.mutate(tx -> {
+            EventNode<Event> child = tx.createChildNode("child");
+            child.addListener(TestEvent.class, event -> callCount.incrementAndGet());
+            tx.addListener(TestEvent.class, event -> callCount.incrementAndGet());
+
+            assertTrue(this.rootNode.children().isEmpty(), "Staged child should not be attached before the transaction completes.");
+            this.rootNode.callEvent(new TestEvent());
+            assertEquals(0, callCount.get(), "Staged listeners should not be called before the transaction completes.");
+        });
+
+        assertTrue(this.rootNode.child("child").isPresent(), "Root node should contain child node with name 'child'.");
+
+        this.rootNode.callEvent(new TestEvent());
+        assertEquals(2, callCount.get(), "Both staged listeners should be called once the transaction completes.");
+    }
+
+    @Test
+    @DisplayName("Changes staged in a failing transaction should be discarded")
+    public void testTransactionDiscarded() {
+        assertThrows(IllegalStateException.class, () -> this.rootNode.mutate(tx -> {
+            tx.createChildNode("child");
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(this.rootNode.children().isEmpty(), "Failed transaction should not attach any child.");
+
+        List<EventTransaction<Event>> leaked = new ArrayList<>();
+        this.rootNode.mutate(leaked::add);
+        assertThrows(IllegalStateException.class, () -> leaked.get(0).removeChildNode("child"),
+                "Completed transactions should not stage operations anymore.");
+    }
+
+    @Test
+    @DisplayName("Events called from a traced listener should be recorded in the same trace")
+    public void testTracePropagation() {
+        TraceRecorder recorder = TraceRecorder.ringBuffer(16, 1.0);
+        EventTracer.install(recorder);
+
+        try {
+            this.rootNode.addListener(TestEvent.class, event -> this.rootNode.callEvent(new NestedEvent()));
+            this.rootNode.addListener(NestedEvent.class, event -> {});
+
+            this.rootNode.callEvent(new TestEvent());
+        } finally {
+            EventTracer.install(EventTracer.NOOP);
+        }
+
+        List<TraceRecord> records = recorder.dump();
+        assertEquals(4, records.size(), "Both dispatches and both listeners should be recorded.");
+
+        TraceRecord root = records.get(3);
+        assertEquals(0, root.parentId(), "Outer dispatch should be the root of the trace.");
+        assertEquals(TestEvent.class.getName(), root.name());
+
+        for (TraceRecord record : records) {
+            assertEquals(root.traceId(), record.traceId(), "Every span should belong to the same trace.");
+        }
+
+        TraceRecord nested = records.get(1);
+        assertEquals(NestedEvent.class.getName(), nested.name());
+        assertEquals(records.get(2).spanId(), nested.parentId(), "Nested dispatch should be a child of the calling listener.");
+
+        recorder.sampleRate(0.0);
+        EventTracer.install(recorder);
+
+        try {
+            this.rootNode.callEvent(new TestEvent());
+        } finally {
+            EventTracer.install(EventTracer.NOOP);
+        }
+
+        assertEquals(4, recorder.dump().size(), "Unsampled dispatches should not be recorded.");
+    }
+
+    @Test
+    @DisplayName("Dispatches and listener executions should be recorded by the flight recorder")
+    public void testFlightRecorderEvents() throws IOException {
+        this.rootNode.createChildNode("child").addListener(TestEvent.class, event -> {});
+
+        Path file = Files.createTempFile("eventflow", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("fr.atlasworld.event.Dispatch").withThreshold(Duration.ZERO);
+            recording.enable("fr.atlasworld.event.ListenerExecution").withThreshold(Duration.ZERO);
+            recording.start();
+
+            this.rootNode.callEvent(new TestEvent());
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            RecordedEvent dispatch = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("fr.atlasworld.event.Dispatch"))
+                    .findFirst().orElseThrow();
+
+            assertEquals(TestEvent.class.getName(), dispatch.getClass("eventClass").getName());
+            assertEquals(2, dispatch.getInt("visitedNodes"), "Root and child nodes should be visited.");
+            assertEquals(1, dispatch.getInt("listeners"), "Event should be passed to one listener.");
+
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("fr.atlasworld.event.ListenerExecution")
+                    && "child".equals(event.getString("node"))), "Listener execution should be recorded.");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Recorded events should be read back in order with their payload")
+    public void testEventRecording() throws IOException {
+        EventCodecs codecs = new EventCodecs().register(PayloadEvent.class, new PayloadCodec());
+
+        Path file = Files.createTempFile("eventflow", ".evlog");
+        try {
+            try (EventRecorder recorder = EventRecorder.open(file, codecs)) {
+                this.rootNode.recordEvents(recorder);
+
+                this.rootNode.callEvent(new PayloadEvent("first"));
+                this.rootNode.callEvent(new TestEvent());
+                this.rootNode.callEvent(new PayloadEvent("second"));
+
+                this.rootNode.recordEvents(null);
+                assertEquals(2, recorder.recorded(), "Events with a codec should be recorded.");
+                assertEquals(1, recorder.skipped(), "Events without a codec should be skipped.");
+            }
+
+            try (EventLogReader reader = new EventLogReader(file)) {
+                assertTrue(reader.next());
+                assertEquals(PayloadEvent.class.getName(), reader.eventClass());
+                assertEquals("first", ((PayloadEvent) reader.decode(codecs)).payload);
+                long firstTimestamp = reader.timestamp();
+
+                assertTrue(reader.next());
+                assertEquals("second", ((PayloadEvent) reader.decode(codecs)).payload);
+                assertTrue(reader.timestamp() >= firstTimestamp, "Timestamps should be monotonic.");
+
+                assertFalse(reader.next(), "Log should only contain the recorded events.");
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Journal nodes should commit events before completing calls, and resume reading from an offset")
+    public void testJournalNode() throws IOException {
+        EventCodecs codecs = new EventCodecs().register(PayloadEvent.class, new PayloadCodec());
+        Path directory = Files.createTempDirectory("eventflow-journal");
+
+        try {
+            try (EventJournal journal = EventJournal.open(directory, codecs, builder -> builder
+                    .segmentSize(4096)
+                    .groupCommit(Duration.ofMillis(1), 16))) {
+
+                EventNode<PayloadEvent> node = EventNode.journaled("audit", PayloadEvent.class, journal);
+                for (int i = 0; i < 200; i++)
+                    node.callEvent(new PayloadEvent("event-" + i)).join();
+
+                assertEquals(200, journal.committedOffset(), "Completed calls should be committed.");
+
+                try (Stream<Path> segments = Files.list(directory)) {
+                    assertTrue(segments.count() > 1, "Journal should roll segments once full.");
+                }
+
+                try (JournalCursor cursor = journal.read(150)) {
+                    for (int i = 150; i < 200; i++) {
+                        JournalEntry entry = cursor.next();
+                        assertNotNull(entry);
+                        assertEquals(i, entry.offset());
+                        assertEquals("event-" + i, ((PayloadEvent) entry.event()).payload);
+                    }
+
+                    assertNull(cursor.next(), "Cursor should stop at the committed offset.");
+                    assertEquals(200, cursor.offset());
+                }
+            }
+
+            try (EventJournal journal = EventJournal.open(directory, codecs, builder -> builder
+                    .segmentSize(4096)
+                    .retainSegments(1))) {
+
+                assertEquals(200, journal.committedOffset(), "Reopened journal should resume after the stored entries.");
+
+                EventNode<PayloadEvent> node = EventNode.journaled("audit", PayloadEvent.class, journal);
+                for (int i = 200; i < 300; i++)
+                    node.callEvent(new PayloadEvent("event-" + i)).join();
+
+                assertTrue(journal.firstOffset() > 0, "Retention should delete the oldest segments.");
+                assertThrows(JournalTruncatedException.class, () -> journal.read(0));
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList())
+                    Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Bridge nodes should forward events to the remote tree in order")
+    public void testEventBridge() throws IOException, InterruptedException {
+        EventCodecs codecs = new EventCodecs().register(PayloadEvent.class, new PayloadCodec());
+        Path socket = Files.createTempDirectory("eventflow-bridge").resolve("bridge.sock");
+
+        EventNodeImpl<Event> remoteRoot = new EventNodeImpl<>("remote", Event.class, null);
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(101);
+        remoteRoot.addListener(PayloadEvent.class, event -> {
+            received.add(event.payload);
+            latch.countDown();
+        });
+
+        String oversized = "x".repeat(50_000); // Larger than a pooled buffer.
+        try (EventBridgeServer server = EventBridgeServer.listen(UnixDomainSocketAddress.of(socket), codecs, remoteRoot);
+             EventBridge bridge = EventBridge.connect(server.address(), codecs)) {
+
+            this.rootNode.addChildNode(EventNode.bridged("bridge", PayloadEvent.class, bridge));
+            for (int i = 0; i < 100; i++)
+                this.rootNode.callEvent(new PayloadEvent("event-" + i));
+
+            this.rootNode.callEvent(new PayloadEvent(oversized + oversized));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Every forwarded event should be received.");
+            assertEquals(101, bridge.forwarded());
+        } finally {
+            Files.deleteIfExists(socket);
+            Files.deleteIfExists(socket.getParent());
+        }
+
+        for (int i = 0; i < 100; i++)
+            assertEquals("event-" + i, received.get(i), "Events should be received in the forwarding order.");
+
+        assertEquals(oversized + oversized, received.get(100));
+    }
+
+    @Test
+    @DisplayName("Received events should not be forwarded back, events raised by their listeners should")
+    public void testEventBridgeEcho() throws IOException, InterruptedException {
+        EventCodecs codecs = new EventCodecs().register(PayloadEvent.class, new PayloadCodec());
+        Path directory = Files.createTempDirectory("eventflow-bridge");
+        Path socket = directory.resolve("bridge.sock");
+        Path backSocket = directory.resolve("back.sock");
+
+        List<String> echoed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        rootNode.addListener(PayloadEvent.class, event -> {
+            echoed.add(event.payload);
+            latch.countDown();
+        });
+
+        EventNodeImpl<Event> remoteRoot = new EventNodeImpl<>("remote", Event.class, null);
+        remoteRoot.addListener(PayloadEvent.class, event -> {
+            if (event.payload.equals("ping"))
+                remoteRoot.callEvent(new PayloadEvent("pong"));
+        });
+
+        try (EventBridgeServer server = EventBridgeServer.listen(UnixDomainSocketAddress.of(socket), codecs, remoteRoot);
+             EventBridgeServer backServer = EventBridgeServer.listen(UnixDomainSocketAddress.of(backSocket), codecs, rootNode);
+             EventBridge bridge = EventBridge.connect(server.address(), codecs);
+             EventBridge back = EventBridge.connect(backServer.address(), codecs)) {
+
+            remoteRoot.addChildNode(EventNode.bridged("back", PayloadEvent.class, back));
+            bridge.forward(new PayloadEvent("ping"));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Events raised by received events should be forwarded.");
+        } finally {
+            Files.deleteIfExists(socket);
+            Files.deleteIfExists(backSocket);
+            Files.deleteIfExists(directory);
+        }
+
+        // A bounced event would be forwarded before the events raised by its listeners.
+        assertEquals(List.of("pong"), echoed, "Received events should not be forwarded back.");
+    }
+
+    @Test
+    @DisplayName("Bridges should drop frames whose codec fails without corrupting the batch")
+    public void testEventBridgeCodecFailure() throws IOException, InterruptedException {
+        PayloadCodec failing = new PayloadCodec() {
+            @Override
+            public void encode(PayloadEvent event, DataOutput out) throws IOException {
+                out.writeInt(Integer.MAX_VALUE); // Leave a partial frame behind.
+                if (event.payload.equals("poison"))
+                    throw new IllegalStateException("Codec failure");
+
+                super.encode(event, out);
+            }
+
+            @Override
+            public PayloadEvent decode(DataInput in) throws IOException {
+                in.readInt();
+                return super.decode(in);
+            }
+        };
+
+        EventCodecs codecs = new EventCodecs().register(PayloadEvent.class, failing);
+        Path socket = Files.createTempDirectory("eventflow-bridge").resolve("bridge.sock");
+
+        EventNodeImpl<Event> remoteRoot = new EventNodeImpl<>("remote", Event.class, null);
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        remoteRoot.addListener(PayloadEvent.class, event -> {
+            received.add(event.payload);
+            latch.countDown();
+        });
+
+        try (EventBridgeServer server = EventBridgeServer.listen(UnixDomainSocketAddress.of(socket), codecs, remoteRoot);
+             EventBridge bridge = EventBridge.connect(server.address(), codecs)) {
+
+            bridge.forward(new PayloadEvent("before"));
+            assertThrows(IllegalStateException.class, () -> bridge.forward(new PayloadEvent("poison")));
+            bridge.forward(new PayloadEvent("after"));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Events around the failed one should be received.");
+            assertEquals(2, bridge.forwarded());
+        } finally {
+            Files.deleteIfExists(socket);
+            Files.deleteIfExists(socket.getParent());
+        }
+
+        assertEquals(List.of("before", "after"), received);
+    }
+
+    @Test
+    @DisplayName("Primitive values should reach every unfiltered node accepting the channel type once")
+    public void testPrimitiveChannels() {
+        LongChannel entityIds = LongChannel.of("entity-ids", TestEvent.class);
+        IntChannel ticks = IntChannel.of("ticks");
+
+        EventNode<Event> child1 = rootNode.createChildNode("child1");
+        EventNode<Event> child2 = rootNode.createChildNode("child2");
+        EventNode<Event> grandChild = EventNode.create("grand-child");
+        child1.addChildNode(grandChild);
+        child2.addChildNode(grandChild);
+
+        EventNode<Event> filtered = rootNode.createChildNode("filtered", event -> true);
+        EventNode<NestedEvent> nested = rootNode.createChildNode("nested", NestedEvent.class);
+
+        AtomicLong sum = new AtomicLong();
+        AtomicInteger calls = new AtomicInteger();
+        grandChild.addListener(entityIds, value -> {
+            sum.addAndGet(value);
+            calls.incrementAndGet();
+        });
+        rootNode.addListener(entityIds, value -> sum.addAndGet(value));
+        ListenerHandle tickHandle = child2.addListener(ticks, value -> calls.addAndGet(value));
+
+        assertThrows(IllegalArgumentException.class, () -> filtered.addListener(entityIds, value -> {}),
+                "Filtered nodes should refuse primitive handlers.");
+        assertThrows(IllegalArgumentException.class, () -> nested.addListener(entityIds, value -> {}),
+                "Nodes not accepting the channel type should refuse its handlers.");
+        assertThrows(UnsupportedOperationException.class, () -> child1.callLong(entityIds, 1L));
+
+        rootNode.callLong(entityIds, 1L << 40);
+        assertEquals(1, calls.get(), "Node reachable through two parents should be called once.");
+        assertEquals(2L << 40, sum.get());
+
+        rootNode.callInt(ticks, 5);
+        assertEquals(6, calls.get());
+
+        assertTrue(tickHandle.unregister());
+        assertFalse(tickHandle.registered());
+        rootNode.callInt(ticks, 5);
+        assertEquals(6, calls.get(), "Unregistered handler should not be called.");
+    }
+
+    static class TickEvent implements Event {
+        private final long deadline;
+        private long calledAt = -1;
+
+        TickEvent(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    @Test
+    @DisplayName("Scheduled events should be called on their exact tick unless cancelled")
+    public void testScheduledEvents() {
+        try (EventScheduler scheduler = EventScheduler.manual(Duration.ofMillis(10))) {
+            this.rootNode.scheduleWith(scheduler);
+            this.rootNode.addListener(TickEvent.class, event -> event.calledAt = scheduler.currentTick());
+
+            ScheduledCall<TickEvent> rounded = this.rootNode.callEventLater(new TickEvent(3), Duration.ofMillis(25));
+            scheduler.advance(2);
+            assertFalse(rounded.future().isDone(), "Delay should be rounded up to the next tick.");
+            scheduler.advance(1);
+            assertEquals(3, rounded.future().join().calledAt);
+
+            Random random = new Random(42);
+            List<ScheduledCall<TickEvent>> calls = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                long delay = i % 10 == 0 ? random.nextInt(1 << 26) : random.nextInt(300_000); // Some cascade from the upper levels.
+                long deadline = scheduler.currentTick() + Math.max(1, delay);
+                calls.add(this.rootNode.callEventLater(new TickEvent(deadline), Duration.ofMillis(delay * 10)));
+            }
+
+            for (int i = 0; i < calls.size(); i += 2)
+                assertTrue(calls.get(i).cancel());
+
+            assertEquals(5_000, scheduler.pending());
+            while (scheduler.pending() > 0)
+                scheduler.advance(random.nextInt(100_000));
+
+            for (int i = 0; i < calls.size(); i++) {
+                ScheduledCall<TickEvent> call = calls.get(i);
+                if (i % 2 == 0) {
+                    assertTrue(call.cancelled());
+                    assertThrows(CancellationException.class, () -> call.future().join());
+                    assertEquals(-1, call.event().calledAt, "Cancelled event should not be called.");
+                } else {
+                    assertEquals(call.event().deadline, call.event().calledAt, "Event should be called on its deadline tick.");
+                }
+            }
+
+            ScheduledCall<TickEvent> pending = this.rootNode.callEventLater(new TickEvent(0), Duration.ofDays(1));
+            scheduler.close();
+            assertTrue(pending.cancelled(), "Closing the scheduler should cancel pending calls.");
+        }
+    }
+
+    @Test
+    @DisplayName("Events scheduled at an instant should be called by the shared scheduler")
+    public void testScheduledEventAt() {
+        AtomicInteger callCount = new AtomicInteger();
+        this.rootNode.addListener(TestEvent.class, event -> callCount.incrementAndGet());
+
+        Instant instant = Instant.now().plusMillis(20);
+        ScheduledCall<TestEvent> call = this.rootNode.callEventAt(new TestEvent(), instant);
+        call.future().orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertEquals(1, callCount.get());
+        assertFalse(Instant.now().isBefore(instant), "Event should not be called before its instant.");
+        assertThrows(IllegalStateException.class, () -> EventScheduler.shared().close());
+    }
+
+    @Test
+    @DisplayName("Frozen trees should call listeners like unfrozen trees and follow later mutations")
+    public void testFrozenTree() {
+        List<String> calls = new ArrayList<>();
+
+        EventNode<Event> child1 = rootNode.createChildNode("child1", event -> !(event instanceof NestedEvent));
+        EventNode<Event> child2 = rootNode.createChildNode("child2");
+        EventNode<NestedEvent> nested = rootNode.createChildNode("nested", NestedEvent.class);
+        EventNode<Event> grandChild = EventNode.create("grand-child");
+        child1.addChildNode(grandChild);
+        child2.addChildNode(grandChild);
+
+        rootNode.addListener(TestEvent.class, event -> calls.add("root"));
+        rootNode.addListener(NestedEvent.class, event -> calls.add("root-nested"));
+        child1.addListener(TestEvent.class, event -> calls.add("child1"));
+        child2.addListener(NestedEvent.class, event -> calls.add("child2-nested"));
+        nested.addListener(NestedEvent.class, event -> calls.add("nested"));
+        grandChild.addListener(TestEvent.class, event -> calls.add("grand-child"));
+        grandChild.addListener(NestedEvent.class, event -> calls.add("grand-child-nested"));
+
+        rootNode.callEvent(new TestEvent());
+        rootNode.callEvent(new NestedEvent());
+        List<String> expected = List.copyOf(calls);
+        calls.clear();
+
+        assertThrows(UnsupportedOperationException.class, child1::freeze);
+        rootNode.freeze();
+        assertTrue(rootNode.frozen());
+
+        rootNode.callEvent(new TestEvent());
+        rootNode.callEvent(new NestedEvent());
+        assertEquals(expected, calls, "Frozen tree should call the same listeners in the same order.");
+        calls.clear();
+
+        ListenerHandle handle = child2.addListener(TestEvent.class, event -> calls.add("never"));
+        EventNode<Event> late = child2.createChildNode("late");
+        late.addListener(TestEvent.class, event -> calls.add("late"));
+        handle.unregister();
+        rootNode.addListener(TestEvent.class, event -> calls.add("root-late"));
+
+        rootNode.callEvent(new TestEvent());
+        assertEquals(List.of("grand-child", "child1", "late", "root", "root-late"), calls, "Frozen tree should follow mutations.");
+
+        rootNode.unfreeze();
+        assertFalse(rootNode.frozen());
+    }
+
+    @Test
+    @DisplayName("Frozen trees should call nodes reachable through an exclusive node and another parent once")
+    public void testFrozenExclusiveDiamond() {
+        List<String> calls = new ArrayList<>();
+
+        EventNode<Event> exclusive = rootNode.createChildNode("exclusive");
+        EventNode<Event> plain = rootNode.createChildNode("plain");
+        EventNode<Event> shared = EventNode.create("shared");
+        EventNode<Event> grandChild = shared.createChildNode("grand-child");
+        exclusive.exclusive();
+        exclusive.addChildNode(shared);
+        plain.addChildNode(shared);
+
+        shared.addListener(TestEvent.class, event -> calls.add("shared"));
+        grandChild.addListener(TestEvent.class, event -> calls.add("grand-child"));
+
+        rootNode.callEvent(new TestEvent());
+        List<String> expected = List.copyOf(calls);
+        calls.clear();
+
+        rootNode.freeze();
+        rootNode.callEvent(new TestEvent());
+        rootNode.callEvent(new TestEvent());
+
+        assertEquals(List.of("grand-child", "shared"), expected);
+        assertEquals(List.of("grand-child", "shared", "grand-child", "shared"), calls,
+                "Nodes below an exclusive node should be called once per event.");
+    }
+
+    @Test
+    @DisplayName("Events should reach a single exclusive child, rejecting filters being moved last")
+    public void testExclusiveChildren() {
+        AtomicInteger rejectingTests = new AtomicInteger();
+        AtomicInteger testCalls = new AtomicInteger();
+        AtomicInteger nestedCalls = new AtomicInteger();
+        int events = 40_000;
+
+        rootNode.exclusive();
+        EventNode<Event> rejecting = rootNode.createChildNode("rejecting", event -> {
+            rejectingTests.incrementAndGet();
+            long end = System.nanoTime() + 2_000; // Expensive filter.
+            while (System.nanoTime() < end)
+                Thread.onSpinWait();
+
+            return false;
+        });
+        EventNode<TestEvent> tests = rootNode.createChildNode("tests", TestEvent.class);
+        EventNode<NestedEvent> nested = rootNode.createChildNode("nested", NestedEvent.class);
+
+        rejecting.addListener(TestEvent.class, event -> testCalls.addAndGet(events));
+        tests.addListener(TestEvent.class, event -> testCalls.incrementAndGet());
+        nested.addListener(NestedEvent.class, event -> nestedCalls.incrementAndGet());
+
+        for (int i = 0; i < events; i++) {
+            if (i % 2 == 0)
+                rootNode.callEvent(new TestEvent());
+            else
+                rootNode.callEvent(new NestedEvent());
+        }
+
+        assertEquals(events / 2, testCalls.get());
+        assertEquals(events / 2, nestedCalls.get());
+        assertTrue(rejectingTests.get() < events / 2, "Rejecting filter should be moved after its siblings, tested " + rejectingTests.get() + " times.");
+    }
+
+    @Test
+    @DisplayName("Exclusive children should test the filter of the accepting child once per event")
+    public void testExclusiveChildFilteredOnce() {
+        AtomicInteger filterCalls = new AtomicInteger();
+        AtomicInteger calls = new AtomicInteger();
+        int events = 10_000;
+
+        rootNode.exclusive();
+        EventNode<Event> accepting = rootNode.createChildNode("accepting", event -> {
+            filterCalls.incrementAndGet();
+            return true;
+        });
+        accepting.addListener(TestEvent.class, event -> calls.incrementAndGet());
+
+        for (int i = 0; i < events; i++)
+            rootNode.callEvent(new TestEvent());
+
+        assertEquals(events, calls.get());
+        assertEquals(events, filterCalls.get(), "Sampled events should not test the accepting filter again.");
+    }
+
+    /**
+     * Executor holding its requests until they are run by the test.
+     */
+    static class HeldExecutor implements EventExecutor {
+        private final List<EventRequest> requests = new ArrayList<>();
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        @Override
+        public synchronized CompletableFuture<Void> request(EventRequest request) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            this.requests.add(request);
+            this.futures.add(future);
+            return future;
+        }
+
+        synchronized int held() {
+            return this.requests.size();
+        }
+
+        void run(int index) throws Throwable {
+            EventRequest request;
+            CompletableFuture<Void> future;
+            synchronized (this) {
+                request = this.requests.get(index);
+                future = this.futures.get(index);
+            }
+
+            request.execute();
+            future.complete(null);
+        }
+    }
+
+    @Test
+    @DisplayName("Bulkheads should limit the requests in flight of their subtree only")
+    public void testBulkheads() throws Throwable {
+        HeldExecutor executor = new HeldExecutor();
+        AtomicInteger pluginCalls = new AtomicInteger();
+        AtomicInteger coreCalls = new AtomicInteger();
+
+        EventNode<Event> plugin = rootNode.createChildNode("plugin");
+        EventNode<Event> pluginChild = plugin.createChildNode("plugin-child");
+        EventNode<Event> core = rootNode.createChildNode("core");
+        Bulkhead bulkhead = plugin.bulkhead(2, 1, BulkheadPolicy.QUEUE);
+
+        pluginChild.addListener(TestEvent.class, event -> pluginCalls.incrementAndGet(), builder -> builder.executor(executor));
+        core.addListener(TestEvent.class, event -> coreCalls.incrementAndGet(), builder -> builder.executor(executor));
+
+        List<CompletableFuture<DispatchResult<TestEvent>>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            results.add(rootNode.dispatchEvent(new TestEvent()));
+
+        assertEquals(2, bulkhead.inFlight());
+        assertEquals(1, bulkhead.queued());
+        assertEquals(2, bulkhead.rejected());
+        assertEquals(3, bulkhead.saturated());
+        assertEquals(7, executor.held(), "Requests of other subtrees should not be limited.");
+
+        executor.run(0); // First plugin request, its permit goes to the queued request.
+        assertEquals(8, executor.held());
+        assertEquals(0, bulkhead.queued());
+        assertEquals(2, bulkhead.inFlight());
+
+        for (int i = 1; i < 8; i++)
+            executor.run(i);
+
+        assertEquals(0, bulkhead.inFlight());
+        assertEquals(3, pluginCalls.get());
+        assertEquals(5, coreCalls.get());
+
+        long rejected = results.stream()
+                .map(CompletableFuture::join)
+                .filter(result -> !result.successful())
+                .peek(result -> assertInstanceOf(RejectedExecutionException.class, result.failures().get(0).cause()))
+                .count();
+        assertEquals(2, rejected);
+
+        Bulkhead inline = plugin.bulkhead(1, 0, BulkheadPolicy.RUN_INLINE);
+        rootNode.freeze();
+        rootNode.callEvent(new TestEvent());
+        rootNode.callEvent(new TestEvent());
+
+        assertEquals(1, inline.inlined(), "Frozen trees should go through the bulkhead too.");
+        assertEquals(4, pluginCalls.get(), "Inlined request should run on the calling thread.");
+    }
+
+    @Test
+    @DisplayName("Admission controllers should shed low priority events first and defer events by policy")
+    public void testAdmission() throws Throwable {
+        HeldExecutor executor = new HeldExecutor();
+        rootNode.addListener(TestEvent.class, event -> {}, builder -> builder.executor(executor));
+        rootNode.addListener(NestedEvent.class, event -> {}, builder -> builder.executor(executor));
+
+        AdmissionController admission = rootNode.admission(builder -> builder
+                .maxInFlight(4)
+                .priority(TestEvent.class, 1));
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++)
+            futures.add(rootNode.callEvent(new NestedEvent()));
+
+        for (int i = 0; i < 3; i++)
+            futures.add(rootNode.callEvent(new TestEvent()));
+
+        assertEquals(4, admission.inFlight());
+        assertEquals(4, admission.admitted());
+        assertEquals(2, admission.shed());
+
+        ExecutionException shed = assertThrows(ExecutionException.class, () -> futures.get(2).get());
+        EventRejectedException rejected = assertInstanceOf(EventRejectedException.class, shed.getCause());
+        assertEquals(NestedEvent.class, rejected.eventClass(), "Lowest priority events should only use half of the capacity.");
+        assertTrue(futures.get(5).isCompletedExceptionally());
+
+        for (int i = 0; i < 4; i++)
+            executor.run(i);
+
+        assertEquals(0, admission.inFlight());
+        assertTrue(futures.get(0).isDone());
+        assertFalse(futures.get(0).isCompletedExceptionally());
+
+        AdmissionController deferring = rootNode.admission(builder -> builder
+                .maxInFlight(1)
+                .policy(AdmissionPolicy.DEFER, 1));
+
+        CompletableFuture<TestEvent> first = rootNode.callEvent(new TestEvent());
+        CompletableFuture<TestEvent> second = rootNode.callEvent(new TestEvent());
+        CompletableFuture<TestEvent> third = rootNode.callEvent(new TestEvent());
+
+        assertEquals(1, deferring.deferred());
+        assertEquals(5, executor.held(), "Deferred events should not be dispatched yet.");
+        assertTrue(third.isCompletedExceptionally(), "Events past the deferred limit should be shed.");
+
+        executor.run(4); // Completes the first dispatch, the deferred event takes its place.
+        assertTrue(first.isDone());
+        assertEquals(0, deferring.deferred());
+        assertEquals(6, executor.held());
+
+        executor.run(5);
+        assertTrue(second.isDone());
+        assertFalse(second.isCompletedExceptionally());
+        assertEquals(2, deferring.admitted());
+        assertEquals(1, deferring.shed());
+
+        AdmissionController prioritized = rootNode.admission(builder -> builder
+                .maxInFlight(2)
+                .priority(TestEvent.class, 1)
+                .policy(AdmissionPolicy.DEFER, 4));
+
+        CompletableFuture<TestEvent> running = rootNode.callEvent(new TestEvent());
+        CompletableFuture<NestedEvent> low = rootNode.callEvent(new NestedEvent()); // Deferred, half of the capacity is used.
+        rootNode.callEvent(new TestEvent());
+        CompletableFuture<TestEvent> high = rootNode.callEvent(new TestEvent()); // Deferred, the whole capacity is used.
+        assertEquals(2, prioritized.deferred());
+
+        executor.run(6);
+        assertTrue(running.isDone());
+        assertEquals(9, executor.held(), "Deferred events of a higher priority should not wait behind lower ones.");
+        assertEquals(1, prioritized.deferred());
+
+        executor.run(7);
+        executor.run(8);
+        assertTrue(high.isDone());
+        assertEquals(10, executor.held(), "Lower priority events should be dispatched once capacity frees up.");
+
+        executor.run(9);
+        assertTrue(low.isDone());
+        assertEquals(0, prioritized.inFlight());
+    }
+
+    @Test
+    @DisplayName("Queries should complete once their answer is decided and skip the remaining listeners")
+    public void testQueries() throws Throwable {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 40; i++) {
+            boolean veto = i == 2;
+            rootNode.addListener(VetoQuery.class, query -> {
+                calls.incrementAndGet();
+                query.respond(veto);
+            });
+        }
+
+        assertTrue(rootNode.query(new VetoQuery()).join());
+        assertEquals(3, calls.get(), "Listeners following the veto should be skipped.");
+
+        HeldExecutor executor = new HeldExecutor();
+        AtomicInteger asyncCalls = new AtomicInteger();
+        EventNode<Event> child = rootNode.createChildNode("child");
+        for (int i = 0; i < 3; i++)
+            child.addListener(VetoQuery.class, query -> asyncCalls.incrementAndGet(), builder -> builder.executor(executor));
+
+        CompletableFuture<Boolean> answer = rootNode.query(new VetoQuery());
+        assertTrue(answer.isDone(), "Answer should not wait for the queued listeners.");
+        assertTrue(answer.join());
+
+        for (int i = 0; i < 3; i++)
+            executor.run(i);
+
+        assertEquals(0, asyncCalls.get(), "Queued listeners should be skipped once the answer is decided.");
+
+        for (String claimant : List.of("first", "second", "third"))
+            rootNode.addListener(ClaimQuery.class, query -> query.respond(claimant));
+
+        assertEquals(List.of("first", "second"), rootNode.query(new ClaimQuery(2)).join());
+        assertEquals(List.of("first", "second", "third"), rootNode.query(new ClaimQuery(5)).join(),
+                "Undecided queries should answer once every listener ran.");
+    }
+
+    @Test
+    @DisplayName("Fired events should reach every listener and report failures to the failure handlers only")
+    public void testFireEvent() throws Throwable {
+        HeldExecutor executor = new HeldExecutor();
+        EventExecutor rejecting = request -> CompletableFuture.failedFuture(new RejectedExecutionException("Saturated"));
+
+        AtomicInteger calls = new AtomicInteger();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        rootNode.addListener(TestEvent.class, event -> calls.incrementAndGet());
+        rootNode.addListener(TestEvent.class, event -> calls.incrementAndGet(), builder -> builder.executor(executor));
+        rootNode.addListener(TestEvent.class, event -> {
+            throw new IllegalStateException("Failing listener");
+        }, builder -> builder.failure(failures::add));
+        rootNode.addListener(TestEvent.class, event -> calls.incrementAndGet(), builder -> builder
+                .executor(rejecting)
+                .failure(failures::add));
+
+        assertTrue(rootNode.fireEvent(new TestEvent()));
+        assertEquals(1, calls.get());
+        assertEquals(1, executor.held());
+
+        executor.run(0);
+        assertEquals(2, calls.get(), "Asynchronous listeners should run without being awaited.");
+
+        assertEquals(2, failures.size());
+        assertInstanceOf(IllegalStateException.class, failures.get(0));
+        assertInstanceOf(RejectedExecutionException.class, failures.get(1), "Rejected requests should reach the failure handler.");
+
+        rootNode.admission(builder -> builder.maxInFlight(1));
+        AtomicInteger nested = new AtomicInteger();
+        rootNode.addListener(NestedEvent.class, event -> {
+            if (!rootNode.fireEvent(new TestEvent()))
+                nested.incrementAndGet();
+        });
+
+        assertTrue(rootNode.fireEvent(new NestedEvent()));
+        assertEquals(1, nested.get(), "Events fired past the admission limit should be shed.");
+
+        AdmissionController deferring = rootNode.admission(builder -> builder
+                .maxInFlight(1)
+                .policy(AdmissionPolicy.DEFER, 1));
+
+        int called = calls.get();
+        assertTrue(rootNode.fireEvent(new NestedEvent()));
+        assertEquals(1, nested.get(), "Deferred fired events should not be reported as shed.");
+        assertEquals(called + 1, calls.get(), "Deferred fired events should be dispatched once the tree is walked.");
+        assertEquals(0, deferring.deferred());
+        assertEquals(0, deferring.inFlight());
+        assertEquals(2, deferring.admitted());
+    }
+
+    @Test
+    @DisplayName("Sliced calls should run their listeners in order, within the budget of every slice")
+    public void testSlicedCalls() {
+        List<Integer> calls = new ArrayList<>();
+        EventNode<Event> child = rootNode.createChildNode("child");
+        for (int i = 0; i < 40; i++) {
+            int index = i;
+            child.addListener(TestEvent.class, event -> calls.add(index));
+        }
+
+        for (int i = 40; i < 100; i++) {
+            int index = i;
+            rootNode.addListener(TestEvent.class, event -> calls.add(index));
+        }
+
+        SlicedCall<TestEvent> call = rootNode.callEvent(new TestEvent(), DispatchBudget.listeners(30));
+        assertEquals(30, calls.size());
+        assertEquals(70, call.remaining());
+        assertFalse(call.done());
+
+        while (!call.resume(DispatchBudget.listeners(30)))
+            assertFalse(call.future().isDone(), "Future should span every slice.");
+
+        assertTrue(call.done());
+        assertTrue(call.future().isDone());
+        assertEquals(100, calls.size());
+        for (int i = 0; i < 100; i++)
+            assertEquals(i, (int) calls.get(i), "Listeners should run in the order of an unsliced call.");
+
+        rootNode.addListener(NestedEvent.class, event -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1)));
+        rootNode.addListener(NestedEvent.class, event -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1)));
+
+        SlicedCall<NestedEvent> timed = rootNode.callEvent(new NestedEvent(), DispatchBudget.time(Duration.ofNanos(1)));
+        assertEquals(1, timed.remaining(), "A slice should stop once its time budget is used up.");
+        assertTrue(timed.resume(DispatchBudget.time(Duration.ofSeconds(1))));
+
+        EventNode<Event> tree = EventNode.create("sliced");
+        AtomicInteger treeCalls = new AtomicInteger();
+        AtomicBoolean expiring = new AtomicBoolean();
+        tree.addListener(TestEvent.class, event -> treeCalls.incrementAndGet());
+        ListenerHandle unregistered = tree.addListener(TestEvent.class, event -> treeCalls.incrementAndGet());
+        tree.addListener(TestEvent.class, event -> treeCalls.incrementAndGet(), builder -> builder.expireWhen(event -> expiring.get()));
+
+        SlicedCall<TestEvent> checked = tree.callEvent(new TestEvent(), DispatchBudget.listeners(1));
+        unregistered.unregister();
+        expiring.set(true);
+
+        assertTrue(checked.resume(DispatchBudget.listeners(10)));
+        assertEquals(1, treeCalls.get(), "Deferred listeners should be checked when their slice runs.");
+    }
+
+    @Test
+    @DisplayName("Small nodes should stay compact and large nodes should inflate without changing their behavior")
+    public void testCompactNodes() {
+        long empty = GraphLayout.parseInstance(rootNode).totalSize();
+        for (int i = 0; i < 1000; i++)
+            rootNode.createChildNode("entity-" + i).addListener(TestEvent.class, event -> {});
+
+        long perNode = (GraphLayout.parseInstance(rootNode).totalSize() - empty) / 1000;
+        assertTrue(perNode < 512, "Leaf node with a single listener takes " + perNode + " bytes.");
+
+        EventNode<Event> large = EventNode.create("large");
+        for (int i = 0; i < 20; i++)
+            large.createChildNode("child-" + i);
+
+        assertTrue(large.child("child-15").isPresent());
+        assertNotNull(large.removeChildNode("child-15"));
+        assertFalse(large.child("child-15").isPresent(), "Removed children should be removed from the index.");
+        assertEquals(19, large.children().size());
+
+        EventNode<Event> replacement = EventNode.create("child-3");
+        large.addChildNode(replacement);
+        assertSame(replacement, large.child("child-3").orElseThrow());
+        assertEquals(19, large.children().size(), "Children of the same name should be replaced.");
+
+        AtomicInteger replacementCalls = new AtomicInteger();
+        replacement.addListener(TestEvent.class, event -> replacementCalls.incrementAndGet());
+
+        AtomicInteger calls = new AtomicInteger();
+        List<ListenerHandle> handles = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            handles.add(large.addListener(TestEvent.class, event -> calls.incrementAndGet()));
+
+        for (int i = 0; i < 15; i++)
+            handles.get(i).unregister();
+
+        large.callEvent(new TestEvent());
+        assertEquals(5, calls.get());
+        assertEquals(1, replacementCalls.get(), "Rebuilt child snapshots should hold the replacement.");
+    }
 }
@@ -3,6 +3,8 @@ package userend;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.dispatch.DispatchResult;
+import fr.atlasworld.event.api.dispatch.ListenerFailure;
 import org.jetbrains.annotations.NotNull;
 import userend.event.TaskCompleteEvent;
 import userend.event.TaskEvent;
@@ -94,7 +96,10 @@ public class TaskExecutorThread extends Thread {
         Preconditions.checkNotNull(runnable, "Task cannot be null!");
 
         TaskScheduledEvent event = new TaskScheduledEvent(Thread.currentThread(), this);
-        Main.rootNode.callEvent(event).join();
+        DispatchResult<TaskScheduledEvent> result = Main.rootNode.dispatchEvent(event).join();
+
+        for (ListenerFailure failure : result.failures())
+            System.err.println("Listener failed while scheduling task on '" + this.getName() + "': " + failure);
 
         if (event.cancelled())
             return false;
@@ -0,0 +1,254 @@
+package fr.atlasworld.event.loadtest;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.executor.EventExecutor;
+import fr.atlasworld.event.api.executor.PriorityExecutor;
+import fr.atlasworld.event.loadtest.event.TaskCompleteEvent;
+import fr.atlasworld.event.loadtest.event.TaskScheduledEvent;
+import fr.atlasworld.event.loadtest.event.WorkerEvent;
+import fr.atlasworld.event.replay.OpenLoop;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Whole-system load test, modelling workers firing task events through a node tree.
+ * <p>
+ * Every worker has its own filtered child node, holding a subtree of the configured shape.
+ * Each node of the subtrees has the configured mix of synchronous and asynchronous listeners,
+ * alternately listening to {@link TaskScheduledEvent} and {@link TaskCompleteEvent}.
+ * <br>
+ * Tasks are generated open-loop at a fixed rate and handed to the workers in turn, without waiting for the workers to keep up.
+ * Event call latency is measured from the time the load schedule intended the task to start,
+ * so a slow tree shows up in the latencies instead of silently lowering the generated load.
+ */
+public final class LoadTest {
+    private int threads;
+    private int width;
+    private int depth;
+    private int syncListeners;
+    private int asyncListeners;
+    private int asyncThreads;
+    private int listenerWork;
+    private int taskWork;
+    private int rate;
+    private Duration duration;
+    private Duration warmup;
+
+    public LoadTest() {
+        this.threads = 4;
+        this.width = 2;
+        this.depth = 2;
+        this.syncListeners = 2;
+        this.asyncListeners = 1;
+        this.asyncThreads = 2;
+        this.listenerWork = 100;
+        this.taskWork = 1000;
+        this.rate = 10000;
+        this.duration = Duration.ofSeconds(10);
+        this.warmup = Duration.ofSeconds(2);
+    }
+
+    /**
+     * Sets the amount of worker threads, each having its own subtree.
+     *
+     * @param threads amount of workers.
+     *
+     * @return this load test.
+     * @throws IllegalArgumentException if {@code threads} is not strictly positive.
+     */
+    @NotNull
+    public LoadTest threads(int threads) {
+        Preconditions.checkArgument(threads > 0, "Thread count must be strictly positive!");
+
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Sets the shape of the subtree of every worker.
+     *
+     * @param width children of every node.
+     * @param depth levels below the worker node, {@code 0} only creates the worker node.
+     *
+     * @return this load test.
+     * @throws IllegalArgumentException if {@code width} or {@code depth} is negative.
+     */
+    @NotNull
+    public LoadTest tree(int width, int depth) {
+        Preconditions.checkArgument(width >= 0, "Tree width must be positive!");
+        Preconditions.checkArgument(depth >= 0, "Tree depth must be positive!");
+
+        this.width = width;
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Sets the listener mix of every node.
+     *
+     * @param sync synchronous listeners per node, running on the calling worker.
+     * @param async asynchronous listeners per node, running on a shared executor.
+     *
+     * @return this load test.
+     * @throws IllegalArgumentException if {@code sync} or {@code async} is negative.
+     */
+    @NotNull
+    public LoadTest listeners(int sync, int async) {
+        Preconditions.checkArgument(sync >= 0, "Synchronous listener count must be positive!");
+        Preconditions.checkArgument(async >= 0, "Asynchronous listener count must be positive!");
+
+        this.syncListeners = sync;
+        this.asyncListeners = async;
+        return this;
+    }
+
+    /**
+     * Sets the amount of threads of the executor shared by the asynchronous listeners.
+     *
+     * @param threads executor threads.
+     *
+     * @return this load test.
+     * @throws IllegalArgumentException if {@code threads} is not strictly positive.
+     */
+    @NotNull
+    public LoadTest asyncThreads(int threads) {
+        Preconditions.checkArgument(threads > 0, "Thread count must be strictly positive!");
+
+        this.asyncThreads = threads;
+        return this;
+    }
+
+    /**
+     * Sets the simulated work of listeners and tasks.
+     *
+     * @param listenerWork iterations run by every listener call.
+     * @param taskWork iterations run by every task, between its two events.
+     *
+     * @return this load test.
+     * @throws IllegalArgumentException if {@code listenerWork} or {@code taskWork} is negative.
+     */
+    @NotNull
+    public LoadTest work(int listenerWork, int taskWork) {
+        Preconditions.checkArgument(listenerWork >= 0, "Listener work must be positive!");
+        Preconditions.checkArgument(taskWork >= 0, "Task work must be positive!");
+
+        this.listenerWork = listenerWork;
+        this.taskWork = taskWork;
+        return this;
+    }
+
+    /**
+     * Sets the rate at which tasks are generated, every task firing two events.
+     *
+     * @param tasksPerSecond generated tasks per second.
+     *
+     * @return this load test.
+     * @throws IllegalArgumentException if {@code tasksPerSecond} is not strictly positive.
+     */
+    @NotNull
+    public LoadTest rate(int tasksPerSecond) {
+        Preconditions.checkArgument(tasksPerSecond > 0, "Rate must be strictly positive!");
+
+        this.rate = tasksPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets the duration of the load, and of the warmup preceding it whose calls are not recorded.
+     *
+     * @param duration measured duration.
+     * @param warmup warmup duration.
+     *
+     * @return this load test.
+     * @throws IllegalArgumentException if {@code duration} is not strictly positive, or {@code warmup} is negative.
+     */
+    @NotNull
+    public LoadTest duration(@NotNull Duration duration, @NotNull Duration warmup) {
+        Preconditions.checkNotNull(duration);
+        Preconditions.checkNotNull(warmup);
+        Preconditions.checkArgument(!duration.isNegative() && !duration.isZero(), "Duration must be strictly positive!");
+        Preconditions.checkArgument(!warmup.isNegative(), "Warmup must be positive!");
+
+        this.duration = duration;
+        this.warmup = warmup;
+        return this;
+    }
+
+    /**
+     * Runs the load test on a new tree, blocking until every generated event has been dispatched.
+     *
+     * @return report of the load test.
+     * @throws InterruptedException if the thread got interrupted while generating the load.
+     */
+    @NotNull
+    public LoadTestReport run() throws InterruptedException {
+        EventNode<Event> root = EventNode.create("load-test");
+        PriorityExecutor executor = this.asyncListeners > 0 ?
+                PriorityExecutor.create("load-test", this.asyncThreads, builder -> builder.lane("listeners", 1)) : null;
+
+        long start = System.nanoTime();
+        long recordFrom = start + this.warmup.toNanos();
+        long end = recordFrom + this.duration.toNanos();
+        long period = Math.max(1, 1_000_000_000L / this.rate);
+
+        Measurement measurement = new Measurement(recordFrom);
+        WorkerThread[] workers = new WorkerThread[this.threads];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new WorkerThread("load-worker-" + i, root, measurement, this.taskWork);
+            this.populate(workers[i].eventNode(), this.depth, executor);
+        }
+
+        for (WorkerThread worker : workers)
+            worker.start();
+
+        long tasks = 0;
+        try {
+            for (long intended = start; intended < end; intended = start + tasks * period) {
+                OpenLoop.waitUntil(intended);
+
+                workers[(int) (tasks % workers.length)].queue(tasks, intended);
+                tasks++;
+            }
+        } finally {
+            for (WorkerThread worker : workers)
+                worker.shutdown();
+
+            for (WorkerThread worker : workers)
+                worker.join();
+
+            measurement.await();
+
+            if (executor != null)
+                executor.close();
+        }
+
+        return new LoadTestReport(tasks, measurement.failed(), Duration.ofNanos(measurement.measuredNanos()), measurement.latencies());
+    }
+
+    private void populate(EventNode<WorkerEvent> node, int depth, @Nullable PriorityExecutor executor) {
+        for (int i = 0; i < this.syncListeners; i++)
+            this.addListener(node, i, EventExecutor.syncExecutor);
+
+        for (int i = 0; i < this.asyncListeners; i++)
+            this.addListener(node, this.syncListeners + i, executor);
+
+        if (depth == 0)
+            return;
+
+        for (int i = 0; i < this.width; i++)
+            this.populate(node.createChildNode(node.name() + "-" + i), depth - 1, executor);
+    }
+
+    private void addListener(EventNode<WorkerEvent> node, int index, EventExecutor executor) {
+        int work = this.listenerWork;
+
+        if (index % 2 == 0)
+            node.addListener(TaskScheduledEvent.class, event -> WorkerThread.spin(work), builder -> builder.executor(executor));
+        else
+            node.addListener(TaskCompleteEvent.class, event -> WorkerThread.spin(work), builder -> builder.executor(executor));
+    }
+}
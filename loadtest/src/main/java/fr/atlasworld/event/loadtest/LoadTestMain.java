@@ -0,0 +1,52 @@
+package fr.atlasworld.event.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Runs a load test from the command line.
+ * <p>
+ * Arguments are {@code key=value} pairs: {@code threads}, {@code width}, {@code depth}, {@code sync}, {@code async},
+ * {@code asyncThreads}, {@code listenerWork}, {@code taskWork}, {@code rate} (tasks per second),
+ * {@code duration} and {@code warmup} (seconds). Missing arguments keep their default value.
+ */
+public final class LoadTestMain {
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTest test = new LoadTest();
+
+        int width = 2, depth = 2, sync = 2, async = 1, listenerWork = 100, taskWork = 1000;
+        long duration = 10, warmup = 2;
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0)
+                throw new IllegalArgumentException("Expected key=value argument, got '" + arg + "'.");
+
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+
+            switch (key) {
+                case "threads" -> test.threads(Integer.parseInt(value));
+                case "width" -> width = Integer.parseInt(value);
+                case "depth" -> depth = Integer.parseInt(value);
+                case "sync" -> sync = Integer.parseInt(value);
+                case "async" -> async = Integer.parseInt(value);
+                case "asyncThreads" -> test.asyncThreads(Integer.parseInt(value));
+                case "listenerWork" -> listenerWork = Integer.parseInt(value);
+                case "taskWork" -> taskWork = Integer.parseInt(value);
+                case "rate" -> test.rate(Integer.parseInt(value));
+                case "duration" -> duration = Long.parseLong(value);
+                case "warmup" -> warmup = Long.parseLong(value);
+                default -> throw new IllegalArgumentException("Unknown argument '" + key + "'.");
+            }
+        }
+
+        LoadTestReport report = test.tree(width, depth)
+                .listeners(sync, async)
+                .work(listenerWork, taskWork)
+                .duration(Duration.ofSeconds(duration), Duration.ofSeconds(warmup))
+                .run();
+
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,110 @@
+package fr.atlasworld.event.loadtest;
+
+import fr.atlasworld.event.replay.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Report of a load test, holding the latencies of the event calls made after the warmup.
+ * <p>
+ * Latency is measured from the time a call was intended to be made until every listener has been executed.
+ */
+public final class LoadTestReport {
+    private final long tasks;
+    private final long failed;
+    private final Duration duration;
+    private final LatencyHistogram latencies;
+
+    LoadTestReport(long tasks, long failed, Duration duration, LatencyHistogram latencies) {
+        this.tasks = tasks;
+        this.failed = failed;
+        this.duration = duration;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Retrieve the amount of tasks generated, warmup included.
+     *
+     * @return generated tasks.
+     */
+    public long tasks() {
+        return this.tasks;
+    }
+
+    /**
+     * Retrieve the amount of recorded event calls.
+     *
+     * @return recorded event calls.
+     */
+    public long events() {
+        return this.latencies.count();
+    }
+
+    /**
+     * Retrieve the amount of recorded event calls having at least one failed listener.
+     *
+     * @return failed event calls.
+     */
+    public long failed() {
+        return this.failed;
+    }
+
+    /**
+     * Retrieve the measured duration, from the end of the warmup until the last recorded call completed.
+     *
+     * @return measured duration.
+     */
+    @NotNull
+    public Duration duration() {
+        return this.duration;
+    }
+
+    /**
+     * Retrieve the sustained throughput, the recorded event calls completed per second.
+     *
+     * @return event calls per second.
+     */
+    public double throughput() {
+        if (this.duration.isZero())
+            return 0;
+
+        return this.events() / (this.duration.toNanos() / 1_000_000_000D);
+    }
+
+    /**
+     * Retrieve the event call latency at a percentile.
+     *
+     * @param percentile percentile, between {@code 0.0} and {@code 100.0}.
+     *
+     * @return event call latency.
+     */
+    @NotNull
+    public Duration latency(double percentile) {
+        return Duration.ofNanos(this.latencies.percentile(percentile));
+    }
+
+    /**
+     * Retrieve the highest event call latency.
+     *
+     * @return highest event call latency.
+     */
+    @NotNull
+    public Duration maxLatency() {
+        return Duration.ofNanos(this.latencies.max());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Generated %d tasks, recorded %d events in %dms (%d failed), throughput %.0f events/s, " +
+                        "latency p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms p99.99=%.3fms max=%.3fms",
+                this.tasks, this.events(), this.duration.toMillis(), this.failed, this.throughput(),
+                millis(this.latencies.percentile(50)), millis(this.latencies.percentile(90)),
+                millis(this.latencies.percentile(99)), millis(this.latencies.percentile(99.9)),
+                millis(this.latencies.percentile(99.99)), millis(this.latencies.max()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000D;
+    }
+}
@@ -0,0 +1,86 @@
+package fr.atlasworld.event.loadtest;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.replay.LatencyHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the latency of the event calls made during a load test.
+ * <p>
+ * Latency is measured from the time the call was intended to be made by the load schedule, not the time it was made.
+ * A call delayed behind a slow dispatch is charged for its wait, the measure does not suffer from coordinated omission.
+ * <br>
+ * Calls intended before the end of the warmup are not recorded.
+ */
+@ThreadSafe
+final class Measurement {
+    private final long recordFrom;
+    private final LatencyHistogram latencies;
+    private final AtomicLong failed;
+    private final AtomicLong lastCompletion;
+
+    private long outstanding;
+
+    Measurement(long recordFrom) {
+        this.recordFrom = recordFrom;
+        this.latencies = new LatencyHistogram();
+        this.failed = new AtomicLong();
+        this.lastCompletion = new AtomicLong(recordFrom);
+    }
+
+    void call(@NotNull EventNode<Event> root, @NotNull Event event, long intendedTime) {
+        this.increment();
+
+        try {
+            root.callEvent(event).whenComplete((result, cause) -> {
+                long completion = System.nanoTime();
+
+                if (intendedTime >= this.recordFrom) {
+                    this.latencies.record(completion - intendedTime);
+                    this.lastCompletion.accumulateAndGet(completion, Math::max);
+
+                    if (cause != null)
+                        this.failed.incrementAndGet();
+                }
+
+                this.decrement();
+            });
+        } catch (RuntimeException e) {
+            this.decrement();
+            throw e;
+        }
+    }
+
+    private synchronized void increment() {
+        this.outstanding++;
+    }
+
+    private synchronized void decrement() {
+        if (--this.outstanding == 0)
+            this.notifyAll();
+    }
+
+    synchronized void await() throws InterruptedException {
+        while (this.outstanding > 0)
+            this.wait();
+    }
+
+    LatencyHistogram latencies() {
+        return this.latencies;
+    }
+
+    long failed() {
+        return this.failed.get();
+    }
+
+    /**
+     * Retrieve the nanoseconds elapsed between the end of the warmup and the last recorded completion.
+     */
+    long measuredNanos() {
+        return this.lastCompletion.get() - this.recordFrom;
+    }
+}
@@ -0,0 +1,91 @@
+package fr.atlasworld.event.loadtest;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.loadtest.event.TaskCompleteEvent;
+import fr.atlasworld.event.loadtest.event.TaskScheduledEvent;
+import fr.atlasworld.event.loadtest.event.WorkerEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Worker executing the tasks handed by the load generator, with its own child node of the tree.
+ * <p>
+ * Every task fires a {@link TaskScheduledEvent} once picked up, and a {@link TaskCompleteEvent} once executed.
+ * Synchronous listeners run on the worker, a slow tree delays the next tasks of the worker like it would delay real work.
+ */
+final class WorkerThread extends Thread {
+    private static final Task STOP = new Task(-1, 0);
+
+    @SuppressWarnings("unused") // Keeps the spinning loops from being optimized away.
+    private static volatile long sink;
+
+    private final EventNode<Event> root;
+    private final EventNode<WorkerEvent> eventNode;
+    private final BlockingQueue<Task> tasks;
+    private final Measurement measurement;
+    private final int taskWork;
+
+    WorkerThread(@NotNull String name, @NotNull EventNode<Event> root, @NotNull Measurement measurement, int taskWork) {
+        super(name);
+        this.setDaemon(true);
+
+        this.root = root;
+        this.eventNode = root.createChildNode(name, WorkerEvent.class, event -> event.worker() == this);
+        this.tasks = new LinkedBlockingQueue<>();
+        this.measurement = measurement;
+        this.taskWork = taskWork;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                Task task = this.tasks.take();
+                if (task == STOP)
+                    return;
+
+                this.measurement.call(this.root, new TaskScheduledEvent(this, task.sequence), task.intendedTime);
+
+                long start = System.nanoTime();
+                spin(this.taskWork);
+                long executed = System.nanoTime();
+
+                this.measurement.call(this.root, new TaskCompleteEvent(this, task.sequence, executed - start), executed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    EventNode<WorkerEvent> eventNode() {
+        return this.eventNode;
+    }
+
+    /**
+     * Hands a task to this worker, never blocks the load generator.
+     */
+    void queue(long sequence, long intendedTime) {
+        this.tasks.add(new Task(sequence, intendedTime));
+    }
+
+    void shutdown() {
+        this.tasks.add(STOP);
+    }
+
+    /**
+     * Simulates work, running the given amount of iterations.
+     */
+    static void spin(int iterations) {
+        long value = iterations;
+        for (int i = 0; i < iterations; i++)
+            value = value * 31 + i;
+
+        sink = value;
+    }
+
+    private record Task(long sequence, long intendedTime) {
+    }
+}
@@ -0,0 +1,31 @@
+package fr.atlasworld.event.loadtest.event;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called when a worker completed a task.
+ */
+public class TaskCompleteEvent implements WorkerEvent {
+    private final Thread worker;
+    private final long sequence;
+    private final long executionNanos;
+
+    public TaskCompleteEvent(@NotNull Thread worker, long sequence, long executionNanos) {
+        this.worker = worker;
+        this.sequence = sequence;
+        this.executionNanos = executionNanos;
+    }
+
+    @Override
+    public @NotNull Thread worker() {
+        return this.worker;
+    }
+
+    public long sequence() {
+        return this.sequence;
+    }
+
+    public long executionNanos() {
+        return this.executionNanos;
+    }
+}
@@ -0,0 +1,25 @@
+package fr.atlasworld.event.loadtest.event;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called when a worker picks up a task.
+ */
+public class TaskScheduledEvent implements WorkerEvent {
+    private final Thread worker;
+    private final long sequence;
+
+    public TaskScheduledEvent(@NotNull Thread worker, long sequence) {
+        this.worker = worker;
+        this.sequence = sequence;
+    }
+
+    @Override
+    public @NotNull Thread worker() {
+        return this.worker;
+    }
+
+    public long sequence() {
+        return this.sequence;
+    }
+}
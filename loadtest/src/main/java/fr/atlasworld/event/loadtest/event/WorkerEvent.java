@@ -0,0 +1,18 @@
+package fr.atlasworld.event.loadtest.event;
+
+import fr.atlasworld.event.api.Event;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Events of a load test worker.
+ */
+public interface WorkerEvent extends Event {
+
+    /**
+     * Retrieve the worker firing the event.
+     *
+     * @return worker thread.
+     */
+    @NotNull
+    Thread worker();
+}
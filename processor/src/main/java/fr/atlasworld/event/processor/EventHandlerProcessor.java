@@ -0,0 +1,160 @@
+package fr.atlasworld.event.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates a {@code <Listener>$EventFlowAdapter} class for every class declaring
+ * {@code @EventHandler} methods, allowing listeners to be registered without reflection.
+ * <p>
+ * Classes that cannot be adapted (private classes or handlers, generic classes...) are skipped,
+ * they will still be registered through reflection at runtime.
+ */
+@SupportedAnnotationTypes(EventHandlerProcessor.EVENT_HANDLER)
+public class EventHandlerProcessor extends AbstractProcessor {
+    static final String EVENT_HANDLER = "fr.atlasworld.event.api.annotation.EventHandler";
+
+    private static final String EVENT = "fr.atlasworld.event.api.Event";
+    private static final String EVENT_LISTENER = "fr.atlasworld.event.api.listener.EventListener";
+    private static final String ADAPTER = "fr.atlasworld.event.api.listener.EventListenerAdapter";
+    private static final String ADAPTER_SUFFIX = "$EventFlowAdapter";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(EVENT_HANDLER);
+        if (annotation == null)
+            return false;
+
+        Map<TypeElement, List<ExecutableElement>> handlers = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.METHOD)
+                continue;
+
+            handlers.computeIfAbsent((TypeElement) element.getEnclosingElement(), k -> new ArrayList<>())
+                    .add((ExecutableElement) element);
+        }
+
+        handlers.forEach(this::generateAdapter);
+        return false;
+    }
+
+    private void generateAdapter(TypeElement listener, List<ExecutableElement> methods) {
+        if (!this.isAdaptable(listener, methods))
+            return;
+
+        PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(listener);
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = this.processingEnv.getElementUtils().getBinaryName(listener).toString();
+        String adapterName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1) + ADAPTER_SUFFIX;
+        String listenerName = listener.getQualifiedName().toString();
+
+        try {
+            JavaFileObject file = this.processingEnv.getFiler().createSourceFile(
+                    packageName.isEmpty() ? adapterName : packageName + "." + adapterName, listener);
+
+            try (Writer writer = file.openWriter()) {
+                if (!packageName.isEmpty())
+                    writer.write("package " + packageName + ";\n\n");
+
+                writer.write("@javax.annotation.processing.Generated(\"" + EventHandlerProcessor.class.getName() + "\")\n");
+                writer.write("public final class " + adapterName + " implements " + ADAPTER + "<" + listenerName + "> {\n\n");
+                writer.write("    @Override\n");
+                writer.write("    public void bind(" + ADAPTER + ".Binder<" + listenerName + "> binder) {\n");
+
+                for (ExecutableElement method : methods) {
+                    String eventName = this.erasure(method.getParameters().get(0).asType());
+                    String target = method.getModifiers().contains(Modifier.STATIC) ? listenerName : "listener";
+
+                    writer.write("        binder.bind(\"" + method.getSimpleName() + "\", " + eventName + ".class, (listener, event) -> " +
+                            target + "." + method.getSimpleName() + "(event));\n");
+                }
+
+                writer.write("    }\n");
+                writer.write("}\n");
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not generate EventFlow adapter: " + e.getMessage(), listener);
+        }
+    }
+
+    private boolean isAdaptable(TypeElement listener, List<ExecutableElement> methods) {
+        Types types = this.processingEnv.getTypeUtils();
+        TypeElement listenerType = this.processingEnv.getElementUtils().getTypeElement(EVENT_LISTENER);
+        TypeElement eventType = this.processingEnv.getElementUtils().getTypeElement(EVENT);
+
+        if (listenerType == null || eventType == null)
+            return false;
+
+        if (!types.isAssignable(types.erasure(listener.asType()), types.erasure(listenerType.asType()))) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Class declares @EventHandler methods but does not implement EventListener.", listener);
+            return false;
+        }
+
+        if (!listener.getTypeParameters().isEmpty())
+            return this.skip(listener, "generic listener classes are not supported");
+
+        PackageElement listenerPackage = this.processingEnv.getElementUtils().getPackageOf(listener);
+        if (!this.isAccessible(listener, listenerPackage))
+            return this.skip(listener, "listener class is not accessible from its package");
+
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.PRIVATE))
+                return this.skip(listener, "method " + method.getSimpleName() + " is private");
+
+            if (method.getParameters().size() != 1 ||
+                    !types.isAssignable(types.erasure(method.getParameters().get(0).asType()), eventType.asType()))
+                return this.skip(listener, "method " + method.getSimpleName() + " does not take a single event parameter");
+
+            Element parameterType = types.asElement(types.erasure(method.getParameters().get(0).asType()));
+            if (parameterType instanceof TypeElement && !this.isAccessible((TypeElement) parameterType, listenerPackage))
+                return this.skip(listener, "event of method " + method.getSimpleName() + " is not accessible from the listener package");
+        }
+
+        return true;
+    }
+
+    private boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        boolean samePackage = this.processingEnv.getElementUtils().getPackageOf(type).equals(fromPackage);
+
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            TypeElement enclosing = (TypeElement) element;
+
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE))
+                return false;
+
+            if (!samePackage && !enclosing.getModifiers().contains(Modifier.PUBLIC))
+                return false;
+
+            if (enclosing.getNestingKind() == NestingKind.LOCAL || enclosing.getNestingKind() == NestingKind.ANONYMOUS)
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean skip(TypeElement listener, String reason) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "No EventFlow adapter generated, " + reason + ", falling back to reflection.", listener);
+
+        return false;
+    }
+
+    private String erasure(TypeMirror type) {
+        return this.processingEnv.getTypeUtils().erasure(type).toString();
+    }
+}
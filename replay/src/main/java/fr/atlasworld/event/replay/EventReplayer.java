@@ -0,0 +1,135 @@
+package fr.atlasworld.event.replay;
+
+import com.google.common.base.Preconditions;
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.EventNode;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.core.record.EventLogReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replays a recorded event log against a node tree.
+ * <p>
+ * Events are fired open-loop from the replaying thread, following the recorded timestamps scaled by the replay speed,
+ * without waiting for previous dispatches to complete. This keeps the original traffic shape even when the tree is slower
+ * than the recorded one, instead of hiding the slowdown by firing less events.
+ * <br>
+ * Latency is measured from the time an event was intended to be fired by the recorded schedule, not the time it was fired.
+ * Synchronous listeners run on the replaying thread, an event delayed behind a slow dispatch is charged for its wait,
+ * so the measure does not suffer from coordinated omission.
+ */
+public final class EventReplayer {
+    private final Path log;
+    private final EventCodecs codecs;
+
+    private double speed;
+
+    public EventReplayer(@NotNull Path log, @NotNull EventCodecs codecs) {
+        Preconditions.checkNotNull(log);
+        Preconditions.checkNotNull(codecs);
+
+        this.log = log;
+        this.codecs = codecs;
+        this.speed = 1.0;
+    }
+
+    /**
+     * Sets the replay speed.
+     *
+     * @param speed speed multiplier, {@code 1.0} replays at the original speed,
+     *              {@code 0.0} replays as fast as possible. Without a schedule to follow,
+     *              latency is then measured from the time each event is fired.
+     *
+     * @return this replayer.
+     * @throws IllegalArgumentException if {@code speed} is negative.
+     */
+    @NotNull
+    public EventReplayer speed(double speed) {
+        Preconditions.checkArgument(speed >= 0.0, "Speed must be positive!");
+
+        this.speed = speed;
+        return this;
+    }
+
+    /**
+     * Replays the log on a root node, blocking until every replayed event has been dispatched.
+     *
+     * @param root root node of the tree.
+     *
+     * @return report of the replay.
+     * @throws IOException if the log could not be read or decoded.
+     * @throws InterruptedException if the thread got interrupted while replaying.
+     */
+    @NotNull
+    public ReplayReport replay(@NotNull EventNode<Event> root) throws IOException, InterruptedException {
+        Preconditions.checkNotNull(root);
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicLong failed = new AtomicLong();
+        Outstanding outstanding = new Outstanding();
+
+        long replayed = 0;
+        long skipped = 0;
+        long start = System.nanoTime();
+
+        try (EventLogReader reader = new EventLogReader(this.log)) {
+            while (reader.next()) {
+                Event event = reader.decode(this.codecs);
+                if (event == null) {
+                    skipped++;
+                    continue; // No codec.
+                }
+
+                long intendedTime;
+                if (this.speed > 0.0) {
+                    intendedTime = start + (long) (reader.timestamp() / this.speed);
+                    OpenLoop.waitUntil(intendedTime);
+                } else {
+                    intendedTime = System.nanoTime(); // No schedule to fall behind, events are intended once read.
+                }
+
+                outstanding.increment();
+                try {
+                    root.dispatchEvent(event).whenComplete((result, cause) -> {
+                        latencies.record(System.nanoTime() - intendedTime);
+                        if (cause != null || !result.successful())
+                            failed.incrementAndGet();
+
+                        outstanding.decrement();
+                    });
+                } catch (RuntimeException e) {
+                    outstanding.decrement();
+                    throw e;
+                }
+
+                replayed++;
+            }
+        }
+
+        outstanding.await();
+        return new ReplayReport(replayed, skipped, failed.get(), Duration.ofNanos(System.nanoTime() - start), latencies);
+    }
+
+    private static final class Outstanding {
+        private long count;
+
+        synchronized void increment() {
+            this.count++;
+        }
+
+        synchronized void decrement() {
+            if (--this.count == 0)
+                this.notifyAll();
+        }
+
+        synchronized void await() throws InterruptedException {
+            while (this.count > 0)
+                this.wait();
+        }
+    }
+}
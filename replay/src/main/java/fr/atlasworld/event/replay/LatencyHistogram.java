@@ -0,0 +1,85 @@
+package fr.atlasworld.event.replay;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of latencies, recording values with a precision of about 1.5%.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} are counted exactly, larger values are grouped in buckets of
+ * {@code SUB_BUCKETS / 2} values per power of two.
+ */
+@ThreadSafe
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong total;
+    private final AtomicLong max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.total = new AtomicLong();
+        this.max = new AtomicLong();
+    }
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+
+        this.counts.incrementAndGet(index(clamped));
+        this.total.incrementAndGet();
+        this.max.accumulateAndGet(clamped, Math::max);
+    }
+
+    public long count() {
+        return this.total.get();
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    /**
+     * Retrieve the value at a percentile.
+     *
+     * @param percentile percentile, between {@code 0.0} and {@code 100.0}.
+     *
+     * @return highest value of the bucket holding the percentile, or {@code 0} if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        long total = this.total.get();
+        if (total == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= target)
+                return Math.min(upperBound(i), this.max.get());
+        }
+
+        return this.max.get();
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        long mantissa = index % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
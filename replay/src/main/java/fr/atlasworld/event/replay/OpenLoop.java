@@ -0,0 +1,28 @@
+package fr.atlasworld.event.replay;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pacing of open-loop traffic, where events are fired at their intended time regardless of previous dispatches.
+ */
+public final class OpenLoop {
+    private OpenLoop() {
+    }
+
+    /**
+     * Parks the current thread until a deadline.
+     *
+     * @param deadline {@link System#nanoTime()} to wait for, returns immediately if already passed.
+     *
+     * @throws InterruptedException if the thread got interrupted while waiting.
+     */
+    public static void waitUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package fr.atlasworld.event.replay;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Report of a replay, holding the dispatch latencies of the replayed events.
+ * <p>
+ * Dispatch latency is measured from the time the event was intended to be fired by the replay schedule,
+ * until every listener has been executed.
+ */
+public final class ReplayReport {
+    private final long replayed;
+    private final long skipped;
+    private final long failed;
+    private final Duration duration;
+    private final LatencyHistogram latencies;
+
+    ReplayReport(long replayed, long skipped, long failed, Duration duration, LatencyHistogram latencies) {
+        this.replayed = replayed;
+        this.skipped = skipped;
+        this.failed = failed;
+        this.duration = duration;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Retrieve the amount of replayed events.
+     *
+     * @return replayed events.
+     */
+    public long replayed() {
+        return this.replayed;
+    }
+
+    /**
+     * Retrieve the amount of events skipped because they had no codec.
+     *
+     * @return skipped events.
+     */
+    public long skipped() {
+        return this.skipped;
+    }
+
+    /**
+     * Retrieve the amount of events having at least one failed listener.
+     *
+     * @return failed events.
+     */
+    public long failed() {
+        return this.failed;
+    }
+
+    /**
+     * Retrieve the wall-clock duration of the replay.
+     *
+     * @return replay duration.
+     */
+    @NotNull
+    public Duration duration() {
+        return this.duration;
+    }
+
+    /**
+     * Retrieve the dispatch latency at a percentile.
+     *
+     * @param percentile percentile, between {@code 0.0} and {@code 100.0}.
+     *
+     * @return dispatch latency.
+     */
+    @NotNull
+    public Duration latency(double percentile) {
+        return Duration.ofNanos(this.latencies.percentile(percentile));
+    }
+
+    /**
+     * Retrieve the highest dispatch latency.
+     *
+     * @return highest dispatch latency.
+     */
+    @NotNull
+    public Duration maxLatency() {
+        return Duration.ofNanos(this.latencies.max());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Replayed %d events in %dms (%d skipped, %d failed), latency p50=%.3fms p90=%.3fms " +
+                        "p99=%.3fms p99.9=%.3fms max=%.3fms",
+                this.replayed, this.duration.toMillis(), this.skipped, this.failed,
+                millis(this.latencies.percentile(50)), millis(this.latencies.percentile(90)),
+                millis(this.latencies.percentile(99)), millis(this.latencies.percentile(99.9)),
+                millis(this.latencies.max()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000D;
+    }
+}
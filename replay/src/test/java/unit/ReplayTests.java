@@ -0,0 +1,167 @@
+package unit;
+
+import fr.atlasworld.event.api.Event;
+import fr.atlasworld.event.api.record.EventCodec;
+import fr.atlasworld.event.api.record.EventCodecs;
+import fr.atlasworld.event.api.record.EventRecorder;
+import fr.atlasworld.event.core.EventNodeImpl;
+import fr.atlasworld.event.replay.EventReplayer;
+import fr.atlasworld.event.replay.LatencyHistogram;
+import fr.atlasworld.event.replay.ReplayReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ReplayTests {
+    static class PayloadEvent implements Event {
+        private final String payload;
+
+        PayloadEvent(String payload) {
+            this.payload = payload;
+        }
+    }
+
+    static class OtherEvent implements Event {}
+
+    static class PayloadCodec implements EventCodec<PayloadEvent> {
+        @Override
+        public void encode(PayloadEvent event, DataOutput out) throws IOException {
+            out.writeUTF(event.payload);
+        }
+
+        @Override
+        public PayloadEvent decode(DataInput in) throws IOException {
+            return new PayloadEvent(in.readUTF());
+        }
+    }
+
+    static class OtherCodec implements EventCodec<OtherEvent> {
+        @Override
+        public void encode(OtherEvent event, DataOutput out) {
+        }
+
+        @Override
+        public OtherEvent decode(DataInput in) {
+            return new OtherEvent();
+        }
+    }
+
+    @Test
+    @DisplayName("Histogram percentiles should stay within the histogram precision")
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(50), "Empty histograms should report zero.");
+
+        for (long value = 1; value <= 100_000; value++)
+            histogram.record(value);
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000, histogram.max());
+        assertEquals(100_000, histogram.percentile(100), "Highest percentile should be the max.");
+        assertEquals(1, histogram.percentile(0), "Lowest percentile should be the smallest value.");
+
+        long median = histogram.percentile(50);
+        assertTrue(median >= 50_000 && median <= 50_000 * 1.015, "Median should be within 1.5%, got " + median);
+
+        long p99 = histogram.percentile(99);
+        assertTrue(p99 >= 99_000 && p99 <= 99_000 * 1.015, "p99 should be within 1.5%, got " + p99);
+
+        histogram.record(-5);
+        assertEquals(100_001, histogram.count(), "Negative values should be recorded as zero.");
+        assertEquals(0, histogram.percentile(0));
+    }
+
+    @Test
+    @DisplayName("Replayed events should be dispatched in order, counting skipped and failed events")
+    public void testReplay() throws IOException, InterruptedException {
+        EventCodecs recordCodecs = new EventCodecs()
+                .register(PayloadEvent.class, new PayloadCodec())
+                .register(OtherEvent.class, new OtherCodec());
+
+        Path file = Files.createTempFile("eventflow", ".evlog");
+        try {
+            EventNodeImpl<Event> recorded = new EventNodeImpl<>("recorded", Event.class, null);
+            try (EventRecorder recorder = EventRecorder.open(file, recordCodecs)) {
+                recorded.recordEvents(recorder);
+
+                recorded.callEvent(new PayloadEvent("first"));
+                recorded.callEvent(new OtherEvent());
+                recorded.callEvent(new PayloadEvent("fail"));
+                recorded.callEvent(new PayloadEvent("last"));
+            }
+
+            List<String> received = new CopyOnWriteArrayList<>();
+            EventNodeImpl<Event> replayed = new EventNodeImpl<>("replayed", Event.class, null);
+            replayed.addListener(PayloadEvent.class, event -> {
+                received.add(event.payload);
+                if (event.payload.equals("fail"))
+                    throw new IllegalStateException("Failing listener");
+            });
+
+            EventCodecs replayCodecs = new EventCodecs().register(PayloadEvent.class, new PayloadCodec());
+            ReplayReport report = new EventReplayer(file, replayCodecs).speed(0.0).replay(replayed);
+
+            assertEquals(List.of("first", "fail", "last"), received, "Events should be replayed in order.");
+            assertEquals(3, report.replayed());
+            assertEquals(1, report.skipped(), "Events without a codec should be skipped.");
+            assertEquals(1, report.failed(), "Events with a failed listener should be counted.");
+
+            assertTrue(report.latency(50).compareTo(report.maxLatency()) <= 0, "Percentiles should not exceed the max.");
+            assertTrue(report.toString().startsWith("Replayed 3 events"), report.toString());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Replays should follow the recorded timestamps scaled by the replay speed")
+    public void testReplaySpeed() throws IOException, InterruptedException {
+        EventCodecs codecs = new EventCodecs().register(PayloadEvent.class, new PayloadCodec());
+
+        Path file = Files.createTempFile("eventflow", ".evlog");
+        try {
+            EventNodeImpl<Event> recorded = new EventNodeImpl<>("recorded", Event.class, null);
+            try (EventRecorder recorder = EventRecorder.open(file, codecs)) {
+                recorded.recordEvents(recorder);
+
+                recorded.callEvent(new PayloadEvent("first"));
+                Thread.sleep(200);
+                recorded.callEvent(new PayloadEvent("second"));
+            }
+
+            EventNodeImpl<Event> replayed = new EventNodeImpl<>("replayed", Event.class, null);
+            EventReplayer replayer = new EventReplayer(file, codecs);
+            assertThrows(IllegalArgumentException.class, () -> replayer.speed(-1.0));
+
+            ReplayReport original = replayer.speed(1.0).replay(replayed);
+            assertTrue(original.duration().compareTo(Duration.ofMillis(190)) >= 0,
+                    "Original speed should keep the recorded gap, took " + original.duration());
+
+            ReplayReport doubled = replayer.speed(2.0).replay(replayed);
+            assertTrue(doubled.duration().compareTo(Duration.ofMillis(95)) >= 0,
+                    "Doubled speed should halve the recorded gap, took " + doubled.duration());
+            assertTrue(doubled.duration().compareTo(original.duration()) < 0, "Doubled speed should replay faster.");
+
+            EventNodeImpl<Event> slow = new EventNodeImpl<>("slow", Event.class, null);
+            slow.addListener(PayloadEvent.class, event -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(300)));
+
+            ReplayReport delayed = replayer.speed(10.0).replay(slow); // Second event intended 20ms after the first.
+            assertTrue(delayed.maxLatency().compareTo(Duration.ofMillis(550)) >= 0,
+                    "Events delayed behind a slow dispatch should be charged for their wait, max " + delayed.maxLatency());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}